@@ -10,6 +10,11 @@ repositories {
     mavenCentral()
 }
 
+dependencies {
+    implementation(project(":javadocky-core"))
+    testImplementation("junit:junit:4.13.2")
+}
+
 intellij {
     version.set("2023.1.1")
     type.set("IC") // Target IDE Platform
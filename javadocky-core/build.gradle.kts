@@ -0,0 +1,20 @@
+plugins {
+    id("java-library")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+group = "com.tecknobit"
+version = "1.0.5"
+
+repositories {
+    mavenCentral()
+}
+
+tasks {
+
+    withType<JavaCompile> {
+        sourceCompatibility = "17"
+        targetCompatibility = "17"
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.tecknobit.javadocky.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.javadocky.core.Tag.*;
+
+/**
+ * The {@code RegexChainBenchmark} class is useful to compare, on the same members, the rendering of the docu-comments
+ * with the chain of {@link String#replaceAll(String, String)} used before the templates were compiled and the
+ * rendering of the compiled {@link JavaDockyTemplate} with a {@link DocuRenderer}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote run with {@code ./gradlew :javadocky-core:jmh -Pjmh.includes=RegexChainBenchmark}, both the benchmarks
+ * produce the text of the docu-comments without parsing it, so only the rendering is measured
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexChainBenchmark {
+
+    /**
+     * {@code MEMBERS} the number of the members described for each benchmark
+     */
+    private static final int MEMBERS = 1024;
+
+    /**
+     * {@code PRIMITIVE_TYPES} list of primitive types
+     */
+    private static final List<String> PRIMITIVE_TYPES = List.of("boolean", "byte", "char", "short", "int", "long",
+            "float", "double");
+
+    /**
+     * {@code AND_KEYWORD} and keyword
+     */
+    private static final String AND_KEYWORD = " and ";
+
+    /**
+     * {@code OF_KEYWORD} of keyword
+     */
+    private static final String OF_KEYWORD = " of ";
+
+    /**
+     * {@code METHOD_TEMPLATE} the template used to render the methods
+     */
+    private static final String METHOD_TEMPLATE = "/**\n * Method to get <instance>\n * <params>\n * @return "
+            + "<instance> as {@link <returnType>}\n */";
+
+    /**
+     * {@code FIELD_TEMPLATE} the template used in the params list
+     */
+    private static final String FIELD_TEMPLATE = "/**\n * {@code <instance>} the value of <instance>\n */";
+
+    /**
+     * {@code descriptors} the descriptors of the members
+     */
+    private MemberDescriptor[] descriptors;
+
+    /**
+     * {@code template} the compiled template used to render the methods
+     */
+    private JavaDockyTemplate template;
+
+    /**
+     * {@code renderer} the renderer of the compiled template
+     */
+    private DocuRenderer renderer;
+
+    /**
+     * Method to prepare the descriptors and the compiled template <br>
+     * No-any params required
+     *
+     * @apiNote the return types are rendered once for each member like the memoized renderer of the plugin does, the
+     * cache of the renderer holds a single docu-comment, so each member is really rendered
+     */
+    @Setup
+    public void setUp() {
+        descriptors = new MemberDescriptor[MEMBERS];
+        for (int j = 0; j < MEMBERS; j++) {
+            String field = "field" + j;
+            String capitalized = "Field" + j;
+            descriptors[j] = switch (j % 4) {
+                case 0 -> describeMethod("get" + capitalized, field, "java.lang.String", new String[0],
+                        new String[0]);
+                case 1 -> describeMethod("is" + capitalized, field, "boolean", new String[0], new String[0]);
+                case 2 -> describeMethod("get" + capitalized + "s", field,
+                        "java.util.HashMap<java.lang.String,java.util.List<java.lang.Integer>>", new String[0],
+                        new String[0]);
+                default -> describeMethod("find" + capitalized, null, "java.util.List<java.lang.String>",
+                        new String[]{"query", "limit"}, new String[]{"java.lang.String", "int"});
+            };
+        }
+        template = JavaDockyTemplate.compile(METHOD_TEMPLATE);
+        renderer = new DocuRenderer(new DocuCommentsCache(1));
+    }
+
+    /**
+     * Method to describe a method of the benchmark
+     *
+     * @param name:           the name of the method
+     * @param instance:       the returned instance, {@code null} if not available
+     * @param returnType:     the canonical text of the return type
+     * @param parameterNames: the names of the parameters
+     * @param parameterTypes: the canonical texts of the types of the parameters
+     * @return the descriptor of the method as {@link MemberDescriptor}
+     */
+    private static MemberDescriptor describeMethod(String name, String instance, String returnType,
+                                                   String[] parameterNames, String[] parameterTypes) {
+        String linkedReturnType;
+        if (PRIMITIVE_TYPES.contains(returnType))
+            linkedReturnType = returnType;
+        else if (returnType.contains("<"))
+            linkedReturnType = formatParameterizedClass(returnType, true);
+        else
+            linkedReturnType = "{@link " + returnType + "}";
+        String renderedReturnType = returnType.contains("<") ? formatParameterizedClass(returnType, false)
+                : returnType;
+        return MemberDescriptor.ofMethod(name, instance, returnType, renderedReturnType, linkedReturnType,
+                returnType, parameterNames, parameterTypes);
+    }
+
+    /**
+     * Method to measure the rendering with the chain of {@link String#replaceAll(String, String)} <br>
+     * No-any params required
+     *
+     * @return the length of the docu-comments rendered as int
+     */
+    @Benchmark
+    public int regexChain() {
+        int length = 0;
+        for (MemberDescriptor descriptor : descriptors)
+            length += formatInstanceMethodTag(METHOD_TEMPLATE, descriptor).length();
+        return length;
+    }
+
+    /**
+     * Method to measure the rendering with the compiled template <br>
+     * No-any params required
+     *
+     * @return the length of the docu-comments rendered as int
+     */
+    @Benchmark
+    public int compiledTemplate() {
+        int length = 0;
+        for (MemberDescriptor descriptor : descriptors)
+            length += renderer.render(MethodType.GETTER.name(), template, descriptor, 1, FIELD_TEMPLATE, true)
+                    .length();
+        return length;
+    }
+
+    /**
+     * Method to format the {@link Tag#instance}'s tag as the regex chain did
+     *
+     * @param template: template of the method to format
+     * @param method:   the descriptor of the method to document
+     * @return the template formatted as {@link String}
+     */
+    private static String formatInstanceMethodTag(String template, MemberDescriptor method) {
+        String instanceTag = instance.getTag();
+        String instanceReplacer = method.getInstance();
+        if (instanceReplacer != null)
+            template = template.replaceAll(instanceTag, instanceReplacer);
+        else {
+            String returnTypeTag = returnType.getTag();
+            template = removeTagFromTemplate(template, returnTypeTag, getTagValue(template, returnTypeTag));
+            template = removeTagFromTemplate(template, instanceTag, getTagValue(template, instanceTag));
+        }
+        return formatParamsTag(method, formatReturnTypeTag(template, method));
+    }
+
+    /**
+     * Method to fetch from a template a {@link Tag}'s value as the regex chain did
+     *
+     * @param template: template from fetch the value of a {@link Tag}
+     * @param tag:      the tag from fetch the value
+     * @return tag value as {@link String}
+     */
+    private static String getTagValue(String template, String tag) {
+        if (template.contains(tag))
+            return template.split(tag)[1].split("\n")[0].replaceAll(" ", "");
+        return template;
+    }
+
+    /**
+     * Method to remove from a template a {@link Tag} and its value as the regex chain did
+     *
+     * @param template: template from remove a {@link Tag} and its value
+     * @param tag:      the tag to remove
+     * @param value:    the value of a tag to remove
+     * @return template as {@link String}
+     */
+    private static String removeTagFromTemplate(String template, String tag, String value) {
+        if (template.contains(tag))
+            return template.replaceAll(tag + value, "").replaceAll(tag + " " + value, "");
+        return template;
+    }
+
+    /**
+     * Method to format the {@link Tag#returnType}'s tag as the regex chain did
+     *
+     * @param template: template of the method to format
+     * @param method:   the descriptor of the method from fetch the value of the {@link Tag#returnType}
+     * @return the template formatted as {@link String}
+     */
+    private static String formatReturnTypeTag(String template, MemberDescriptor method) {
+        String vReturnType = method.getCanonicalReturnType();
+        String returnTypeTag = returnType.getTag();
+        String linkTag = "@link " + returnTypeTag + "}";
+        if (template.contains(linkTag) && PRIMITIVE_TYPES.contains(vReturnType))
+            template = template.replaceAll("\\{" + linkTag, returnTypeTag);
+        else if (vReturnType.contains("<")) {
+            boolean linked = template.contains(linkTag);
+            if (linked)
+                template = template.replaceAll("\\{" + linkTag, returnTypeTag);
+            return template.replaceAll(returnTypeTag, formatParameterizedClass(vReturnType, linked));
+        }
+        return template.replaceAll(returnTypeTag, vReturnType);
+    }
+
+    /**
+     * Method to format a parameterized return type as the regex chain did
+     *
+     * @param vReturnType: the return type value
+     * @param linked:      whether each class must be inserted in a {@code "{@link }"} tag
+     * @return the return type formatted as {@link String}
+     */
+    private static String formatParameterizedClass(String vReturnType, boolean linked) {
+        vReturnType = vReturnType.replaceAll(">", "");
+        if (!linked)
+            return vReturnType.replaceAll("<", OF_KEYWORD).replaceAll(",", AND_KEYWORD);
+        StringBuilder formatter = new StringBuilder();
+        for (String vClass : vReturnType.split("<")) {
+            if (vClass.contains(","))
+                for (String paramClass : vClass.split(","))
+                    formatter.append("{@link ").append(paramClass).append("}").append(AND_KEYWORD);
+            else {
+                if (formatter.toString().endsWith(AND_KEYWORD))
+                    clearFormatter(formatter, AND_KEYWORD, OF_KEYWORD);
+                formatter.append("{@link ").append(vClass).append("}").append(OF_KEYWORD);
+            }
+        }
+        clearFormatter(formatter, OF_KEYWORD, "");
+        return formatter.toString();
+    }
+
+    /**
+     * Method to clear the formatter
+     *
+     * @param formatter: the current {@link StringBuilder}
+     * @param keyword:   keyword to remove
+     * @param replacer:  the replacer value to replace keyword
+     */
+    private static void clearFormatter(StringBuilder formatter, String keyword, String replacer) {
+        int totalLength = formatter.length();
+        formatter.replace(totalLength - keyword.length(), totalLength, replacer);
+    }
+
+    /**
+     * Method to format the {@link Tag#params}'s tag with the fields' template as the regex chain did
+     *
+     * @param method:   the descriptor of the method from fetch the params list
+     * @param template: the template from fetch the params list
+     * @return the template formatted as {@link String}
+     */
+    private static String formatParamsTag(MemberDescriptor method, String template) {
+        StringBuilder lParams = new StringBuilder();
+        for (int j = 0; j < method.getParametersCount(); j++) {
+            if (lParams.toString().isEmpty())
+                lParams.append("@param ");
+            else
+                lParams.append("* @param ");
+            String parameterName = method.getParameterName(j);
+            lParams.append(parameterName).append(": ").append(formatFieldTemplate(parameterName));
+        }
+        if (!lParams.toString().isEmpty())
+            lParams.append("*");
+        return template.replaceFirst(params.getTag(), lParams.toString());
+    }
+
+    /**
+     * Method to fetch the fields' template value of a parameter as the regex chain did
+     *
+     * @param fieldName: the name of the field to format the template
+     * @return the docu-template value of the field as {@link String}
+     */
+    private static String formatFieldTemplate(String fieldName) {
+        return FIELD_TEMPLATE
+                .replaceAll("/\\**\n *", "")
+                .replaceAll("\\*/", "")
+                .replaceAll("\\* ", "")
+                .replaceAll(instance.getTag(), fieldName);
+    }
+
+}
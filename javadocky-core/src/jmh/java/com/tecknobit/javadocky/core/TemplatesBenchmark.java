@@ -0,0 +1,194 @@
+package com.tecknobit.javadocky.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code TemplatesBenchmark} class is useful to measure the template engine of the {@code JavaDocky}'s core
+ * without any IDE, classifying, matching and rendering a set of descriptors which look like the members of a real
+ * project
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote run with {@code ./gradlew :javadocky-core:jmh}, the {@link #renderParallel(RendererState)} benchmark
+ * renders with a renderer for each thread sharing the compiled templates and the {@link DocuCommentsCache}
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplatesBenchmark {
+
+    /**
+     * {@code MEMBERS} the number of the members described for each benchmark
+     */
+    private static final int MEMBERS = 1024;
+
+    /**
+     * {@code METHOD_TEMPLATE} the template used to render the methods
+     */
+    private static final String METHOD_TEMPLATE = "/**\n * Method to get <instance>\n * <params>\n * @return "
+            + "<instance> as {@link <returnType>}\n */";
+
+    /**
+     * {@code FIELD_TEMPLATE} the template used in the params list
+     */
+    private static final String FIELD_TEMPLATE = "/**\n * {@code <instance>} the value of <instance>\n */";
+
+    /**
+     * {@code descriptors} the descriptors of the members
+     */
+    private MemberDescriptor[] descriptors;
+
+    /**
+     * {@code matcher} the matcher of the custom templates
+     */
+    private CustomMethodsMatcher matcher;
+
+    /**
+     * {@code template} the compiled template used to render the methods
+     */
+    private JavaDockyTemplate template;
+
+    /**
+     * {@code docuCommentsCache} the cache shared by the renderers
+     */
+    private DocuCommentsCache docuCommentsCache;
+
+    /**
+     * Method to prepare the descriptors and the templates <br>
+     * No-any params required
+     */
+    @Setup
+    public void setUp() {
+        descriptors = new MemberDescriptor[MEMBERS];
+        for (int j = 0; j < MEMBERS; j++) {
+            String field = "field" + j;
+            String capitalized = "Field" + j;
+            descriptors[j] = switch (j % 3) {
+                case 0 -> MemberDescriptor.ofMethod("get" + capitalized, field, "String", "String", "String",
+                        "java.lang.String", new String[0], new String[0]);
+                case 1 -> MemberDescriptor.ofMethod("set" + capitalized, field, "void", null, null, "void",
+                        new String[]{field}, new String[]{"java.lang.String"});
+                default -> MemberDescriptor.ofMethod("find" + capitalized, null, "List<String>", "List",
+                        "List", "java.util.List<java.lang.String>", new String[]{"query", "limit"},
+                        new String[]{"java.lang.String", "int"});
+            };
+        }
+        LinkedHashMap<String, String> templates = new LinkedHashMap<>();
+        templates.put("finders", "/**\n * <nameContains> find\n * <params>\n */");
+        templates.put("lists", "/**\n * <returnTypeIs> List<String>\n */");
+        templates.put("queries", "/**\n * <hasP> query, limit\n */");
+        matcher = new CustomMethodsMatcher(1, templates);
+        template = JavaDockyTemplate.compile(METHOD_TEMPLATE);
+        docuCommentsCache = new DocuCommentsCache(1);
+    }
+
+    /**
+     * Method to measure the classification of the methods <br>
+     * No-any params required
+     *
+     * @return the number of the methods classified as getters as int
+     */
+    @Benchmark
+    public int classify() {
+        int getters = 0;
+        for (MemberDescriptor descriptor : descriptors)
+            if (MethodsClassifier.classify(descriptor) == MethodType.GETTER)
+                getters++;
+        return getters;
+    }
+
+    /**
+     * Method to measure the matching of the custom templates <br>
+     * No-any params required
+     *
+     * @return the number of the methods matched as int
+     */
+    @Benchmark
+    public int match() {
+        int matched = 0;
+        for (MemberDescriptor descriptor : descriptors)
+            if (matcher.match(descriptor) != -1)
+                matched++;
+        return matched;
+    }
+
+    /**
+     * Method to measure the compilation of a template <br>
+     * No-any params required
+     *
+     * @return the template compiled as {@link JavaDockyTemplate}
+     */
+    @Benchmark
+    public JavaDockyTemplate compile() {
+        return JavaDockyTemplate.compile(METHOD_TEMPLATE);
+    }
+
+    /**
+     * Method to measure the rendering of the members in a single thread
+     *
+     * @param state: the state with the renderer of the thread
+     * @return the length of the docu-comments rendered as int
+     */
+    @Benchmark
+    public int render(RendererState state) {
+        return renderAll(state.renderer);
+    }
+
+    /**
+     * Method to measure the rendering of the members in more threads, each one with its renderer
+     *
+     * @param state: the state with the renderer of the thread
+     * @return the length of the docu-comments rendered as int
+     */
+    @Benchmark
+    @Threads(4)
+    public int renderParallel(RendererState state) {
+        return renderAll(state.renderer);
+    }
+
+    /**
+     * Method to render all the members
+     *
+     * @param renderer: the renderer to use
+     * @return the length of the docu-comments rendered as int
+     * @apiNote the cache holds a single docu-comment, so each member is really rendered
+     */
+    private int renderAll(DocuRenderer renderer) {
+        int length = 0;
+        for (MemberDescriptor descriptor : descriptors)
+            length += renderer.render(MethodType.GETTER.name(), template, descriptor, 1, FIELD_TEMPLATE, true)
+                    .length();
+        return length;
+    }
+
+    /**
+     * The {@code RendererState} class is useful to give to each thread of a benchmark its {@link DocuRenderer}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    @State(Scope.Thread)
+    public static class RendererState {
+
+        /**
+         * {@code renderer} the renderer of the thread
+         */
+        private DocuRenderer renderer;
+
+        /**
+         * Method to create the renderer of the thread
+         *
+         * @param benchmark: the benchmark which shares the {@link DocuCommentsCache}
+         */
+        @Setup
+        public void setUp(TemplatesBenchmark benchmark) {
+            renderer = new DocuRenderer(benchmark.docuCommentsCache);
+        }
+
+    }
+
+}
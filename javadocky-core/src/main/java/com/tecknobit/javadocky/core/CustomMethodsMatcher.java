@@ -0,0 +1,349 @@
+package com.tecknobit.javadocky.core;
+
+import java.util.*;
+
+/**
+ * The {@code CustomMethodsMatcher} class is useful to find the {@link MethodType#CUSTOM} template to use for a method
+ * without evaluating all the custom templates one by one:
+ * <ul>
+ *     <li>
+ *         the {@link Tag#nameContains}'s values are compiled in a multi-pattern automaton, so all of them are
+ *         searched with a single scan of the method name
+ *     </li>
+ *     <li>
+ *         the {@link Tag#returnTypeIs}'s values are mapped by the return type
+ *     </li>
+ *     <li>
+ *         the {@link Tag#hasP}'s values are stored as sets of parameter names
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when more templates match the same method will be used the first one stored
+ **/
+public class CustomMethodsMatcher {
+
+    /**
+     * {@code version} the version of the docu-templates from the matcher has been created
+     */
+    private final long version;
+
+    /**
+     * {@code names} the names of the custom templates
+     */
+    private final String[] names;
+
+    /**
+     * {@code templates} the compiled custom templates
+     */
+    private final JavaDockyTemplate[] templates;
+
+    /**
+     * {@code requiredParameters} the parameter names required by each template, {@code null} if not required
+     */
+    private final ArrayList<Set<String>> requiredParameters;
+
+    /**
+     * {@code anyName} the templates which match any method name
+     */
+    private final BitSet anyName = new BitSet();
+
+    /**
+     * {@code anyReturnType} the templates which match any return type
+     */
+    private final BitSet anyReturnType = new BitSet();
+
+    /**
+     * {@code byReturnType} the templates which require a specific return type mapped by that return type
+     */
+    private final HashMap<String, BitSet> byReturnType = new HashMap<>();
+
+    /**
+     * {@code edgeChars} the characters of the transitions of each state of the automaton
+     */
+    private char[][] edgeChars;
+
+    /**
+     * {@code edgeTargets} the target states of the transitions of each state of the automaton
+     */
+    private int[][] edgeTargets;
+
+    /**
+     * {@code failures} the failure state of each state of the automaton
+     */
+    private int[] failures;
+
+    /**
+     * {@code outputs} the templates whose {@link Tag#nameContains}'s value ends in each state of the automaton,
+     * {@code null} if no-any value ends in that state
+     */
+    private BitSet[] outputs;
+
+    /**
+     * Constructor to init {@link CustomMethodsMatcher}
+     *
+     * @param version:   the version of the docu-templates
+     * @param templates: the custom templates mapped by their names
+     */
+    public CustomMethodsMatcher(long version, Map<String, String> templates) {
+        this.version = version;
+        int size = templates.size();
+        names = new String[size];
+        this.templates = new JavaDockyTemplate[size];
+        requiredParameters = new ArrayList<>(size);
+        ArrayList<String> fragments = new ArrayList<>();
+        ArrayList<Integer> fragmentTemplates = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, String> entry : templates.entrySet()) {
+            String name = entry.getKey();
+            JavaDockyTemplate template = JavaDockyTemplate.of(entry.getValue());
+            names[index] = name;
+            this.templates[index] = template;
+            String nameContains = template.getNameContains();
+            if (nameContains == null)
+                anyName.set(index);
+            else {
+                if (nameContains.isEmpty())
+                    nameContains = name;
+                fragments.add(nameContains);
+                fragmentTemplates.add(index);
+            }
+            String returnTypeIs = template.getReturnTypeIs();
+            if (returnTypeIs == null)
+                anyReturnType.set(index);
+            else
+                byReturnType.computeIfAbsent(returnTypeIs, type -> new BitSet()).set(index);
+            String[] hasP = template.getHasP();
+            requiredParameters.add(hasP != null ? new HashSet<>(Arrays.asList(hasP)) : null);
+            index++;
+        }
+        buildAutomaton(fragments, fragmentTemplates);
+    }
+
+    /**
+     * Method to build the automaton of the {@link Tag#nameContains}'s values
+     *
+     * @param fragments:         the {@link Tag#nameContains}'s values
+     * @param fragmentTemplates: the template of each value
+     */
+    private void buildAutomaton(ArrayList<String> fragments, ArrayList<Integer> fragmentTemplates) {
+        ArrayList<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        ArrayList<BitSet> trieOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieOutputs.add(null);
+        for (int j = 0; j < fragments.size(); j++) {
+            int state = 0;
+            for (char character : fragments.get(j).toCharArray()) {
+                Integer next = trie.get(state).get(character);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(character, next);
+                    trie.add(new TreeMap<>());
+                    trieOutputs.add(null);
+                }
+                state = next;
+            }
+            BitSet output = trieOutputs.get(state);
+            if (output == null) {
+                output = new BitSet();
+                trieOutputs.set(state, output);
+            }
+            output.set(fragmentTemplates.get(j));
+        }
+        int states = trie.size();
+        edgeChars = new char[states][];
+        edgeTargets = new int[states][];
+        failures = new int[states];
+        outputs = trieOutputs.toArray(new BitSet[0]);
+        for (int state = 0; state < states; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int edge = 0;
+            for (Map.Entry<Character, Integer> entry : edges.entrySet()) {
+                edgeChars[state][edge] = entry.getKey();
+                edgeTargets[state][edge] = entry.getValue();
+                edge++;
+            }
+        }
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[0])
+            queue.add(target);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int edge = 0; edge < edgeChars[state].length; edge++) {
+                int target = edgeTargets[state][edge];
+                int failure = failures[state];
+                int next;
+                while ((next = transition(failure, edgeChars[state][edge])) == -1 && failure != 0)
+                    failure = failures[failure];
+                failures[target] = next == -1 || next == target ? 0 : next;
+                BitSet failureOutput = outputs[failures[target]];
+                if (failureOutput != null) {
+                    if (outputs[target] == null)
+                        outputs[target] = (BitSet) failureOutput.clone();
+                    else
+                        outputs[target].or(failureOutput);
+                }
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * Method to get the target state of a transition of the automaton
+     *
+     * @param state:     the source state
+     * @param character: the character of the transition
+     * @return the target state as int, {@code -1} if the transition does not exist
+     */
+    private int transition(int state, char character) {
+        int edge = Arrays.binarySearch(edgeChars[state], character);
+        if (edge < 0)
+            return -1;
+        return edgeTargets[state][edge];
+    }
+
+    /**
+     * Method to find the index of the template to use for a method
+     *
+     * @param method: the descriptor of the method to match
+     * @return the index of the template to use as int, {@code -1} if no-any template matches the method
+     */
+    public int match(MemberDescriptor method) {
+        return match(method.getName(), method.getReturnType(), method.parameterNames);
+    }
+
+    /**
+     * Method to find the index of the template to use for a method
+     *
+     * @param methodName:     the name of the method
+     * @param returnType:     the return type of the method, {@code null} if the method has not a return type
+     * @param parameterNames: the names of the parameters of the method
+     * @return the index of the template to use as int, {@code -1} if no-any template matches the method
+     */
+    public int match(String methodName, String returnType, String[] parameterNames) {
+        if (templates.length == 0)
+            return -1;
+        if (TemplatesProfiler.isEnabled())
+            return profiledMatch(methodName, returnType, parameterNames);
+        BitSet candidates = (BitSet) anyName.clone();
+        int state = 0;
+        for (int j = 0; j < methodName.length(); j++) {
+            char character = methodName.charAt(j);
+            int next;
+            while ((next = transition(state, character)) == -1 && state != 0)
+                state = failures[state];
+            state = next == -1 ? 0 : next;
+            if (outputs[state] != null)
+                candidates.or(outputs[state]);
+        }
+        if (returnType != null) {
+            BitSet returnTypeTemplates = byReturnType.get(returnType);
+            if (returnTypeTemplates != null) {
+                BitSet allowed = (BitSet) anyReturnType.clone();
+                allowed.or(returnTypeTemplates);
+                candidates.and(allowed);
+            } else
+                candidates.and(anyReturnType);
+        }
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1))
+            if (hasParameters(index, parameterNames))
+                return index;
+        return -1;
+    }
+
+    /**
+     * Method to find the index of the template to use for a method evaluating the templates one by one, so the
+     * attempts, the hits and the evaluation time of each of them can be recorded by the {@link TemplatesProfiler}
+     *
+     * @param methodName:     the name of the method
+     * @param returnType:     the return type of the method, {@code null} if the method has not a return type
+     * @param parameterNames: the names of the parameters of the method
+     * @return the index of the template to use as int, {@code -1} if no-any template matches the method
+     * @apiNote the result is the same of the automaton, but all the templates are evaluated also after the first
+     * match, so the hits of each template are recorded
+     */
+    private int profiledMatch(String methodName, String returnType, String[] parameterNames) {
+        int templateIndex = -1;
+        for (int index = 0; index < templates.length; index++) {
+            long start = System.nanoTime();
+            boolean hit = matches(index, methodName, returnType, parameterNames);
+            long elapsedTime = System.nanoTime() - start;
+            boolean used = hit && templateIndex == -1;
+            if (used)
+                templateIndex = index;
+            TemplatesProfiler.record(names[index], hit, used, elapsedTime);
+        }
+        return templateIndex;
+    }
+
+    /**
+     * Method to check whether a single template matches a method
+     *
+     * @param index:          the index of the template
+     * @param methodName:     the name of the method
+     * @param returnType:     the return type of the method, {@code null} if the method has not a return type
+     * @param parameterNames: the names of the parameters of the method
+     * @return whether the template matches the method as boolean
+     */
+    private boolean matches(int index, String methodName, String returnType, String[] parameterNames) {
+        JavaDockyTemplate template = templates[index];
+        String nameContains = template.getNameContains();
+        if (nameContains != null && !methodName.contains(nameContains.isEmpty() ? names[index] : nameContains))
+            return false;
+        String returnTypeIs = template.getReturnTypeIs();
+        if (returnType != null && returnTypeIs != null && !returnTypeIs.equals(returnType))
+            return false;
+        return hasParameters(index, parameterNames);
+    }
+
+    /**
+     * Method to check whether a method has all the parameters required by a template
+     *
+     * @param index:          the index of the template
+     * @param parameterNames: the names of the parameters of the method
+     * @return whether a method has all the parameters required by a template as boolean
+     */
+    private boolean hasParameters(int index, String[] parameterNames) {
+        Set<String> required = requiredParameters.get(index);
+        if (required == null)
+            return true;
+        int found = 0;
+        for (String parameterName : parameterNames)
+            if (required.contains(parameterName))
+                found++;
+        return found >= required.size();
+    }
+
+    /**
+     * Method to get the name of a custom template
+     *
+     * @param index: the index of the template
+     * @return the name of the custom template as {@link String}
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Method to get a compiled custom template
+     *
+     * @param index: the index of the template
+     * @return the compiled custom template as {@link JavaDockyTemplate}
+     */
+    public JavaDockyTemplate getTemplate(int index) {
+        return templates[index];
+    }
+
+    /**
+     * Method to get {@link #version} instance <br>
+     * No-any params required
+     *
+     * @return {@link #version} instance as long
+     */
+    public long getVersion() {
+        return version;
+    }
+
+}
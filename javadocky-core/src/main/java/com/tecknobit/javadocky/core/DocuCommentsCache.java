@@ -0,0 +1,130 @@
+package com.tecknobit.javadocky.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code DocuCommentsCache} class is useful to cache the docu-comments already rendered by their member signature,
+ * so the members with the same shape, like the getters and the setters of different classes, skip the rendering
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the cache is bounded and when it is full the least recently used docu-comment is removed
+ **/
+public class DocuCommentsCache {
+
+    /**
+     * {@code maxSize} the max number of docu-comments to keep
+     */
+    private final int maxSize;
+
+    /**
+     * {@code docuComments} the docu-comments rendered mapped by their member signature
+     */
+    private final LinkedHashMap<String, String> docuComments;
+
+    /**
+     * {@code version} the version of the docu-templates used to render the cached docu-comments
+     */
+    private long version = -1;
+
+    /**
+     * {@code hits} the number of the docu-comments found in the cache
+     */
+    private long hits;
+
+    /**
+     * {@code misses} the number of the docu-comments not found in the cache
+     */
+    private long misses;
+
+    /**
+     * Constructor to init {@link DocuCommentsCache}
+     *
+     * @param maxSize: the max number of docu-comments to keep
+     */
+    public DocuCommentsCache(int maxSize) {
+        this.maxSize = maxSize;
+        docuComments = new LinkedHashMap<>(16, 0.75f, true) {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > DocuCommentsCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Method to get a docu-comment from the cache
+     *
+     * @param version:   the current version of the docu-templates
+     * @param signature: the signature of the member
+     * @return the docu-comment as {@link String}, {@code null} if it is not cached
+     * @apiNote if the docu-templates have changed the cache will be cleared
+     */
+    public synchronized String get(long version, String signature) {
+        if (this.version != version) {
+            docuComments.clear();
+            this.version = version;
+        }
+        String docuComment = docuComments.get(signature);
+        if (docuComment != null)
+            hits++;
+        else
+            misses++;
+        return docuComment;
+    }
+
+    /**
+     * Method to add a docu-comment to the cache
+     *
+     * @param version:     the version of the docu-templates used to render the docu-comment
+     * @param signature:   the signature of the member
+     * @param docuComment: the docu-comment rendered
+     */
+    public synchronized void put(long version, String signature, String docuComment) {
+        if (this.version == version)
+            docuComments.put(signature, docuComment);
+    }
+
+    /**
+     * Method to clear the cache <br>
+     * No-any params required
+     */
+    public synchronized void clear() {
+        docuComments.clear();
+        version = -1;
+    }
+
+    /**
+     * Method to get {@link #hits} instance <br>
+     * No-any params required
+     *
+     * @return {@link #hits} instance as long
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Method to get {@link #misses} instance <br>
+     * No-any params required
+     *
+     * @return {@link #misses} instance as long
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Method to get the number of the docu-comments cached <br>
+     * No-any params required
+     *
+     * @return the number of the docu-comments cached as int
+     */
+    public synchronized int size() {
+        return docuComments.size();
+    }
+
+}
@@ -0,0 +1,311 @@
+package com.tecknobit.javadocky.core;
+
+import com.tecknobit.javadocky.core.JavaDockyTemplate.Slot;
+import com.tecknobit.javadocky.core.MemberDescriptor.Kind;
+
+import java.util.Arrays;
+
+import static com.tecknobit.javadocky.core.JavaDockyTemplate.Slot.*;
+
+/**
+ * The {@code DocuRenderer} class is useful to render the docu-comments of the members described by a
+ * {@link MemberDescriptor} with the compiled templates
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote a renderer reuses its buffers, so it must be used by a single thread, while the compiled templates and
+ * the {@link DocuCommentsCache} can be shared, so the members can be rendered in parallel with a renderer for each
+ * thread
+ **/
+public class DocuRenderer {
+
+    /**
+     * {@code SIGNATURE_SEPARATOR} the separator of the values of a member signature
+     */
+    private static final char SIGNATURE_SEPARATOR = '\u0000';
+
+    /**
+     * {@code SLOTS_COUNT} the number of the available {@link Slot}
+     */
+    private static final int SLOTS_COUNT = Slot.values().length;
+
+    /**
+     * {@code fieldFragment} the compiled fragment of the fields' template used in the {@link Tag#params}'s tag
+     */
+    private static volatile FieldFragment fieldFragment;
+
+    /**
+     * {@code docuCommentsCache} the cache where store the docu-comments rendered
+     */
+    private final DocuCommentsCache docuCommentsCache;
+
+    /**
+     * {@code renderer} the reused builder where the templates are rendered
+     */
+    private final StringBuilder renderer = new StringBuilder();
+
+    /**
+     * {@code paramsRenderer} the reused builder where the {@link Tag#params}'s tag values are rendered
+     */
+    private final StringBuilder paramsRenderer = new StringBuilder();
+
+    /**
+     * {@code fragmentRenderer} the reused builder where the {@link #fieldFragment} is rendered
+     */
+    private final StringBuilder fragmentRenderer = new StringBuilder();
+
+    /**
+     * {@code signatureBuilder} the reused builder where the signatures of the members are created
+     */
+    private final StringBuilder signatureBuilder = new StringBuilder();
+
+    /**
+     * {@code slots} the reused values to insert in the slots of a template
+     */
+    private final String[] slots = new String[SLOTS_COUNT];
+
+    /**
+     * {@code fragmentSlots} the reused values to insert in the slots of the {@link #fieldFragment}
+     */
+    private final String[] fragmentSlots = new String[SLOTS_COUNT];
+
+    /**
+     * Constructor to init {@link DocuRenderer}
+     *
+     * @param docuCommentsCache: the cache where store the docu-comments rendered
+     */
+    public DocuRenderer(DocuCommentsCache docuCommentsCache) {
+        this.docuCommentsCache = docuCommentsCache;
+    }
+
+    /**
+     * Method to render the docu-comment of a member
+     *
+     * @param kind:             the kind of the template
+     * @param template:         the template to use to render the docu-comment
+     * @param member:           the descriptor of the member to document
+     * @param version:          the version of the docu-templates, used to validate the {@link DocuCommentsCache}
+     * @param fieldTemplate:    the fields' template to use in the {@link Tag#params}'s tag, {@code null} if the
+     *                          parameters must be listed without it
+     * @param formatReturnType: whether format the {@link Tag#returnType}'s tag
+     * @return the docu-comment rendered as {@link String}
+     * @apiNote the docu-comment will be rendered only if a member with the same signature has not been already
+     * documented with the same version of the docu-templates, the values inserted in the slots are available with
+     * {@link #getSlots()} until the next rendering
+     */
+    public String render(String kind, JavaDockyTemplate template, MemberDescriptor member, long version,
+                         String fieldTemplate, boolean formatReturnType) {
+        Arrays.fill(slots, null);
+        Kind memberKind = member.getKind();
+        switch (memberKind) {
+            case CLASS, CONSTRUCTOR -> slots[CLASS_NAME.ordinal()] = member.getName();
+            case FIELD -> slots[INSTANCE.ordinal()] = member.getName();
+            case METHOD -> slots[INSTANCE.ordinal()] = member.getInstance();
+        }
+        boolean hasParameters = memberKind == Kind.CONSTRUCTOR || memberKind == Kind.METHOD;
+        String signature = getSignature(kind, member, hasParameters);
+        String docuComment = docuCommentsCache.get(version, signature);
+        if (docuComment == null) {
+            if (hasParameters) {
+                if (formatReturnType)
+                    formatReturnTypeTag(template, member);
+                formatParamsTag(template, member, fieldTemplate);
+            }
+            docuComment = template.render(renderer, slots);
+            docuCommentsCache.put(version, signature, docuComment);
+        }
+        return docuComment;
+    }
+
+    /**
+     * Method to format the {@link Tag#returnType}'s tag to render a docu-comment from the template
+     *
+     * @param template: template of the member to format
+     * @param member:   the descriptor of the member from fetch the value of the {@link Tag#returnType}
+     */
+    private void formatReturnTypeTag(JavaDockyTemplate template, MemberDescriptor member) {
+        if (member.getCanonicalReturnType() == null)
+            return;
+        if (template.hasSlot(RETURN_TYPE))
+            slots[RETURN_TYPE.ordinal()] = member.getRenderedReturnType();
+        if (template.hasSlot(LINKED_RETURN_TYPE))
+            slots[LINKED_RETURN_TYPE.ordinal()] = member.getLinkedReturnType();
+    }
+
+    /**
+     * Method to fetch from a member the params list
+     * <pre>
+     *   {@code
+     *       // <params> in the docu-comment
+     *       public void anyMethod(Object anyObject, String anyString) {
+     *           // your code here
+     *       }
+     *   }
+     *  </pre>
+     * the {@link Tag#params}'s tag will be replaced with the list of the member's parameters:
+     * <ul>
+     *     <li>
+     *         <b>without the fields' template</b> -> <br>
+     *         {@code @param anyObject} <br>
+     *         {@code @param anyString} <br>
+     *     </li>
+     *     <li>
+     *         <b>with the fields' template</b> -> <br>
+     *         {@code @param anyObject - field template} <br>
+     *         {@code @param anyString - field template} <br>
+     *     </li>
+     * </ul>
+     *
+     * @param template:      the template where insert the params list
+     * @param member:        the descriptor of the member from fetch the params list
+     * @param fieldTemplate: the fields' template, {@code null} if not used
+     */
+    private void formatParamsTag(JavaDockyTemplate template, MemberDescriptor member, String fieldTemplate) {
+        if (!template.hasSlot(PARAMS))
+            return;
+        JavaDockyTemplate fragment = null;
+        if (fieldTemplate != null)
+            fragment = getFieldFragment(fieldTemplate);
+        StringBuilder lParams = paramsRenderer;
+        lParams.setLength(0);
+        for (int j = 0; j < member.getParametersCount(); j++) {
+            if (lParams.isEmpty())
+                lParams.append("@param ");
+            else
+                lParams.append("* @param ");
+            String parameterName = member.getParameterName(j);
+            lParams.append(parameterName);
+            if (fragment != null)
+                lParams.append(": ").append(formatFieldTemplate(fragment, fragmentRenderer, fragmentSlots, parameterName));
+            else
+                lParams.append(":\n");
+        }
+        if (!lParams.isEmpty())
+            lParams.append("*");
+        slots[PARAMS.ordinal()] = lParams.toString();
+    }
+
+    /**
+     * Method to get the signature of a member to document
+     *
+     * @param kind:          the kind of the template
+     * @param member:        the descriptor of the member to document
+     * @param hasParameters: whether the member has a parameters list
+     * @return the signature of the member as {@link String}
+     * @apiNote the signature is composed by the kind of the template, the current {@link #slots} values and, for the
+     * constructors and the methods, by the name, the return type and the names and types of the parameters
+     */
+    private String getSignature(String kind, MemberDescriptor member, boolean hasParameters) {
+        StringBuilder signature = signatureBuilder;
+        signature.setLength(0);
+        signature.append(kind);
+        for (String slot : slots)
+            signature.append(SIGNATURE_SEPARATOR).append(slot);
+        if (hasParameters) {
+            signature.append(SIGNATURE_SEPARATOR).append(member.getName());
+            String returnType = member.getCanonicalReturnType();
+            if (returnType != null)
+                signature.append(SIGNATURE_SEPARATOR).append(returnType);
+            for (int j = 0; j < member.getParametersCount(); j++) {
+                signature.append(SIGNATURE_SEPARATOR).append(member.getParameterType(j))
+                        .append(' ').append(member.getParameterName(j));
+            }
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Method to get the values inserted in the slots by the last rendering <br>
+     * No-any params required
+     *
+     * @return the values inserted in the slots, indexed by {@link Slot#ordinal()}, as array of {@link String}
+     * @apiNote when the docu-comment has been found in the {@link DocuCommentsCache} only the values required by its
+     * signature are available
+     */
+    public String[] getSlots() {
+        return slots;
+    }
+
+    /**
+     * Method to get the compiled fragment of the fields' template
+     *
+     * @param fieldTemplate: the current fields' template
+     * @return the compiled fragment as {@link JavaDockyTemplate}
+     * @apiNote the fragment will be compiled again only when the fields' template changes
+     */
+    private static JavaDockyTemplate getFieldFragment(String fieldTemplate) {
+        FieldFragment fragment = fieldFragment;
+        if (fragment == null || !fieldTemplate.equals(fragment.source)) {
+            fragment = new FieldFragment(fieldTemplate);
+            fieldFragment = fragment;
+        }
+        return fragment.template;
+    }
+
+    /**
+     * Method to render the compiled fragment of the fields' template
+     *
+     * @param fragment:  the compiled fragment to render
+     * @param builder:   the builder where render the fragment
+     * @param values:    the values to insert in the slots of the fragment
+     * @param fieldName: the name of the field to format the template
+     * @return the docu-template value of the field as {@link String}
+     */
+    private static String formatFieldTemplate(JavaDockyTemplate fragment, StringBuilder builder, String[] values,
+                                              String fieldName) {
+        values[INSTANCE.ordinal()] = fieldName;
+        return fragment.render(builder, values);
+    }
+
+    /**
+     * Method to fetch from a field the docu-template value
+     * <pre>
+     *   {@code
+     *       // its template for the docu-comment -> instance to make any actions
+     *       Object anyObject;
+     *   }
+     *  </pre>
+     * will be fetched {@code "instance to make any actions"}
+     *
+     * @param fieldTemplate: the fields' template
+     * @param fieldName:     the name of the field to format the template
+     * @return the docu-template value of the field as {@link String}
+     */
+    public static String formatFieldTemplate(String fieldTemplate, String fieldName) {
+        return formatFieldTemplate(getFieldFragment(fieldTemplate), new StringBuilder(), new String[SLOTS_COUNT],
+                fieldName);
+    }
+
+    /**
+     * The {@code FieldFragment} class is useful to keep a fields' template together with its compiled fragment, so
+     * they are always replaced together also when more threads render in parallel
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class FieldFragment {
+
+        /**
+         * {@code source} the fields' template from the fragment has been compiled
+         */
+        private final String source;
+
+        /**
+         * {@code template} the compiled fragment
+         */
+        private final JavaDockyTemplate template;
+
+        /**
+         * Constructor to init {@link FieldFragment}
+         *
+         * @param source: the fields' template to compile
+         */
+        private FieldFragment(String source) {
+            this.source = source;
+            template = JavaDockyTemplate.compile(source
+                    .replaceAll("/\\**\n *", "")
+                    .replace("*/", "")
+                    .replace("* ", ""));
+        }
+
+    }
+
+}
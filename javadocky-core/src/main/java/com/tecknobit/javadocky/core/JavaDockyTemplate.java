@@ -0,0 +1,424 @@
+package com.tecknobit.javadocky.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code JavaDockyTemplate} class is useful to compile a docu-template once in a list of literal segments and
+ * tag slots, so it can be rendered for each member without scanning the template again
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public class JavaDockyTemplate {
+
+    /**
+     * {@code Slot} list of the slots where the values of a member will be inserted
+     */
+    public enum Slot {
+
+        /**
+         * {@code CLASS_NAME} slot -> filled with the value of the {@link Tag#className}'s tag
+         */
+        CLASS_NAME,
+
+        /**
+         * {@code INSTANCE} slot -> filled with the value of the {@link Tag#instance}'s tag
+         */
+        INSTANCE,
+
+        /**
+         * {@code PARAMS} slot -> filled with the value of the first {@link Tag#params}'s tag
+         */
+        PARAMS,
+
+        /**
+         * {@code RETURN_TYPE} slot -> filled with the value of the {@link Tag#returnType}'s tag
+         */
+        RETURN_TYPE,
+
+        /**
+         * {@code LINKED_RETURN_TYPE} slot -> filled with the value of the {@code "{@link <returnType>}"} sequence
+         */
+        LINKED_RETURN_TYPE
+
+    }
+
+    /**
+     * {@code LINKED_RETURN_TYPE_TAG} the sequence of the {@link Slot#LINKED_RETURN_TYPE}'s slot
+     */
+    private static final String LINKED_RETURN_TYPE_TAG = "{@link " + Tag.returnType.getTag() + "}";
+
+    /**
+     * {@code SLOTS} the cached values of the {@link Slot}
+     */
+    private static final Slot[] SLOTS = Slot.values();
+
+    /**
+     * {@code MAX_COMPILED_TEMPLATES} the max number of compiled templates to keep in the {@link #COMPILED_TEMPLATES}
+     */
+    private static final int MAX_COMPILED_TEMPLATES = 1024;
+
+    /**
+     * {@code COMPILED_TEMPLATES} the compiled templates mapped by their source template
+     *
+     * @apiNote when a template changes its source changes too, so it will be compiled again
+     */
+    private static final ConcurrentHashMap<String, JavaDockyTemplate> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * {@code source} the source template from the compiled template has been created
+     */
+    private final String source;
+
+    /**
+     * {@code literals} the literal segments of the template, the literal at the index {@code i} precedes the slot at
+     * the same index
+     */
+    private final String[] literals;
+
+    /**
+     * {@code slots} the ordinals of the {@link Slot} between the literal segments
+     */
+    private final int[] slots;
+
+    /**
+     * {@code usedSlots} whether each {@link Slot} is used by the template
+     */
+    private final boolean[] usedSlots;
+
+    /**
+     * {@code nameContains} value of the {@link Tag#nameContains}'s directive, {@code null} if not specified
+     */
+    private final String nameContains;
+
+    /**
+     * {@code returnTypeIs} value of the {@link Tag#returnTypeIs}'s directive, {@code null} if not specified
+     */
+    private final String returnTypeIs;
+
+    /**
+     * {@code hasP} values of the {@link Tag#hasP}'s directive, {@code null} if not specified
+     */
+    private final String[] hasP;
+
+    /**
+     * Constructor to init {@link JavaDockyTemplate}
+     *
+     * @param source:       the source template from the compiled template has been created
+     * @param literals:     the literal segments of the template
+     * @param slots:        the ordinals of the {@link Slot} between the literal segments
+     * @param nameContains: value of the {@link Tag#nameContains}'s directive
+     * @param returnTypeIs: value of the {@link Tag#returnTypeIs}'s directive
+     * @param hasP:         values of the {@link Tag#hasP}'s directive
+     */
+    private JavaDockyTemplate(String source, String[] literals, int[] slots, String nameContains, String returnTypeIs,
+                              String[] hasP) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.nameContains = nameContains;
+        this.returnTypeIs = returnTypeIs;
+        this.hasP = hasP;
+        usedSlots = new boolean[SLOTS.length];
+        for (int slot : slots)
+            usedSlots[slot] = true;
+    }
+
+    /**
+     * Method to get a compiled template
+     *
+     * @param source: the source template to compile
+     * @return the compiled template as {@link JavaDockyTemplate}
+     * @apiNote the template will be compiled only if it has not been already compiled
+     */
+    public static JavaDockyTemplate of(String source) {
+        JavaDockyTemplate compiledTemplate = COMPILED_TEMPLATES.get(source);
+        if (compiledTemplate == null) {
+            compiledTemplate = compile(source);
+            register(compiledTemplate);
+        }
+        return compiledTemplate;
+    }
+
+    /**
+     * Method to register a compiled template, so it will be returned by {@link #of(String)} without compiling again
+     * its source
+     *
+     * @param compiledTemplate: the compiled template to register
+     */
+    public static void register(JavaDockyTemplate compiledTemplate) {
+        if (COMPILED_TEMPLATES.size() >= MAX_COMPILED_TEMPLATES)
+            COMPILED_TEMPLATES.clear();
+        COMPILED_TEMPLATES.put(compiledTemplate.source, compiledTemplate);
+    }
+
+    /**
+     * Method to compile a template in its segments list
+     *
+     * @param source: the template to compile
+     * @return the template compiled as {@link JavaDockyTemplate}
+     * @apiNote the {@link Tag#nameContains}, {@link Tag#returnTypeIs} and {@link Tag#hasP} directives are removed,
+     * with their values, from the segments list and are available as values of the template
+     */
+    public static JavaDockyTemplate compile(String source) {
+        ArrayList<String> literals = new ArrayList<>();
+        ArrayList<Integer> slots = new ArrayList<>();
+        String[] directives = new String[3];
+        StringBuilder literal = new StringBuilder();
+        boolean paramsFilled = false;
+        int length = source.length();
+        int index = 0;
+        while (index < length) {
+            char character = source.charAt(index);
+            if (character == '{' && source.startsWith(LINKED_RETURN_TYPE_TAG, index)) {
+                closeLiteral(literals, slots, literal, Slot.LINKED_RETURN_TYPE);
+                index += LINKED_RETURN_TYPE_TAG.length();
+                continue;
+            } else if (character == '<') {
+                Tag tag = reachTag(source, index);
+                if (tag != null) {
+                    index += tag.getTag().length();
+                    switch (tag) {
+                        case className -> closeLiteral(literals, slots, literal, Slot.CLASS_NAME);
+                        case instance -> closeLiteral(literals, slots, literal, Slot.INSTANCE);
+                        case returnType -> closeLiteral(literals, slots, literal, Slot.RETURN_TYPE);
+                        case params -> {
+                            if (!paramsFilled) {
+                                closeLiteral(literals, slots, literal, Slot.PARAMS);
+                                paramsFilled = true;
+                            } else
+                                literal.append(tag.getTag());
+                        }
+                        default -> {
+                            int lineEnd = source.indexOf('\n', index);
+                            if (lineEnd == -1)
+                                lineEnd = length;
+                            int directive = tag.ordinal() - Tag.hasP.ordinal();
+                            if (directives[directive] == null)
+                                directives[directive] = source.substring(index, lineEnd);
+                            index = lineEnd;
+                        }
+                    }
+                    continue;
+                }
+            }
+            literal.append(character);
+            index++;
+        }
+        literals.add(literal.toString());
+        int[] vSlots = new int[slots.size()];
+        for (int j = 0; j < vSlots.length; j++)
+            vSlots[j] = slots.get(j);
+        String[] vHasP = null;
+        if (directives[0] != null)
+            vHasP = directives[0].replaceAll(" ", "").split(",");
+        return new JavaDockyTemplate(source, literals.toArray(new String[0]), vSlots, removeBlankSpaces(directives[2]),
+                removeBlankSpaces(directives[1]), vHasP);
+    }
+
+    /**
+     * Method to fetch the {@link Tag} which starts at the specified index of a template
+     *
+     * @param source: the template where fetch the tag
+     * @param index:  the index where the tag starts
+     * @return the tag as {@link Tag}, {@code null} if any tag starts at the specified index
+     */
+    private static Tag reachTag(String source, int index) {
+        for (Tag tag : Tag.values())
+            if (source.startsWith(tag.getTag(), index))
+                return tag;
+        return null;
+    }
+
+    /**
+     * Method to close the current literal segment and append a slot after it
+     *
+     * @param literals: the literal segments of the template
+     * @param slots:    the slots of the template
+     * @param literal:  the current literal segment
+     * @param slot:     the slot to append
+     */
+    private static void closeLiteral(ArrayList<String> literals, ArrayList<Integer> slots, StringBuilder literal,
+                                     Slot slot) {
+        literals.add(literal.toString());
+        slots.add(slot.ordinal());
+        literal.setLength(0);
+    }
+
+    /**
+     * Method to remove the blank spaces from a directive value
+     *
+     * @param value: the value from remove the blank spaces
+     * @return the value without blank spaces as {@link String}, {@code null} if the value is {@code null}
+     */
+    private static String removeBlankSpaces(String value) {
+        if (value == null)
+            return null;
+        return value.replace(" ", "");
+    }
+
+    /**
+     * Method to write the compiled template, so it can be read again without compiling its source
+     *
+     * @param output: the output where write the compiled template
+     * @throws IOException when the compiled template cannot be written
+     */
+    public void writeTo(DataOutput output) throws IOException {
+        writeString(output, source);
+        output.writeInt(slots.length);
+        for (int slot : slots)
+            output.writeByte(slot);
+        for (String literal : literals)
+            writeString(output, literal);
+        writeString(output, nameContains);
+        writeString(output, returnTypeIs);
+        output.writeInt(hasP == null ? -1 : hasP.length);
+        if (hasP != null)
+            for (String parameter : hasP)
+                writeString(output, parameter);
+    }
+
+    /**
+     * Method to read a compiled template previously written with {@link #writeTo(DataOutput)}
+     *
+     * @param input: the input from read the compiled template
+     * @return the compiled template as {@link JavaDockyTemplate}
+     * @throws IOException when the compiled template cannot be read
+     */
+    public static JavaDockyTemplate readFrom(DataInput input) throws IOException {
+        String source = readString(input);
+        int[] slots = new int[input.readInt()];
+        for (int j = 0; j < slots.length; j++) {
+            slots[j] = input.readByte();
+            if (slots[j] < 0 || slots[j] >= SLOTS.length)
+                throw new IOException("Invalid slot " + slots[j]);
+        }
+        String[] literals = new String[slots.length + 1];
+        for (int j = 0; j < literals.length; j++)
+            literals[j] = readString(input);
+        String nameContains = readString(input);
+        String returnTypeIs = readString(input);
+        int parameters = input.readInt();
+        String[] hasP = null;
+        if (parameters >= 0) {
+            hasP = new String[parameters];
+            for (int j = 0; j < parameters; j++)
+                hasP[j] = readString(input);
+        }
+        return new JavaDockyTemplate(source, literals, slots, nameContains, returnTypeIs, hasP);
+    }
+
+    /**
+     * Method to write a value which can be {@code null}
+     *
+     * @param output: the output where write the value
+     * @param value:  the value to write
+     * @throws IOException when the value cannot be written
+     * @apiNote the value is written as its {@code UTF-8} bytes prefixed by their length, so, unlike
+     * {@link DataOutput#writeUTF(String)}, also the values longer than 64 KB can be written
+     */
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Method to read a value written with {@link #writeString(DataOutput, String)}
+     *
+     * @param input: the input from read the value
+     * @return the value as {@link String}, {@code null} if the value written was {@code null}
+     * @throws IOException when the value cannot be read
+     */
+    private static String readString(DataInput input) throws IOException {
+        if (!input.readBoolean())
+            return null;
+        int length = input.readInt();
+        if (length < 0)
+            throw new IOException("Invalid length of a value: " + length);
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method to render the template with the values of a member
+     *
+     * @param builder: the reused builder where render the template
+     * @param values:  the values to insert in the slots, indexed by {@link Slot#ordinal()}, the {@code null} values
+     *                 will be rendered as empty
+     * @return the template rendered as {@link String}
+     */
+    public String render(StringBuilder builder, String[] values) {
+        builder.setLength(0);
+        for (int j = 0; j < slots.length; j++) {
+            builder.append(literals[j]);
+            String value = values[slots[j]];
+            if (value != null)
+                builder.append(value);
+        }
+        builder.append(literals[slots.length]);
+        return builder.toString();
+    }
+
+    /**
+     * Method to get whether the template uses a {@link Slot}
+     *
+     * @param slot: the slot to check
+     * @return whether the template uses the slot as boolean
+     */
+    public boolean hasSlot(Slot slot) {
+        return usedSlots[slot.ordinal()];
+    }
+
+    /**
+     * Method to get {@link #source} instance <br>
+     * No-any params required
+     *
+     * @return {@link #source} instance as {@link String}
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Method to get {@link #nameContains} instance <br>
+     * No-any params required
+     *
+     * @return {@link #nameContains} instance as {@link String}
+     * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+     */
+    public String getNameContains() {
+        return nameContains;
+    }
+
+    /**
+     * Method to get {@link #returnTypeIs} instance <br>
+     * No-any params required
+     *
+     * @return {@link #returnTypeIs} instance as {@link String}
+     * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+     */
+    public String getReturnTypeIs() {
+        return returnTypeIs;
+    }
+
+    /**
+     * Method to get {@link #hasP} instance <br>
+     * No-any params required
+     *
+     * @return {@link #hasP} instance as array of {@link String}
+     * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+     */
+    public String[] getHasP() {
+        return hasP;
+    }
+
+}
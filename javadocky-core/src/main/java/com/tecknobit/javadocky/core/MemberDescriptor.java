@@ -0,0 +1,279 @@
+package com.tecknobit.javadocky.core;
+
+/**
+ * The {@code MemberDescriptor} class is useful to describe a member to document with the plain values required by
+ * the templates, so the members can be rendered without any dependency from the source where they have been read
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the descriptors are immutable, so they can be created in a thread and rendered in any other thread
+ * @see DocuRenderer
+ **/
+public final class MemberDescriptor {
+
+    /**
+     * {@code Kind} list of the kinds of the members which can be described
+     */
+    public enum Kind {
+
+        /**
+         * {@code CLASS} -> the member is a class
+         */
+        CLASS,
+
+        /**
+         * {@code FIELD} -> the member is a field
+         */
+        FIELD,
+
+        /**
+         * {@code CONSTRUCTOR} -> the member is a constructor
+         */
+        CONSTRUCTOR,
+
+        /**
+         * {@code METHOD} -> the member is a method
+         */
+        METHOD
+
+    }
+
+    /**
+     * {@code NO_PARAMETERS} the values used when the member has not any parameter
+     */
+    private static final String[] NO_PARAMETERS = new String[0];
+
+    /**
+     * {@code kind} the kind of the member
+     */
+    private final Kind kind;
+
+    /**
+     * {@code name} the name of the member
+     */
+    private final String name;
+
+    /**
+     * {@code instance} the value of the {@link Tag#instance}'s tag, {@code null} if the member has not an instance
+     */
+    private final String instance;
+
+    /**
+     * {@code returnType} the return type as written in the source, {@code null} if the member has not a return type
+     */
+    private final String returnType;
+
+    /**
+     * {@code renderedReturnType} the return type to insert in the {@link Tag#returnType}'s tag, {@code null} if not
+     * available
+     */
+    private final String renderedReturnType;
+
+    /**
+     * {@code linkedReturnType} the return type to insert in the {@code "{@link <returnType>}"} sequence, {@code null}
+     * if not available
+     */
+    private final String linkedReturnType;
+
+    /**
+     * {@code canonicalReturnType} the canonical text of the return type, {@code null} if the member has not a return
+     * type
+     */
+    private final String canonicalReturnType;
+
+    /**
+     * {@code parameterNames} the names of the parameters
+     */
+    final String[] parameterNames;
+
+    /**
+     * {@code parameterTypes} the canonical texts of the types of the parameters
+     */
+    private final String[] parameterTypes;
+
+    /**
+     * Constructor to init {@link MemberDescriptor}
+     *
+     * @param kind:                the kind of the member
+     * @param name:                the name of the member
+     * @param instance:            the value of the {@link Tag#instance}'s tag
+     * @param returnType:          the return type as written in the source
+     * @param renderedReturnType:  the return type to insert in the {@link Tag#returnType}'s tag
+     * @param linkedReturnType:    the return type to insert in the {@code "{@link <returnType>}"} sequence
+     * @param canonicalReturnType: the canonical text of the return type
+     * @param parameterNames:      the names of the parameters
+     * @param parameterTypes:      the canonical texts of the types of the parameters
+     */
+    private MemberDescriptor(Kind kind, String name, String instance, String returnType, String renderedReturnType,
+                             String linkedReturnType, String canonicalReturnType, String[] parameterNames,
+                             String[] parameterTypes) {
+        if (parameterNames.length != parameterTypes.length)
+            throw new IllegalArgumentException("The names and the types of the parameters must have the same size");
+        this.kind = kind;
+        this.name = name;
+        this.instance = instance;
+        this.returnType = returnType;
+        this.renderedReturnType = renderedReturnType;
+        this.linkedReturnType = linkedReturnType;
+        this.canonicalReturnType = canonicalReturnType;
+        this.parameterNames = parameterNames.length == 0 ? NO_PARAMETERS : parameterNames.clone();
+        this.parameterTypes = parameterTypes.length == 0 ? NO_PARAMETERS : parameterTypes.clone();
+    }
+
+    /**
+     * Method to describe a class
+     *
+     * @param name: the name of the class
+     * @return the descriptor of the class as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor ofClass(String name) {
+        return new MemberDescriptor(Kind.CLASS, name, null, null, null, null, null, NO_PARAMETERS, NO_PARAMETERS);
+    }
+
+    /**
+     * Method to describe a field
+     *
+     * @param name: the name of the field
+     * @return the descriptor of the field as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor ofField(String name) {
+        return new MemberDescriptor(Kind.FIELD, name, null, null, null, null, null, NO_PARAMETERS, NO_PARAMETERS);
+    }
+
+    /**
+     * Method to describe a constructor
+     *
+     * @param name:           the name of the constructor
+     * @param parameterNames: the names of the parameters
+     * @param parameterTypes: the canonical texts of the types of the parameters
+     * @return the descriptor of the constructor as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor ofConstructor(String name, String[] parameterNames, String[] parameterTypes) {
+        return new MemberDescriptor(Kind.CONSTRUCTOR, name, null, null, null, null, null, parameterNames,
+                parameterTypes);
+    }
+
+    /**
+     * Method to describe a method
+     *
+     * @param name:                the name of the method
+     * @param instance:            the returned instance or, for the setters, the assigned field, {@code null} if
+     *                             not available
+     * @param returnType:          the return type as written in the source, {@code null} if not available
+     * @param renderedReturnType:  the return type to insert in the {@link Tag#returnType}'s tag, {@code null} if not
+     *                             required
+     * @param linkedReturnType:    the return type to insert in the {@code "{@link <returnType>}"} sequence,
+     *                             {@code null} if not required
+     * @param canonicalReturnType: the canonical text of the return type, {@code null} if not available
+     * @param parameterNames:      the names of the parameters
+     * @param parameterTypes:      the canonical texts of the types of the parameters
+     * @return the descriptor of the method as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor ofMethod(String name, String instance, String returnType,
+                                            String renderedReturnType, String linkedReturnType,
+                                            String canonicalReturnType, String[] parameterNames,
+                                            String[] parameterTypes) {
+        return new MemberDescriptor(Kind.METHOD, name, instance, returnType, renderedReturnType, linkedReturnType,
+                canonicalReturnType, parameterNames, parameterTypes);
+    }
+
+    /**
+     * Method to get {@link #kind} instance <br>
+     * No-any params required
+     *
+     * @return {@link #kind} instance as {@link Kind}
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Method to get {@link #name} instance <br>
+     * No-any params required
+     *
+     * @return {@link #name} instance as {@link String}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method to get {@link #instance} instance <br>
+     * No-any params required
+     *
+     * @return {@link #instance} instance as {@link String}
+     */
+    public String getInstance() {
+        return instance;
+    }
+
+    /**
+     * Method to get {@link #returnType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #returnType} instance as {@link String}
+     */
+    public String getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * Method to get {@link #renderedReturnType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #renderedReturnType} instance as {@link String}
+     */
+    public String getRenderedReturnType() {
+        return renderedReturnType;
+    }
+
+    /**
+     * Method to get {@link #linkedReturnType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #linkedReturnType} instance as {@link String}
+     */
+    public String getLinkedReturnType() {
+        return linkedReturnType;
+    }
+
+    /**
+     * Method to get {@link #canonicalReturnType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #canonicalReturnType} instance as {@link String}
+     */
+    public String getCanonicalReturnType() {
+        return canonicalReturnType;
+    }
+
+    /**
+     * Method to get the number of the parameters <br>
+     * No-any params required
+     *
+     * @return the number of the parameters as int
+     */
+    public int getParametersCount() {
+        return parameterNames.length;
+    }
+
+    /**
+     * Method to get the name of a parameter
+     *
+     * @param index: the index of the parameter
+     * @return the name of the parameter as {@link String}
+     */
+    public String getParameterName(int index) {
+        return parameterNames[index];
+    }
+
+    /**
+     * Method to get the canonical text of the type of a parameter
+     *
+     * @param index: the index of the parameter
+     * @return the canonical text of the type of the parameter as {@link String}
+     */
+    public String getParameterType(int index) {
+        return parameterTypes[index];
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.tecknobit.javadocky.core;
+
+/**
+ * {@code MethodType} list of available {@code JavaDocky}'s method types
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see MethodsClassifier
+ **/
+public enum MethodType {
+
+    /**
+     * {@code HASH_CODE} -> to create and use a docu-template for all the HASH_CODE methods
+     */
+    HASH_CODE,
+
+    /**
+     * {@code EQUALS} -> to create and use a docu-template for all the EQUALS methods
+     */
+    EQUALS,
+
+    /**
+     * {@code CLONE} -> to create and use a docu-template for all the CLONE methods
+     */
+    CLONE,
+
+    /**
+     * {@code TO_STRING} -> to create and use a docu-template for all the TO_STRING methods
+     */
+    TO_STRING,
+
+    /**
+     * {@code GETTER} -> to create and use a docu-template for all the GETTER methods
+     *
+     * @apiNote the GETTER methods in the standard layout
+     */
+    GETTER,
+
+    /**
+     * {@code SETTER} -> to create and use a docu-template for all the SETTER methods
+     *
+     * @apiNote the SETTER methods in the standard layout
+     */
+    SETTER,
+
+    /**
+     * {@code CUSTOM} -> to create and use a docu-template for all the CUSTOM methods that the user choose
+     */
+    CUSTOM
+
+}
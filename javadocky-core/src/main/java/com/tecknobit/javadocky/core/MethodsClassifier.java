@@ -0,0 +1,142 @@
+package com.tecknobit.javadocky.core;
+
+import static com.tecknobit.javadocky.core.MethodType.*;
+
+/**
+ * The {@code MethodsClassifier} class is useful to fetch the {@link MethodType} of a method, it is built once and
+ * does not allocate any object to classify a method:
+ * <ul>
+ *     <li>
+ *         the names of the {@link MethodType} are compared ignoring the case with the name of the method
+ *     </li>
+ *     <li>
+ *         the getter and the setter prefixes are searched in a prefix trie
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public class MethodsClassifier {
+
+    /**
+     * {@code GETTER_NAMES} list of possible getter names
+     */
+    private static final String[] GETTER_NAMES = {"GET", "IS", "ARE", "CAN", "HAS", "HAVE"};
+
+    /**
+     * {@code SETTER_NAME} the setter name
+     */
+    private static final String SETTER_NAME = "SET";
+
+    /**
+     * {@code GETTER_PREFIX} flag of the trie nodes where a getter name ends
+     */
+    private static final byte GETTER_PREFIX = 1;
+
+    /**
+     * {@code SETTER_PREFIX} flag of the trie nodes where the setter name ends
+     */
+    private static final byte SETTER_PREFIX = 2;
+
+    /**
+     * {@code ALPHABET_SIZE} the number of the letters handled by the trie
+     */
+    private static final int ALPHABET_SIZE = 26;
+
+    /**
+     * {@code TYPE_NAMES} the names of the {@link MethodType} without the underscores
+     */
+    private static final String[] TYPE_NAMES;
+
+    /**
+     * {@code TYPES} the cached values of the {@link MethodType}
+     */
+    private static final MethodType[] TYPES = MethodType.values();
+
+    /**
+     * {@code trie} the transitions of the prefix trie indexed by state and letter, {@code 0} if the transition does
+     * not exist
+     */
+    private static final int[][] trie;
+
+    /**
+     * {@code prefixes} the prefix flags of each state of the trie
+     */
+    private static final byte[] prefixes;
+
+    static {
+        TYPE_NAMES = new String[TYPES.length];
+        for (MethodType type : TYPES)
+            TYPE_NAMES[type.ordinal()] = type.name().replace("_", "");
+        int states = 1;
+        for (String name : GETTER_NAMES)
+            states += name.length();
+        states += SETTER_NAME.length();
+        int[][] vTrie = new int[states][ALPHABET_SIZE];
+        byte[] vPrefixes = new byte[states];
+        int used = 1;
+        for (int j = 0; j <= GETTER_NAMES.length; j++) {
+            boolean isSetter = j == GETTER_NAMES.length;
+            String name = isSetter ? SETTER_NAME : GETTER_NAMES[j];
+            int state = 0;
+            for (int i = 0; i < name.length(); i++) {
+                int letter = name.charAt(i) - 'A';
+                if (vTrie[state][letter] == 0)
+                    vTrie[state][letter] = used++;
+                state = vTrie[state][letter];
+            }
+            vPrefixes[state] |= isSetter ? SETTER_PREFIX : GETTER_PREFIX;
+        }
+        trie = vTrie;
+        prefixes = vPrefixes;
+    }
+
+    /**
+     * Constructor to init {@link MethodsClassifier}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private MethodsClassifier() {
+    }
+
+    /**
+     * Method to get the {@link MethodType} of a method
+     *
+     * @param method: the descriptor of the method to fetch its type
+     * @return method type as {@link MethodType}
+     */
+    public static MethodType classify(MemberDescriptor method) {
+        return classify(method.getName(), method.getParametersCount());
+    }
+
+    /**
+     * Method to get the {@link MethodType} of a method
+     *
+     * @param methodName: the name of the method
+     * @param parameters: the number of the parameters of the method
+     * @return method type as {@link MethodType}
+     */
+    public static MethodType classify(String methodName, int parameters) {
+        for (int j = 0; j < TYPE_NAMES.length; j++)
+            if (TYPE_NAMES[j].equalsIgnoreCase(methodName))
+                return TYPES[j];
+        if (parameters > 1)
+            return CUSTOM;
+        int state = 0;
+        for (int j = 0; j < methodName.length(); j++) {
+            int letter = Character.toUpperCase(methodName.charAt(j)) - 'A';
+            if (letter < 0 || letter >= ALPHABET_SIZE)
+                break;
+            state = trie[state][letter];
+            if (state == 0)
+                break;
+            byte prefix = prefixes[state];
+            if (parameters == 0 && (prefix & GETTER_PREFIX) != 0)
+                return GETTER;
+            if (parameters == 1 && (prefix & SETTER_PREFIX) != 0)
+                return SETTER;
+        }
+        return CUSTOM;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.tecknobit.javadocky.core;
+
+/**
+ * {@code Tag} list of available tags to use to give directions to {@code JavaDocky}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public enum Tag {
+
+    /**
+     * {@code className} tag -> use to fetch the name of the class
+     */
+    className("className"),
+
+    /**
+     * {@code instance} tag -> use to link to an instance of the class
+     */
+    instance("instance"),
+
+    /**
+     * {@code params} tag -> use to insert the linked params
+     */
+    params("params"),
+
+    /**
+     * {@code returnType} tag -> use to fetch the return type of method
+     */
+    returnType("returnType"),
+
+    /**
+     * {@code hasP} tag -> use to document only the methods with the specified params
+     *
+     * @implNote {@code <hasP>} params_name_value, ..., params_name_value, <b>must be in the same line</b>
+     * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+     */
+    hasP("hasP"),
+
+    /**
+     * {@code returnTypeIs} tag -> use to document only the methods with the specified return type
+     *
+     * @implNote {@code <returnTypeIs>} boolean, <b>must be in the same line</b>
+     * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+     */
+    returnTypeIs("returnTypeIs"),
+
+    /**
+     * {@code nameContains} tag -> use to document only the methods if contain the specified name path
+     *
+     * @implNote {@code <nameContains>} characters_sequence, <b>must be in the same line</b>
+     * @apiNote if not specified will be used the name given to the custom method
+     * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+     */
+    nameContains("nameContains");
+
+    /**
+     * {@code tag} value
+     */
+    private final String tag;
+
+    /**
+     * Constructor to init {@link Tag}
+     *
+     * @param tag: tag value
+     */
+    Tag(String tag) {
+        this.tag = "<" + tag + ">";
+    }
+
+    /**
+     * Method to get {@link #tag} instance <br>
+     * No-any params required
+     *
+     * @return {@link #tag} instance as {@link String}
+     */
+    public String getTag() {
+        return tag;
+    }
+
+}
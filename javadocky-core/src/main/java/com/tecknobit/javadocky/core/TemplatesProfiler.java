@@ -0,0 +1,182 @@
+package com.tecknobit.javadocky.core;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code TemplatesProfiler} class is useful to record how the {@link MethodType#CUSTOM} templates are matched
+ * during the runs, so the templates which never match can be removed and the most used ones can be moved first
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the profiler is disabled by default and when disabled the matching only reads the {@link #enabled} flag
+ **/
+public class TemplatesProfiler {
+
+    /**
+     * {@code enabled} whether the matching of the custom templates has to be profiled
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * {@code STATISTICS} the statistics of the custom templates mapped by their names
+     */
+    private static final ConcurrentHashMap<String, TemplateStatistics> STATISTICS = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to init {@link TemplatesProfiler}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private TemplatesProfiler() {
+    }
+
+    /**
+     * Method to record a match attempt of a custom template
+     *
+     * @param name:  the name of the custom template
+     * @param hit:   whether the custom template matched the method
+     * @param used:  whether the custom template has been used to document the method
+     * @param nanos: the time spent to evaluate the custom template in nanoseconds
+     */
+    public static void record(String name, boolean hit, boolean used, long nanos) {
+        TemplateStatistics statistics = STATISTICS.computeIfAbsent(name, TemplateStatistics::new);
+        statistics.attempts.increment();
+        if (hit)
+            statistics.hits.increment();
+        if (used)
+            statistics.uses.increment();
+        statistics.evaluationTime.add(nanos);
+    }
+
+    /**
+     * Method to get the statistics recorded <br>
+     * No-any params required
+     *
+     * @return the statistics recorded as {@link ArrayList} of {@link TemplateStatistics}
+     */
+    public static ArrayList<TemplateStatistics> getStatistics() {
+        return new ArrayList<>(STATISTICS.values());
+    }
+
+    /**
+     * Method to clear the statistics recorded <br>
+     * No-any params required
+     */
+    public static void reset() {
+        STATISTICS.clear();
+    }
+
+    /**
+     * Method to get {@link #enabled} instance <br>
+     * No-any params required
+     *
+     * @return {@link #enabled} instance as boolean
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Method to set {@link #enabled} instance
+     *
+     * @param enabled: whether the matching of the custom templates has to be profiled
+     */
+    public static void setEnabled(boolean enabled) {
+        TemplatesProfiler.enabled = enabled;
+    }
+
+    /**
+     * The {@code TemplateStatistics} class is useful to store the statistics of a custom template
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static class TemplateStatistics {
+
+        /**
+         * {@code name} the name of the custom template
+         */
+        private final String name;
+
+        /**
+         * {@code attempts} the number of the methods evaluated with the custom template
+         */
+        private final LongAdder attempts = new LongAdder();
+
+        /**
+         * {@code hits} the number of the methods matched by the custom template
+         */
+        private final LongAdder hits = new LongAdder();
+
+        /**
+         * {@code uses} the number of the methods documented with the custom template
+         */
+        private final LongAdder uses = new LongAdder();
+
+        /**
+         * {@code evaluationTime} the cumulative time spent to evaluate the custom template in nanoseconds
+         */
+        private final LongAdder evaluationTime = new LongAdder();
+
+        /**
+         * Constructor to init {@link TemplateStatistics}
+         *
+         * @param name: the name of the custom template
+         */
+        private TemplateStatistics(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Method to get {@link #name} instance <br>
+         * No-any params required
+         *
+         * @return {@link #name} instance as {@link String}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Method to get {@link #attempts} instance <br>
+         * No-any params required
+         *
+         * @return {@link #attempts} instance as long
+         */
+        public long getAttempts() {
+            return attempts.sum();
+        }
+
+        /**
+         * Method to get {@link #hits} instance <br>
+         * No-any params required
+         *
+         * @return {@link #hits} instance as long
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * Method to get {@link #uses} instance <br>
+         * No-any params required
+         *
+         * @return {@link #uses} instance as long
+         */
+        public long getUses() {
+            return uses.sum();
+        }
+
+        /**
+         * Method to get {@link #evaluationTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #evaluationTime} instance as long
+         */
+        public long getEvaluationTime() {
+            return evaluationTime.sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.tecknobit.javadocky.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.javadocky.core.MethodType.CUSTOM;
+
+/**
+ * The {@code TemplatesSnapshot} class is an immutable and versioned snapshot of all the {@code JavaDocky}'s
+ * docu-templates, so they can be read by any thread without locks and without touching the backing store
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each change of the configuration creates a new snapshot with a new version
+ **/
+public final class TemplatesSnapshot {
+
+    /**
+     * {@code VERSIONS} the generator of the versions of the snapshots
+     */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /**
+     * {@code version} the version of the snapshot
+     */
+    private final long version;
+
+    /**
+     * {@code templates} the docu-templates mapped by their key
+     */
+    private final Map<String, String> templates;
+
+    /**
+     * {@code customMethodTemplates} the {@link MethodType#CUSTOM} templates mapped by their names
+     */
+    private final Map<String, String> customMethodTemplates;
+
+    /**
+     * {@code customMethodsMatcher} the matcher of the {@link MethodType#CUSTOM} templates, lazily created
+     */
+    private volatile CustomMethodsMatcher customMethodsMatcher;
+
+    /**
+     * Constructor to init {@link TemplatesSnapshot}
+     *
+     * @param templates: the docu-templates mapped by their key
+     */
+    public TemplatesSnapshot(Map<String, String> templates) {
+        version = VERSIONS.incrementAndGet();
+        this.templates = Collections.unmodifiableMap(new LinkedHashMap<>(templates));
+        LinkedHashMap<String, String> customTemplates = new LinkedHashMap<>();
+        String vCustom = CUSTOM.name();
+        for (Map.Entry<String, String> template : templates.entrySet()) {
+            String key = template.getKey();
+            if (key.startsWith(vCustom))
+                customTemplates.put(key.substring(vCustom.length()), template.getValue());
+        }
+        customMethodTemplates = Collections.unmodifiableMap(customTemplates);
+    }
+
+    /**
+     * Method to create a new snapshot with a docu-template added or replaced
+     *
+     * @param key:      the key of the docu-template
+     * @param template: the docu-template value
+     * @return the new snapshot as {@link TemplatesSnapshot}
+     */
+    public TemplatesSnapshot with(String key, String template) {
+        LinkedHashMap<String, String> vTemplates = new LinkedHashMap<>(templates);
+        vTemplates.put(key, template);
+        return new TemplatesSnapshot(vTemplates);
+    }
+
+    /**
+     * Method to create a new snapshot without a docu-template
+     *
+     * @param key: the key of the docu-template to remove
+     * @return the new snapshot as {@link TemplatesSnapshot}
+     */
+    public TemplatesSnapshot without(String key) {
+        LinkedHashMap<String, String> vTemplates = new LinkedHashMap<>(templates);
+        vTemplates.remove(key);
+        return new TemplatesSnapshot(vTemplates);
+    }
+
+    /**
+     * Method to get a docu-template
+     *
+     * @param key: the key of the docu-template
+     * @param def: def value to return if not exits
+     * @return the docu-template as {@link String}
+     */
+    public String get(String key, String def) {
+        return templates.getOrDefault(key, def);
+    }
+
+    /**
+     * Method to get {@link #templates} instance <br>
+     * No-any params required
+     *
+     * @return {@link #templates} instance as unmodifiable {@link Map} of {@link String}
+     */
+    public Map<String, String> getTemplates() {
+        return templates;
+    }
+
+    /**
+     * Method to get {@link #customMethodTemplates} instance <br>
+     * No-any params required
+     *
+     * @return {@link #customMethodTemplates} instance as unmodifiable {@link Map} of {@link String}
+     */
+    public Map<String, String> getCustomMethodTemplates() {
+        return customMethodTemplates;
+    }
+
+    /**
+     * Method to get the matcher of the {@link MethodType#CUSTOM} templates of this snapshot <br>
+     * No-any params required
+     *
+     * @return the matcher of the {@link MethodType#CUSTOM} templates as {@link CustomMethodsMatcher}
+     * @apiNote the matcher is created only the first time is requested
+     */
+    public CustomMethodsMatcher getCustomMethodsMatcher() {
+        CustomMethodsMatcher matcher = customMethodsMatcher;
+        if (matcher == null) {
+            matcher = new CustomMethodsMatcher(version, customMethodTemplates);
+            customMethodsMatcher = matcher;
+        }
+        return matcher;
+    }
+
+    /**
+     * Method to get {@link #version} instance <br>
+     * No-any params required
+     *
+     * @return {@link #version} instance as long
+     */
+    public long getVersion() {
+        return version;
+    }
+
+}
@@ -0,0 +1,51 @@
+plugins {
+    id("java")
+    id("application")
+}
+
+group = "com.tecknobit"
+version = "1.0.5"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":javadocky-core"))
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.0")
+}
+
+application {
+    applicationName = "javadocky-rewriter"
+    mainClass.set("com.tecknobit.javadocky.rewriter.JavaDockyRewriter")
+}
+
+val daemonStartScripts by tasks.registering(CreateStartScripts::class) {
+    applicationName = "javadocky-daemon"
+    mainClass.set("com.tecknobit.javadocky.rewriter.JavaDockyDaemon")
+    outputDir = layout.buildDirectory.dir("daemonScripts").get().asFile
+    classpath = files(tasks.jar) + configurations.runtimeClasspath.get()
+}
+
+distributions {
+    main {
+        contents {
+            from(daemonStartScripts) {
+                into("bin")
+            }
+        }
+    }
+}
+
+tasks {
+
+    withType<JavaCompile> {
+        sourceCompatibility = "17"
+        targetCompatibility = "17"
+    }
+
+    test {
+        useJUnitPlatform()
+    }
+
+}
@@ -0,0 +1,407 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+import com.tecknobit.javadocky.rewriter.RewritersPool.Statistics;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.javadocky.rewriter.JavaDockyRewriter.TEMPLATES_FILE_NAME;
+
+/**
+ * The {@code JavaDockyDaemon} class is useful to keep the {@code JavaDocky}'s rewriter warm in a long-lived process,
+ * so the build scripts and the hooks can document or check a few files in some milliseconds instead of starting a new
+ * JVM each time:
+ * <pre>
+ *   {@code
+ *       javadocky-daemon [--socket <socket file>] [--threads <threads>]
+ *   }
+ * </pre>
+ * without {@code --socket} the requests are read from the standard input and the responses written in the standard
+ * output, otherwise they are exchanged through the connections to a Unix-domain socket bound to the socket file. Each
+ * request is a line with the command, followed, for {@code check} and {@code apply}, by a path for each line and an
+ * empty line:
+ * <pre>
+ *   {@code
+ *       check <project directory>        apply <project directory>        ping        shutdown
+ *       <path>                           <path>
+ *       ...                              ...
+ *       <empty line>                     <empty line>
+ *   }
+ * </pre>
+ * the paths are relative to the project directory, where the {@link JavaDockyRewriter#TEMPLATES_FILE_NAME} file is
+ * read, and if not specified the whole project directory is used. The response of {@code check} lists the members
+ * not documented with the same format of the {@code javadocky --check} command, the one of {@code apply} lists the
+ * files changed, both end with:
+ * <pre>
+ *   {@code
+ *       DONE <members> <files> <cached files> <failed files> <elapsed time in ms>
+ *   }
+ * </pre>
+ * while {@code ping} and {@code shutdown} are answered with {@code OK} and an invalid request with
+ * {@code ERROR <message>}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the docu-templates are parsed again only when their file changes and the results of the files are cached by
+ * the {@link RewritersPool}, so the files not modified since the previous request are not read again. The requests are
+ * not authenticated, so the directory of the socket file must be accessible only by the user who runs the daemon,
+ * which is required where the file system supports the POSIX permissions
+ **/
+public class JavaDockyDaemon {
+
+    /**
+     * {@code USAGE} the usage of the command
+     */
+    private static final String USAGE = "Usage: javadocky-daemon [--socket <socket file>] [--threads <threads>]";
+
+    /**
+     * {@code INVALID_ARGUMENTS_EXIT_CODE} the exit code when the arguments are not valid
+     */
+    private static final int INVALID_ARGUMENTS_EXIT_CODE = 2;
+
+    /**
+     * {@code FAILURE_EXIT_CODE} the exit code when the daemon fails
+     */
+    private static final int FAILURE_EXIT_CODE = 3;
+
+    /**
+     * {@code OWNER_ONLY_PERMISSIONS} the permissions of the directory of the socket file, accessible only by its owner
+     */
+    private static final Set<PosixFilePermission> OWNER_ONLY_PERMISSIONS =
+            PosixFilePermissions.fromString("rwx------");
+
+    /**
+     * {@code SOCKET_FILE_PERMISSIONS} the permissions of the socket file
+     */
+    private static final Set<PosixFilePermission> SOCKET_FILE_PERMISSIONS =
+            PosixFilePermissions.fromString("rw-------");
+
+    /**
+     * {@code pool} the pool which rewrites the files of the requests
+     */
+    private final RewritersPool pool;
+
+    /**
+     * {@code templatesFiles} the docu-templates loaded mapped by the path of their file
+     */
+    private final ConcurrentHashMap<Path, TemplatesFile> templatesFiles = new ConcurrentHashMap<>();
+
+    /**
+     * {@code serverChannel} the channel which accepts the connections, {@code null} if the requests are read from the
+     * standard input
+     */
+    private volatile ServerSocketChannel serverChannel;
+
+    /**
+     * {@code connections} the number of the connections accepted
+     */
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * {@code running} whether the daemon is running
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Constructor to init {@link JavaDockyDaemon}
+     *
+     * @param threads: the number of the threads which rewrite the files
+     */
+    private JavaDockyDaemon(int threads) {
+        pool = new RewritersPool(threads, true);
+    }
+
+    /**
+     * Method to run the daemon
+     *
+     * @param args: the arguments of the command
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Method to run the daemon
+     *
+     * @param args: the arguments of the command
+     * @return the exit code of the daemon as int
+     */
+    private static int run(String[] args) {
+        Path socketFile = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int j = 0; j < args.length; j++) {
+            String arg = args[j];
+            if (!arg.equals("--socket") && !arg.equals("--threads"))
+                return invalidArguments("Unexpected argument: " + arg);
+            if (++j == args.length)
+                return invalidArguments(arg + " requires a value");
+            if (arg.equals("--socket")) {
+                try {
+                    socketFile = Path.of(args[j]).toAbsolutePath().normalize();
+                } catch (InvalidPathException e) {
+                    return invalidArguments("--socket requires a valid path");
+                }
+            } else {
+                try {
+                    threads = Integer.parseInt(args[j]);
+                } catch (NumberFormatException e) {
+                    threads = 0;
+                }
+                if (threads <= 0)
+                    return invalidArguments("--threads requires a positive number");
+            }
+        }
+        JavaDockyDaemon daemon = new JavaDockyDaemon(threads);
+        try {
+            if (socketFile == null)
+                daemon.serve(System.in, System.out);
+            else
+                daemon.listen(socketFile);
+            return 0;
+        } catch (Throwable e) {
+            System.err.println("JavaDocky daemon failed: " + e);
+            return FAILURE_EXIT_CODE;
+        } finally {
+            daemon.pool.close();
+        }
+    }
+
+    /**
+     * Method to report that the arguments are not valid
+     *
+     * @param message: the message to report
+     * @return the {@link #INVALID_ARGUMENTS_EXIT_CODE} as int
+     */
+    private static int invalidArguments(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return INVALID_ARGUMENTS_EXIT_CODE;
+    }
+
+    /**
+     * Method to accept the connections to a Unix-domain socket, serving each one in its own thread
+     *
+     * @param socketFile: the file where bind the socket
+     * @throws IOException when the socket cannot be bound or its directory is accessible by other users
+     * @apiNote the socket file is removed when the daemon is shut down, a socket file left by a previous daemon is
+     * replaced, while any other file is not
+     */
+    private void listen(Path socketFile) throws IOException {
+        Path directory = socketFile.getParent();
+        boolean posix = Files.getFileStore(Files.createDirectories(directory))
+                .supportsFileAttributeView(PosixFileAttributeView.class);
+        if (posix) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(directory);
+            if (!OWNER_ONLY_PERMISSIONS.containsAll(permissions)) {
+                throw new IOException("The directory " + directory + " of the socket must be accessible only by its "
+                        + "owner, current permissions: " + PosixFilePermissions.toString(permissions));
+            }
+        }
+        if (Files.exists(socketFile, LinkOption.NOFOLLOW_LINKS)) {
+            if (!Files.readAttributes(socketFile, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther())
+                throw new IOException("The file " + socketFile + " exists and is not a socket");
+            Files.delete(socketFile);
+        }
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketFile));
+            serverChannel = server;
+            try {
+                if (posix)
+                    Files.setPosixFilePermissions(socketFile, SOCKET_FILE_PERMISSIONS);
+                System.out.println("JavaDocky daemon listening on " + socketFile);
+                System.out.flush();
+                while (running) {
+                    SocketChannel channel;
+                    try {
+                        channel = server.accept();
+                    } catch (IOException e) {
+                        if (!running)
+                            break;
+                        throw e;
+                    }
+                    Thread connection = new Thread(() -> {
+                        try (channel) {
+                            serve(Channels.newInputStream(channel), Channels.newOutputStream(channel));
+                        } catch (IOException e) {
+                            System.err.println("JavaDocky daemon: connection failed: " + e);
+                        }
+                    }, "javadocky-connection-" + connections.incrementAndGet());
+                    connection.setDaemon(true);
+                    connection.start();
+                }
+            } finally {
+                Files.deleteIfExists(socketFile);
+            }
+        }
+    }
+
+    /**
+     * Method to serve the requests of a stream until it ends or the daemon is shut down
+     *
+     * @param input:  the stream from read the requests
+     * @param output: the stream where write the responses
+     * @throws IOException when the streams cannot be read or written
+     */
+    private void serve(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        PrintStream out = new PrintStream(new BufferedOutputStream(output), false, StandardCharsets.UTF_8);
+        while (running) {
+            String header = reader.readLine();
+            if (header == null)
+                break;
+            header = header.strip();
+            if (header.isEmpty())
+                continue;
+            int separator = header.indexOf(' ');
+            String command = separator == -1 ? header : header.substring(0, separator);
+            String argument = separator == -1 ? "" : header.substring(separator + 1).strip();
+            switch (command) {
+                case "ping" -> out.println("OK");
+                case "shutdown" -> {
+                    out.println("OK");
+                    out.flush();
+                    shutdown();
+                }
+                case "check", "apply" -> rewrite(command.equals("check"), argument, reader, out);
+                default -> out.println("ERROR Unknown command: " + command);
+            }
+            out.flush();
+        }
+        out.flush();
+    }
+
+    /**
+     * Method to serve a {@code check} or an {@code apply} request
+     *
+     * @param check:     whether the files must be only checked
+     * @param directory: the project directory of the request
+     * @param reader:    the reader from read the paths of the request
+     * @param out:       the stream where write the response
+     * @throws IOException when the paths cannot be read
+     */
+    private void rewrite(boolean check, String directory, BufferedReader reader, PrintStream out) throws IOException {
+        long start = System.nanoTime();
+        ArrayList<String> relativePaths = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null && !line.isBlank())
+            relativePaths.add(line.strip());
+        if (directory.isEmpty()) {
+            out.println("ERROR The project directory is required");
+            return;
+        }
+        try {
+            Path projectDir = Path.of(directory).toAbsolutePath().normalize();
+            ArrayList<Path> paths = new ArrayList<>();
+            for (String relativePath : relativePaths)
+                paths.add(projectDir.resolve(relativePath).normalize());
+            if (paths.isEmpty())
+                paths.add(projectDir);
+            for (Path path : paths) {
+                if (!Files.exists(path)) {
+                    out.println("ERROR The path " + path + " does not exist");
+                    return;
+                }
+            }
+            TemplatesSnapshot snapshot = getSnapshot(projectDir.resolve(TEMPLATES_FILE_NAME));
+            if (snapshot == null) {
+                out.println("ERROR The templates file " + projectDir.resolve(TEMPLATES_FILE_NAME)
+                        + " does not exist");
+                return;
+            }
+            Statistics statistics = pool.rewrite(snapshot, paths, check, out);
+            out.println("DONE " + statistics.getMembers() + " " + statistics.getFiles() + " "
+                    + statistics.getCachedFiles() + " " + statistics.getFailedFiles() + " "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InvalidPathException | IOException e) {
+            out.println("ERROR " + e);
+        }
+    }
+
+    /**
+     * Method to get the docu-templates of a templates file
+     *
+     * @param templatesFile: the templates file from get the docu-templates
+     * @return the docu-templates as {@link TemplatesSnapshot}, {@code null} if the templates file does not exist
+     * @throws IOException when the templates file cannot be read or is not valid
+     * @apiNote the templates file is parsed again only when it has been modified, so its compiled templates and the
+     * results of the files cached with them are reused between the requests
+     */
+    private TemplatesSnapshot getSnapshot(Path templatesFile) throws IOException {
+        if (!Files.isRegularFile(templatesFile))
+            return null;
+        FileTime lastModified = Files.getLastModifiedTime(templatesFile);
+        TemplatesFile loadedFile = templatesFiles.get(templatesFile);
+        if (loadedFile == null || !loadedFile.lastModified.equals(lastModified)) {
+            loadedFile = new TemplatesFile(lastModified, JavaDockyRewriter.loadTemplates(templatesFile));
+            templatesFiles.put(templatesFile, loadedFile);
+        }
+        return loadedFile.snapshot;
+    }
+
+    /**
+     * Method to shut down the daemon, the requests in progress are completed <br>
+     * No-any params required
+     */
+    private void shutdown() {
+        running = false;
+        ServerSocketChannel server = serverChannel;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                System.err.println("JavaDocky daemon: cannot close the socket: " + e);
+            }
+        }
+    }
+
+    /**
+     * The {@code TemplatesFile} class is useful to keep the docu-templates loaded from a templates file until it
+     * changes
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class TemplatesFile {
+
+        /**
+         * {@code lastModified} the time when the templates file has been modified
+         */
+        private final FileTime lastModified;
+
+        /**
+         * {@code snapshot} the docu-templates loaded from the templates file
+         */
+        private final TemplatesSnapshot snapshot;
+
+        /**
+         * Constructor to init {@link TemplatesFile}
+         *
+         * @param lastModified: the time when the templates file has been modified
+         * @param snapshot:     the docu-templates loaded from the templates file
+         */
+        private TemplatesFile(FileTime lastModified, TemplatesSnapshot snapshot) {
+            this.lastModified = lastModified;
+            this.snapshot = snapshot;
+        }
+
+    }
+
+}
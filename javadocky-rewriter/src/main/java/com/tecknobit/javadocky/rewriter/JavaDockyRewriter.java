@@ -0,0 +1,190 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+import com.tecknobit.javadocky.rewriter.RewritersPool.Statistics;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code JavaDockyRewriter} class is useful to document the Java files of huge repositories without any IDE,
+ * rendering the docu-templates shared in the {@link #TEMPLATES_FILE_NAME} file of a project:
+ * <pre>
+ *   {@code
+ *       javadocky-rewriter [--templates <templates file>] [--threads <threads>] [--check] <path>...
+ *   }
+ * </pre>
+ * the paths can be files or directories, the directories are walked skipping the hidden ones. With {@code --check}
+ * the files are not modified and the command fails listing the members still not documented, with the same format of
+ * the {@code javadocky --check} command of the plugin
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the files are rewritten in parallel by a {@link RewritersPool} and the files waiting to be rewritten are
+ * bounded, so the memory used does not grow with the size of the repository
+ **/
+public class JavaDockyRewriter {
+
+    /**
+     * {@code TEMPLATES_FILE_NAME} the name of the file where the docu-templates are read by default
+     */
+    public static final String TEMPLATES_FILE_NAME = ".javadocky.xml";
+
+    /**
+     * {@code USAGE} the usage of the command
+     */
+    private static final String USAGE = "Usage: javadocky-rewriter [--templates <templates file>] "
+            + "[--threads <threads>] [--check] <path>...";
+
+    /**
+     * {@code CHECK_FAILED_EXIT_CODE} the exit code when the check finds members not documented
+     */
+    private static final int CHECK_FAILED_EXIT_CODE = 1;
+
+    /**
+     * {@code INVALID_ARGUMENTS_EXIT_CODE} the exit code when the arguments are not valid
+     */
+    private static final int INVALID_ARGUMENTS_EXIT_CODE = 2;
+
+    /**
+     * {@code FAILURE_EXIT_CODE} the exit code when the run fails
+     */
+    private static final int FAILURE_EXIT_CODE = 3;
+
+    /**
+     * Constructor to init {@link JavaDockyRewriter}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private JavaDockyRewriter() {
+    }
+
+    /**
+     * Method to run the command
+     *
+     * @param args: the arguments of the command
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Method to run the command
+     *
+     * @param args: the arguments of the command
+     * @return the exit code of the run as int
+     */
+    private static int run(String[] args) {
+        Path templatesFile = Path.of(TEMPLATES_FILE_NAME);
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean check = false;
+        ArrayList<Path> paths = new ArrayList<>();
+        for (int j = 0; j < args.length; j++) {
+            String arg = args[j];
+            switch (arg) {
+                case "--check" -> check = true;
+                case "--templates", "--threads" -> {
+                    if (++j == args.length)
+                        return invalidArguments(arg + " requires a value");
+                    if (arg.equals("--templates"))
+                        templatesFile = Path.of(args[j]);
+                    else {
+                        try {
+                            threads = Integer.parseInt(args[j]);
+                        } catch (NumberFormatException e) {
+                            threads = 0;
+                        }
+                        if (threads <= 0)
+                            return invalidArguments("--threads requires a positive number");
+                    }
+                }
+                default -> {
+                    if (arg.startsWith("--"))
+                        return invalidArguments("Unexpected argument: " + arg);
+                    paths.add(Path.of(arg));
+                }
+            }
+        }
+        if (paths.isEmpty())
+            return invalidArguments("At least a path is required");
+        if (!Files.isRegularFile(templatesFile))
+            return invalidArguments("The templates file " + templatesFile + " does not exist");
+        try {
+            long start = System.nanoTime();
+            TemplatesSnapshot snapshot = loadTemplates(templatesFile);
+            Statistics statistics;
+            try (RewritersPool pool = new RewritersPool(threads, false)) {
+                statistics = pool.rewrite(snapshot, paths, check, check ? System.out : null);
+            }
+            long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            double megabytes = statistics.getBytes() / (1024.0 * 1024.0);
+            double throughput = elapsedTime > 0 ? megabytes * 60000 / elapsedTime : megabytes;
+            if (check) {
+                System.out.printf("JavaDocky: %d members not documented in %d files checked (%.1f MB) in %d ms, "
+                                + "%.1f MB/min%n", statistics.getMembers(), statistics.getFiles(), megabytes,
+                        elapsedTime, throughput);
+            } else {
+                System.out.printf("JavaDocky: %d docu-comments added in %d of %d files (%.1f MB) in %d ms, "
+                                + "%.1f MB/min%n", statistics.getMembers(), statistics.getChangedFiles(),
+                        statistics.getFiles(), megabytes, elapsedTime, throughput);
+            }
+            if (statistics.getFailedFiles() > 0)
+                return FAILURE_EXIT_CODE;
+            if (check && statistics.getMembers() > 0)
+                return CHECK_FAILED_EXIT_CODE;
+            return 0;
+        } catch (Throwable e) {
+            System.err.println("JavaDocky run failed: " + e);
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Method to report that the arguments are not valid
+     *
+     * @param message: the message to report
+     * @return the {@link #INVALID_ARGUMENTS_EXIT_CODE} as int
+     */
+    private static int invalidArguments(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return INVALID_ARGUMENTS_EXIT_CODE;
+    }
+
+    /**
+     * Method to load the docu-templates from a templates file, written like the {@link #TEMPLATES_FILE_NAME} file of
+     * the plugin
+     *
+     * @param templatesFile: the templates file to load
+     * @return the docu-templates loaded as {@link TemplatesSnapshot}
+     * @throws IOException when the templates file cannot be read or is not valid
+     */
+    public static TemplatesSnapshot loadTemplates(Path templatesFile) throws IOException {
+        LinkedHashMap<String, String> templates = new LinkedHashMap<>();
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            NodeList nodes = factory.newDocumentBuilder().parse(templatesFile.toFile()).getDocumentElement()
+                    .getElementsByTagName("template");
+            for (int j = 0; j < nodes.getLength(); j++) {
+                Element template = (Element) nodes.item(j);
+                if (template.hasAttribute("key"))
+                    templates.put(template.getAttribute("key"), template.getTextContent().trim());
+            }
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Cannot load the docu-templates from " + templatesFile, e);
+        }
+        return new TemplatesSnapshot(templates);
+    }
+
+}
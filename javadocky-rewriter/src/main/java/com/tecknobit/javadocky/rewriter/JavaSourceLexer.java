@@ -0,0 +1,1322 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.MemberDescriptor.Kind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code JavaSourceLexer} class is useful to find in a Java source the declarations of the classes, the fields,
+ * the constructors and the methods, and whether they already have a docu-comment, streaming over the source only once
+ * without building any syntax tree:
+ * <ul>
+ *     <li>
+ *         the comments, the strings, the text blocks and the char literals are skipped by the tokenizer, so their
+ *         content cannot be confused with the declarations
+ *     </li>
+ *     <li>
+ *         the bodies of the methods, the initializers and the values of the fields are skipped counting their
+ *         brackets, so the local and the anonymous classes are not reported, like the plugin does
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the lexer reuses its buffers, so it must be used by a single thread, the declarations are reported in the
+ * order of their offsets through a {@link DeclarationsListener} and the values of a {@link Declaration} are valid only
+ * during its notification
+ **/
+public class JavaSourceLexer {
+
+    /**
+     * {@code TokenKind} list of the kinds of the tokens
+     */
+    private enum TokenKind {
+
+        /**
+         * {@code IDENTIFIER} -> an identifier or a keyword
+         */
+        IDENTIFIER,
+
+        /**
+         * {@code SYMBOL} -> a single character symbol
+         */
+        SYMBOL,
+
+        /**
+         * {@code LITERAL} -> a number, a string, a text block or a char literal
+         */
+        LITERAL,
+
+        /**
+         * {@code EOF} -> the end of the source
+         */
+        EOF
+
+    }
+
+    /**
+     * The {@code DeclarationsListener} interface is useful to be notified when a declaration is found
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public interface DeclarationsListener {
+
+        /**
+         * Method invoked when a declaration is found
+         *
+         * @param declaration: the declaration found, valid only during this invocation
+         */
+        void onDeclaration(Declaration declaration);
+
+    }
+
+    /**
+     * {@code MODIFIERS} the modifiers which can precede a declaration
+     */
+    private static final Set<String> MODIFIERS = Set.of("public", "protected", "private", "static", "final",
+            "abstract", "native", "synchronized", "transient", "volatile", "strictfp", "default", "sealed");
+
+    /**
+     * {@code SETTER_PREFIX} the prefix of the setter methods
+     */
+    private static final String SETTER_PREFIX = "set";
+
+    /**
+     * {@code declaration} the reused declaration notified to the listener
+     */
+    private final Declaration declaration = new Declaration();
+
+    /**
+     * {@code containers} the qualified names of the classes which contain the current position
+     */
+    private final ArrayList<String> containers = new ArrayList<>();
+
+    /**
+     * {@code typeParameters} the type parameters visible from the current position
+     */
+    private final ArrayList<String> typeParameters = new ArrayList<>();
+
+    /**
+     * {@code textBuilder} the reused builder where the texts of the types are normalized
+     */
+    private final StringBuilder textBuilder = new StringBuilder();
+
+    /**
+     * {@code listener} the listener of the current scan
+     */
+    private DeclarationsListener listener;
+
+    /**
+     * {@code source} the characters of the source to scan
+     */
+    private char[] source;
+
+    /**
+     * {@code limit} the number of the characters of the {@link #source}
+     */
+    private int limit;
+
+    /**
+     * {@code position} the position where the next token starts to be read
+     */
+    private int position;
+
+    /**
+     * {@code kind} the kind of the current token
+     */
+    private TokenKind kind;
+
+    /**
+     * {@code tokenStart} the offset where the current token starts
+     */
+    private int tokenStart;
+
+    /**
+     * {@code tokenEnd} the offset where the current token ends
+     */
+    private int tokenEnd;
+
+    /**
+     * {@code docCommentBefore} whether a docu-comment precedes the current token
+     */
+    private boolean docCommentBefore;
+
+    /**
+     * {@code packageName} the name of the package of the source
+     */
+    private String packageName;
+
+    /**
+     * {@code lineOffset} the offset until the lines have been counted
+     */
+    private int lineOffset;
+
+    /**
+     * {@code line} the line of the {@link #lineOffset}
+     */
+    private int line;
+
+    /**
+     * Method to scan a source
+     *
+     * @param source:   the characters of the source
+     * @param length:   the number of the characters of the source
+     * @param listener: the listener to notify when a declaration is found
+     */
+    public void scan(char[] source, int length, DeclarationsListener listener) {
+        this.source = source;
+        this.limit = length;
+        this.listener = listener;
+        position = length > 0 && source[0] == '\uFEFF' ? 1 : 0;
+        packageName = "";
+        lineOffset = 0;
+        line = 1;
+        containers.clear();
+        typeParameters.clear();
+        next();
+        while (kind != TokenKind.EOF) {
+            parseMembers(false, true);
+            if (isSymbol('}'))
+                next();
+        }
+        this.source = null;
+        this.listener = null;
+    }
+
+    /**
+     * Method to parse the members of a class body or of the compilation unit
+     *
+     * @param enumBody: whether the body is the one of an enum, so it starts with the enum constants
+     * @param topLevel: whether the members are the ones of the compilation unit
+     * @apiNote the closing bracket of the body, if any, is consumed
+     */
+    private void parseMembers(boolean enumBody, boolean topLevel) {
+        if (enumBody && parseEnumConstants())
+            return;
+        while (kind != TokenKind.EOF) {
+            if (isSymbol('}')) {
+                if (!topLevel)
+                    next();
+                return;
+            }
+            if (kind != TokenKind.IDENTIFIER && !isSymbol('@') && !isSymbol('{') && !isSymbol('<')) {
+                next();
+                continue;
+            }
+            int start = tokenStart;
+            boolean documented = docCommentBefore;
+            boolean overrides = false;
+            boolean annotationType = false;
+            while (kind != TokenKind.EOF) {
+                if (isSymbol('@')) {
+                    if (startsWithIdentifier(tokenEnd, "interface")) {
+                        annotationType = true;
+                        next();
+                        break;
+                    }
+                    overrides |= skipAnnotation();
+                } else if (kind == TokenKind.IDENTIFIER && MODIFIERS.contains(text(tokenStart, tokenEnd)))
+                    next();
+                else if (isIdentifier("non") && tokenEnd < limit && source[tokenEnd] == '-') {
+                    next();
+                    next();
+                    next();
+                } else
+                    break;
+            }
+            if (topLevel && (isIdentifier("package") || isIdentifier("import"))) {
+                boolean isPackage = isIdentifier("package");
+                int nameStart = tokenEnd;
+                while (kind != TokenKind.EOF && !isSymbol(';'))
+                    next();
+                if (isPackage)
+                    packageName = normalize(nameStart, tokenStart);
+                next();
+            } else if (isSymbol('{'))
+                skipBalanced('{', '}');
+            else if (annotationType || isIdentifier("class") || isIdentifier("interface") || isIdentifier("enum")
+                    || (isIdentifier("record") && isRecordHeader()))
+                parseType(start, documented, isIdentifier("enum"));
+            else
+                parseMember(start, documented, overrides);
+        }
+    }
+
+    /**
+     * Method to parse the constants of an enum
+     *
+     * @return whether the body of the enum has been ended by the constants as boolean
+     * @apiNote the constants are reported as fields, like the plugin does
+     */
+    private boolean parseEnumConstants() {
+        while (kind != TokenKind.EOF) {
+            if (isSymbol(';')) {
+                next();
+                return false;
+            }
+            if (isSymbol('}')) {
+                next();
+                return true;
+            }
+            int start = tokenStart;
+            boolean documented = docCommentBefore;
+            while (isSymbol('@'))
+                skipAnnotation();
+            if (kind == TokenKind.IDENTIFIER) {
+                notifyDeclaration(Kind.FIELD, start, documented, false, tokenStart, tokenEnd);
+                next();
+                if (isSymbol('('))
+                    skipBalanced('(', ')');
+                if (isSymbol('{'))
+                    skipBalanced('{', '}');
+            } else if (!isSymbol(','))
+                next();
+            if (isSymbol(','))
+                next();
+        }
+        return true;
+    }
+
+    /**
+     * Method to parse the declaration of a class, an interface, an enum, a record or an annotation type
+     *
+     * @param start:      the offset where the declaration starts
+     * @param documented: whether the declaration has a docu-comment
+     * @param isEnum:     whether the declaration is the one of an enum
+     */
+    private void parseType(int start, boolean documented, boolean isEnum) {
+        next();
+        if (kind != TokenKind.IDENTIFIER)
+            return;
+        int typeParametersSize = typeParameters.size();
+        notifyDeclaration(Kind.CLASS, start, documented, false, tokenStart, tokenEnd);
+        String qualifiedName = declaration.getQualifiedName();
+        next();
+        if (isSymbol('<'))
+            parseTypeParameters();
+        while (kind != TokenKind.EOF && !isSymbol('{')) {
+            if (isSymbol('('))
+                skipBalanced('(', ')');
+            else
+                next();
+        }
+        if (kind != TokenKind.EOF) {
+            next();
+            containers.add(qualifiedName);
+            parseMembers(isEnum, false);
+            containers.remove(containers.size() - 1);
+        }
+        truncateTypeParameters(typeParametersSize);
+    }
+
+    /**
+     * Method to parse the declaration of a field, a constructor or a method
+     *
+     * @param start:      the offset where the declaration starts
+     * @param documented: whether the declaration has a docu-comment
+     * @param overrides:  whether the declaration is annotated with {@code @Override}
+     */
+    private void parseMember(int start, boolean documented, boolean overrides) {
+        int typeParametersSize = typeParameters.size();
+        if (isSymbol('<'))
+            parseTypeParameters();
+        int typeStart = tokenStart;
+        int nameStart = -1;
+        int nameEnd = -1;
+        int angles = 0;
+        while (kind != TokenKind.EOF) {
+            if (kind == TokenKind.SYMBOL) {
+                char symbol = source[tokenStart];
+                if (symbol == '@') {
+                    skipAnnotation();
+                    continue;
+                } else if (symbol == '<')
+                    angles++;
+                else if (symbol == '>')
+                    angles--;
+                else if (angles <= 0) {
+                    if (symbol == '(' && nameStart != -1) {
+                        parseMethod(start, documented, overrides, typeStart, nameStart, nameEnd);
+                        break;
+                    } else if ((symbol == '=' || symbol == ';' || symbol == ',') && nameStart != -1) {
+                        parseField(start, documented, nameStart, nameEnd);
+                        break;
+                    } else if (symbol == '{') {
+                        if (nameStart == typeStart && isContainerName(nameStart, nameEnd))
+                            parseCompactConstructor(start, documented, nameStart, nameEnd);
+                        else
+                            skipBalanced('{', '}');
+                        break;
+                    } else if (symbol == '}' || symbol == ';')
+                        break;
+                }
+            } else if (kind == TokenKind.IDENTIFIER) {
+                nameStart = tokenStart;
+                nameEnd = tokenEnd;
+            }
+            next();
+        }
+        truncateTypeParameters(typeParametersSize);
+    }
+
+    /**
+     * Method to parse the declaration of a constructor or a method from its parameters list
+     *
+     * @param start:      the offset where the declaration starts
+     * @param documented: whether the declaration has a docu-comment
+     * @param overrides:  whether the declaration is annotated with {@code @Override}
+     * @param typeStart:  the offset where the return type starts
+     * @param nameStart:  the offset where the name starts
+     * @param nameEnd:    the offset where the name ends
+     */
+    private void parseMethod(int start, boolean documented, boolean overrides, int typeStart, int nameStart,
+                             int nameEnd) {
+        boolean isConstructor = nameStart == typeStart;
+        declaration.returnTypeStart = typeStart;
+        declaration.returnTypeEnd = isConstructor ? -1 : nameStart;
+        declaration.parametersStart = tokenStart;
+        parseParameters();
+        declaration.parametersEnd = tokenEnd;
+        next();
+        while (kind != TokenKind.EOF && !isSymbol('{') && !isSymbol(';') && !isSymbol('}')) {
+            if (isSymbol('('))
+                skipBalanced('(', ')');
+            else
+                next();
+        }
+        int bodyStart = -1;
+        int bodyEnd = -1;
+        if (isSymbol('{')) {
+            bodyStart = tokenStart;
+            bodyEnd = skipBalanced('{', '}');
+        } else if (isSymbol(';'))
+            next();
+        declaration.bodyStart = bodyStart;
+        declaration.bodyEnd = bodyEnd;
+        notifyDeclaration(isConstructor ? Kind.CONSTRUCTOR : Kind.METHOD, start, documented, overrides, nameStart,
+                nameEnd);
+    }
+
+    /**
+     * Method to parse the compact constructor of a record
+     *
+     * @param start:      the offset where the declaration starts
+     * @param documented: whether the declaration has a docu-comment
+     * @param nameStart:  the offset where the name starts
+     * @param nameEnd:    the offset where the name ends
+     */
+    private void parseCompactConstructor(int start, boolean documented, int nameStart, int nameEnd) {
+        declaration.parameterNames.clear();
+        declaration.parameterTypes.clear();
+        declaration.returnTypeEnd = -1;
+        declaration.parametersStart = -1;
+        declaration.bodyStart = tokenStart;
+        declaration.bodyEnd = skipBalanced('{', '}');
+        notifyDeclaration(Kind.CONSTRUCTOR, start, documented, false, nameStart, nameEnd);
+    }
+
+    /**
+     * Method to parse the parameters list of a constructor or a method <br>
+     * No-any params required
+     *
+     * @apiNote the parsing starts from the opening bracket and ends on the closing one
+     */
+    private void parseParameters() {
+        ArrayList<String> names = declaration.parameterNames;
+        ArrayList<String> types = declaration.parameterTypes;
+        names.clear();
+        types.clear();
+        next();
+        while (kind != TokenKind.EOF && !isSymbol(')')) {
+            int parameterStart = -1;
+            int lastStart = -1;
+            int lastEnd = -1;
+            int angles = 0;
+            while (kind != TokenKind.EOF) {
+                if (kind == TokenKind.SYMBOL) {
+                    char symbol = source[tokenStart];
+                    if (symbol == '@') {
+                        skipAnnotation();
+                        continue;
+                    } else if (symbol == '(') {
+                        skipBalanced('(', ')');
+                        continue;
+                    } else if (symbol == '<')
+                        angles++;
+                    else if (symbol == '>')
+                        angles--;
+                    else if (angles <= 0 && (symbol == ',' || symbol == ')'))
+                        break;
+                } else if (kind == TokenKind.IDENTIFIER) {
+                    if (parameterStart == -1) {
+                        if (isIdentifier("final")) {
+                            next();
+                            continue;
+                        }
+                        parameterStart = tokenStart;
+                    }
+                    lastStart = tokenStart;
+                    lastEnd = tokenEnd;
+                }
+                next();
+            }
+            if (parameterStart != -1 && lastStart > parameterStart && !isThis(lastStart, lastEnd)) {
+                names.add(text(lastStart, lastEnd));
+                types.add(normalize(parameterStart, lastStart));
+            }
+            if (isSymbol(','))
+                next();
+        }
+    }
+
+    /**
+     * Method to parse the declaration of one or more fields
+     *
+     * @param start:      the offset where the declaration starts
+     * @param documented: whether the declaration has a docu-comment
+     * @param nameStart:  the offset where the name of the first field starts
+     * @param nameEnd:    the offset where the name of the first field ends
+     * @apiNote the declaration is reported once, with the name of the first field, because a docu-comment documents
+     * the whole declaration
+     */
+    private void parseField(int start, boolean documented, int nameStart, int nameEnd) {
+        notifyDeclaration(Kind.FIELD, start, documented, false, nameStart, nameEnd);
+        while (kind != TokenKind.EOF && !isSymbol(';')) {
+            if (isSymbol('('))
+                skipBalanced('(', ')');
+            else if (isSymbol('{'))
+                skipBalanced('{', '}');
+            else if (isSymbol('['))
+                skipBalanced('[', ']');
+            else if (isSymbol('}'))
+                return;
+            else
+                next();
+        }
+        next();
+    }
+
+    /**
+     * Method to parse the type parameters of a class or of a method <br>
+     * No-any params required
+     *
+     * @apiNote the parsing starts from the opening angle bracket and ends after the closing one
+     */
+    private void parseTypeParameters() {
+        int angles = 0;
+        boolean expectName = false;
+        while (kind != TokenKind.EOF) {
+            if (isSymbol('@')) {
+                skipAnnotation();
+                continue;
+            }
+            if (isSymbol('<')) {
+                angles++;
+                expectName = angles == 1;
+            } else if (isSymbol('>')) {
+                if (--angles == 0) {
+                    next();
+                    return;
+                }
+            } else if (isSymbol(',') && angles == 1)
+                expectName = true;
+            else if (kind == TokenKind.IDENTIFIER && expectName) {
+                typeParameters.add(text(tokenStart, tokenEnd));
+                expectName = false;
+            } else if (isSymbol('{') || isSymbol(';'))
+                return;
+            next();
+        }
+    }
+
+    /**
+     * Method to notify a declaration to the {@link #listener}
+     *
+     * @param kind:       the kind of the declaration
+     * @param start:      the offset where the declaration starts
+     * @param documented: whether the declaration has a docu-comment
+     * @param overrides:  whether the declaration is annotated with {@code @Override}
+     * @param nameStart:  the offset where the name starts
+     * @param nameEnd:    the offset where the name ends
+     */
+    private void notifyDeclaration(Kind kind, int start, boolean documented, boolean overrides, int nameStart,
+                                   int nameEnd) {
+        Declaration vDeclaration = declaration;
+        vDeclaration.kind = kind;
+        vDeclaration.start = start;
+        vDeclaration.documented = documented;
+        vDeclaration.overrides = overrides;
+        vDeclaration.name = text(nameStart, nameEnd);
+        vDeclaration.containerName = containers.isEmpty() ? packageName : containers.get(containers.size() - 1);
+        if (kind == Kind.CLASS || kind == Kind.FIELD) {
+            vDeclaration.returnTypeEnd = -1;
+            vDeclaration.parametersStart = -1;
+            vDeclaration.bodyStart = -1;
+            vDeclaration.parameterNames.clear();
+            vDeclaration.parameterTypes.clear();
+        }
+        listener.onDeclaration(vDeclaration);
+    }
+
+    /**
+     * Method to read the next token <br>
+     * No-any params required
+     *
+     * @apiNote the whitespaces and the comments before the token are skipped, recording whether a docu-comment is
+     * between them
+     */
+    private void next() {
+        docCommentBefore = false;
+        char[] vSource = source;
+        while (position < limit) {
+            char character = vSource[position];
+            if (character == '/' && position + 1 < limit) {
+                char following = vSource[position + 1];
+                if (following == '/') {
+                    while (position < limit && vSource[position] != '\n')
+                        position++;
+                    continue;
+                } else if (following == '*') {
+                    int commentStart = position;
+                    position += 2;
+                    while (position < limit && !(vSource[position] == '*' && position + 1 < limit
+                            && vSource[position + 1] == '/'))
+                        position++;
+                    position = Math.min(position + 2, limit);
+                    if (position - commentStart > 4 && vSource[commentStart + 2] == '*')
+                        docCommentBefore = true;
+                    continue;
+                }
+            }
+            if (!Character.isWhitespace(character))
+                break;
+            position++;
+        }
+        tokenStart = position;
+        if (position >= limit) {
+            kind = TokenKind.EOF;
+            tokenEnd = position;
+            return;
+        }
+        char character = vSource[position];
+        if (Character.isJavaIdentifierStart(character)) {
+            position++;
+            while (position < limit && Character.isJavaIdentifierPart(vSource[position]))
+                position++;
+            kind = TokenKind.IDENTIFIER;
+        } else if (character >= '0' && character <= '9') {
+            position++;
+            while (position < limit && (Character.isLetterOrDigit(vSource[position]) || vSource[position] == '_'
+                    || vSource[position] == '.'))
+                position++;
+            kind = TokenKind.LITERAL;
+        } else if (character == '"') {
+            if (position + 2 < limit && vSource[position + 1] == '"' && vSource[position + 2] == '"')
+                skipTextBlock();
+            else
+                skipQuoted('"');
+            kind = TokenKind.LITERAL;
+        } else if (character == '\'') {
+            skipQuoted('\'');
+            kind = TokenKind.LITERAL;
+        } else {
+            position++;
+            kind = TokenKind.SYMBOL;
+        }
+        tokenEnd = position;
+    }
+
+    /**
+     * Method to skip a string or a char literal
+     *
+     * @param quote: the quote which closes the literal
+     */
+    private void skipQuoted(char quote) {
+        position++;
+        while (position < limit) {
+            char character = source[position];
+            if (character == '\\')
+                position += 2;
+            else {
+                position++;
+                if (character == quote || character == '\n')
+                    break;
+            }
+        }
+        position = Math.min(position, limit);
+    }
+
+    /**
+     * Method to skip a text block <br>
+     * No-any params required
+     */
+    private void skipTextBlock() {
+        position += 3;
+        while (position < limit) {
+            char character = source[position];
+            if (character == '\\')
+                position += 2;
+            else if (character == '"' && position + 2 < limit && source[position + 1] == '"'
+                    && source[position + 2] == '"') {
+                position += 3;
+                break;
+            } else
+                position++;
+        }
+        position = Math.min(position, limit);
+    }
+
+    /**
+     * Method to skip the tokens until the bracket which closes the current one
+     *
+     * @param open:  the opening bracket, the current token
+     * @param close: the closing bracket
+     * @return the offset of the closing bracket as int
+     */
+    private int skipBalanced(char open, char close) {
+        int depth = 0;
+        int closeOffset = tokenStart;
+        do {
+            if (kind == TokenKind.EOF)
+                return tokenStart;
+            if (isSymbol(open))
+                depth++;
+            else if (isSymbol(close)) {
+                depth--;
+                closeOffset = tokenStart;
+            }
+            next();
+        } while (depth > 0);
+        return closeOffset;
+    }
+
+    /**
+     * Method to skip an annotation, with its arguments <br>
+     * No-any params required
+     *
+     * @return whether the annotation is {@code @Override} as boolean
+     */
+    private boolean skipAnnotation() {
+        next();
+        boolean isOverride = false;
+        while (kind == TokenKind.IDENTIFIER) {
+            isOverride = isIdentifier("Override");
+            next();
+            if (!isSymbol('.'))
+                break;
+            next();
+        }
+        if (isSymbol('('))
+            skipBalanced('(', ')');
+        return isOverride;
+    }
+
+    /**
+     * Method to check whether the current {@code record} identifier starts the header of a record <br>
+     * No-any params required
+     *
+     * @return whether the current identifier starts the header of a record as boolean
+     */
+    private boolean isRecordHeader() {
+        int index = skipWhitespaces(tokenEnd);
+        if (index >= limit || !Character.isJavaIdentifierStart(source[index]))
+            return false;
+        while (index < limit && Character.isJavaIdentifierPart(source[index]))
+            index++;
+        index = skipWhitespaces(index);
+        return index < limit && (source[index] == '(' || source[index] == '<');
+    }
+
+    /**
+     * Method to skip the whitespaces from an offset
+     *
+     * @param index: the offset from skip the whitespaces
+     * @return the offset of the first character which is not a whitespace as int
+     */
+    private int skipWhitespaces(int index) {
+        while (index < limit && Character.isWhitespace(source[index]))
+            index++;
+        return index;
+    }
+
+    /**
+     * Method to check whether an identifier starts at an offset, ignoring the whitespaces before it
+     *
+     * @param index:      the offset where the identifier should start
+     * @param identifier: the identifier to check
+     * @return whether the identifier starts at the offset as boolean
+     */
+    private boolean startsWithIdentifier(int index, String identifier) {
+        index = skipWhitespaces(index);
+        int end = index + identifier.length();
+        if (end > limit || (end < limit && Character.isJavaIdentifierPart(source[end])))
+            return false;
+        for (int j = 0; j < identifier.length(); j++)
+            if (source[index + j] != identifier.charAt(j))
+                return false;
+        return true;
+    }
+
+    /**
+     * Method to check whether the current token is a symbol
+     *
+     * @param symbol: the symbol to check
+     * @return whether the current token is the symbol as boolean
+     */
+    private boolean isSymbol(char symbol) {
+        return kind == TokenKind.SYMBOL && source[tokenStart] == symbol;
+    }
+
+    /**
+     * Method to check whether the current token is an identifier
+     *
+     * @param identifier: the identifier to check
+     * @return whether the current token is the identifier as boolean
+     */
+    private boolean isIdentifier(String identifier) {
+        return kind == TokenKind.IDENTIFIER && regionEquals(tokenStart, tokenEnd, identifier);
+    }
+
+    /**
+     * Method to check whether a region of the source is equal to a text
+     *
+     * @param start: the offset where the region starts
+     * @param end:   the offset where the region ends
+     * @param text:  the text to compare
+     * @return whether the region is equal to the text as boolean
+     */
+    private boolean regionEquals(int start, int end, String text) {
+        if (end - start != text.length())
+            return false;
+        for (int j = 0; j < text.length(); j++)
+            if (source[start + j] != text.charAt(j))
+                return false;
+        return true;
+    }
+
+    /**
+     * Method to check whether a name is the {@code this} keyword, used by the receiver parameters
+     *
+     * @param start: the offset where the name starts
+     * @param end:   the offset where the name ends
+     * @return whether the name is the {@code this} keyword as boolean
+     */
+    private boolean isThis(int start, int end) {
+        return regionEquals(start, end, "this");
+    }
+
+    /**
+     * Method to check whether a name is the simple name of the class which contains the current position
+     *
+     * @param start: the offset where the name starts
+     * @param end:   the offset where the name ends
+     * @return whether the name is the simple name of the container as boolean
+     */
+    private boolean isContainerName(int start, int end) {
+        if (containers.isEmpty())
+            return false;
+        String container = containers.get(containers.size() - 1);
+        return regionEquals(start, end, container.substring(container.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Method to get a region of the source
+     *
+     * @param start: the offset where the region starts
+     * @param end:   the offset where the region ends
+     * @return the region of the source as {@link String}
+     */
+    private String text(int start, int end) {
+        return new String(source, start, end - start);
+    }
+
+    /**
+     * Method to get a region of the source as the text of a type, without the annotations and with the whitespaces
+     * kept only between two words
+     *
+     * @param start: the offset where the region starts
+     * @param end:   the offset where the region ends
+     * @return the region normalized as {@link String}
+     */
+    private String normalize(int start, int end) {
+        StringBuilder builder = textBuilder;
+        builder.setLength(0);
+        boolean space = false;
+        int index = start;
+        while (index < end) {
+            char character = source[index];
+            if (character == '@') {
+                index++;
+                while (index < end && (Character.isJavaIdentifierPart(source[index]) || source[index] == '.'))
+                    index++;
+                index = skipWhitespaces(index);
+                if (index < end && source[index] == '(') {
+                    int depth = 0;
+                    do {
+                        if (source[index] == '(')
+                            depth++;
+                        else if (source[index] == ')')
+                            depth--;
+                        index++;
+                    } while (index < end && depth > 0);
+                }
+                space = !builder.isEmpty();
+                continue;
+            }
+            if (Character.isWhitespace(character)) {
+                space = !builder.isEmpty();
+                index++;
+                continue;
+            }
+            if (space && Character.isJavaIdentifierPart(character)) {
+                char previous = builder.charAt(builder.length() - 1);
+                if (Character.isJavaIdentifierPart(previous) || previous == '?')
+                    builder.append(' ');
+            }
+            space = false;
+            builder.append(character);
+            index++;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Method to remove the type parameters declared in a scope which has been closed
+     *
+     * @param size: the number of the type parameters to keep
+     */
+    private void truncateTypeParameters(int size) {
+        while (typeParameters.size() > size)
+            typeParameters.remove(typeParameters.size() - 1);
+    }
+
+    /**
+     * Method to find the instance returned by the body of a method
+     *
+     * @param bodyStart: the offset of the opening bracket of the body
+     * @param bodyEnd:   the offset of the closing bracket of the body
+     * @return the instance returned as {@link String}, {@code null} if the body does not return any value
+     * @apiNote a field returned directly or through {@code this} is returned with its name, any other expression
+     * is returned without its whitespaces, like the plugin does
+     */
+    private String findReturnedInstance(int bodyStart, int bodyEnd) {
+        int vPosition = position;
+        TokenKind vKind = kind;
+        int vTokenStart = tokenStart;
+        int vTokenEnd = tokenEnd;
+        boolean vDocCommentBefore = docCommentBefore;
+        try {
+            position = bodyStart + 1;
+            next();
+            while (kind != TokenKind.EOF && tokenStart < bodyEnd) {
+                if (isIdentifier("return")) {
+                    next();
+                    if (!isSymbol(';'))
+                        return readReturnedExpression(bodyEnd);
+                } else
+                    next();
+            }
+            return null;
+        } finally {
+            position = vPosition;
+            kind = vKind;
+            tokenStart = vTokenStart;
+            tokenEnd = vTokenEnd;
+            docCommentBefore = vDocCommentBefore;
+        }
+    }
+
+    /**
+     * Method to read the expression of a {@code return} statement
+     *
+     * @param bodyEnd: the offset of the closing bracket of the body
+     * @return the expression read as {@link String}
+     * @apiNote the expression is rebuilt from its tokens, so the comments inside it are discarded
+     */
+    private String readReturnedExpression(int bodyEnd) {
+        StringBuilder builder = textBuilder;
+        builder.setLength(0);
+        int depth = 0;
+        while (kind != TokenKind.EOF && tokenStart < bodyEnd) {
+            if (depth == 0 && isSymbol(';'))
+                break;
+            if (isSymbol('(') || isSymbol('[') || isSymbol('{'))
+                depth++;
+            else if (isSymbol(')') || isSymbol(']') || isSymbol('}'))
+                depth--;
+            for (int j = tokenStart; j < tokenEnd; j++)
+                if (!Character.isWhitespace(source[j]))
+                    builder.append(source[j]);
+            next();
+        }
+        int nameStart = builder.indexOf("this.") == 0 ? 5 : 0;
+        if (isName(builder, nameStart))
+            return builder.substring(nameStart);
+        return builder.toString();
+    }
+
+    /**
+     * Method to check whether a text is a simple name from an index
+     *
+     * @param text:  the text to check
+     * @param start: the index from check
+     * @return whether the text is a simple name as boolean
+     */
+    private static boolean isName(CharSequence text, int start) {
+        if (start >= text.length() || !Character.isJavaIdentifierStart(text.charAt(start)))
+            return false;
+        for (int j = start + 1; j < text.length(); j++)
+            if (!Character.isJavaIdentifierPart(text.charAt(j)))
+                return false;
+        return true;
+    }
+
+    /**
+     * Method to find the field assigned by the body of a setter method
+     *
+     * @param bodyStart:  the offset of the opening bracket of the body
+     * @param bodyEnd:    the offset of the closing bracket of the body
+     * @param parameters: the names of the parameters of the method
+     * @param methodName: the name of the method
+     * @return the name of the field assigned as {@link String}, an empty string if not found
+     * @apiNote the first assignment to {@code this.field} or to a name which is not a parameter and starts a
+     * statement is used, if not found the field is guessed from the name of the method
+     */
+    private String findAssignedField(int bodyStart, int bodyEnd, List<String> parameters, String methodName) {
+        if (bodyStart != -1) {
+            int vPosition = position;
+            TokenKind vKind = kind;
+            int vTokenStart = tokenStart;
+            int vTokenEnd = tokenEnd;
+            boolean vDocCommentBefore = docCommentBefore;
+            try {
+                position = bodyStart + 1;
+                next();
+                boolean statementStart = true;
+                while (kind != TokenKind.EOF && tokenStart < bodyEnd) {
+                    if (isIdentifier("this")) {
+                        next();
+                        if (isSymbol('.')) {
+                            next();
+                            if (kind == TokenKind.IDENTIFIER) {
+                                int nameStart = tokenStart;
+                                int nameEnd = tokenEnd;
+                                next();
+                                if (isAssignment())
+                                    return text(nameStart, nameEnd);
+                            }
+                        }
+                    } else if (kind == TokenKind.IDENTIFIER && statementStart) {
+                        int nameStart = tokenStart;
+                        int nameEnd = tokenEnd;
+                        next();
+                        if (isAssignment()) {
+                            String name = text(nameStart, nameEnd);
+                            if (!parameters.contains(name))
+                                return name;
+                        }
+                    } else {
+                        statementStart = isSymbol(';') || isSymbol('{') || isSymbol('}');
+                        next();
+                        continue;
+                    }
+                    statementStart = false;
+                }
+            } finally {
+                position = vPosition;
+                kind = vKind;
+                tokenStart = vTokenStart;
+                tokenEnd = vTokenEnd;
+                docCommentBefore = vDocCommentBefore;
+            }
+        }
+        if (methodName.startsWith(SETTER_PREFIX) && methodName.length() > SETTER_PREFIX.length()) {
+            String fieldName = methodName.substring(SETTER_PREFIX.length());
+            return Character.toLowerCase(fieldName.charAt(0)) + fieldName.substring(1);
+        }
+        return "";
+    }
+
+    /**
+     * Method to check whether the current token is an assignment operator <br>
+     * No-any params required
+     *
+     * @return whether the current token is an assignment operator as boolean
+     */
+    private boolean isAssignment() {
+        return isSymbol('=') && (tokenEnd >= limit || source[tokenEnd] != '=');
+    }
+
+    /**
+     * Method to get the line of an offset
+     *
+     * @param offset: the offset from get the line
+     * @return the line of the offset, starting from {@code 1}, as int
+     * @apiNote the lines are counted incrementally, so the lines of the offsets reported in order are counted only
+     * once
+     */
+    private int getLine(int offset) {
+        if (offset < lineOffset) {
+            lineOffset = 0;
+            line = 1;
+        }
+        for (int j = lineOffset; j < offset; j++)
+            if (source[j] == '\n')
+                line++;
+        lineOffset = offset;
+        return line;
+    }
+
+    /**
+     * The {@code Declaration} class is useful to describe a declaration found by the lexer
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the values which require to read the source again, like the instance returned by a method, are
+     * computed only when requested
+     **/
+    public final class Declaration {
+
+        /**
+         * {@code parameterNames} the names of the parameters
+         */
+        private final ArrayList<String> parameterNames = new ArrayList<>();
+
+        /**
+         * {@code parameterTypes} the normalized types of the parameters
+         */
+        private final ArrayList<String> parameterTypes = new ArrayList<>();
+
+        /**
+         * {@code kind} the kind of the declaration
+         */
+        private Kind kind;
+
+        /**
+         * {@code start} the offset where the declaration starts, its annotations included
+         */
+        private int start;
+
+        /**
+         * {@code documented} whether the declaration has a docu-comment
+         */
+        private boolean documented;
+
+        /**
+         * {@code overrides} whether the declaration is annotated with {@code @Override}
+         */
+        private boolean overrides;
+
+        /**
+         * {@code name} the name of the declaration
+         */
+        private String name;
+
+        /**
+         * {@code containerName} the qualified name of the class which contains the declaration, or the name of the
+         * package for the top level classes
+         */
+        private String containerName;
+
+        /**
+         * {@code returnTypeStart} the offset where the return type starts
+         */
+        private int returnTypeStart;
+
+        /**
+         * {@code returnTypeEnd} the offset where the return type ends, {@code -1} if the declaration has not a
+         * return type
+         */
+        private int returnTypeEnd;
+
+        /**
+         * {@code parametersStart} the offset of the opening bracket of the parameters list, {@code -1} if the
+         * declaration has not a parameters list
+         */
+        private int parametersStart;
+
+        /**
+         * {@code parametersEnd} the offset where the parameters list ends
+         */
+        private int parametersEnd;
+
+        /**
+         * {@code bodyStart} the offset of the opening bracket of the body, {@code -1} if the declaration has not a
+         * body
+         */
+        private int bodyStart;
+
+        /**
+         * {@code bodyEnd} the offset of the closing bracket of the body
+         */
+        private int bodyEnd;
+
+        /**
+         * Constructor to init {@link Declaration} <br>
+         * No-any params required
+         */
+        private Declaration() {
+        }
+
+        /**
+         * Method to get {@link #kind} instance <br>
+         * No-any params required
+         *
+         * @return {@link #kind} instance as {@link Kind}
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Method to get {@link #start} instance <br>
+         * No-any params required
+         *
+         * @return {@link #start} instance as int
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * Method to get the line where the declaration starts <br>
+         * No-any params required
+         *
+         * @return the line where the declaration starts, starting from {@code 1}, as int
+         */
+        public int getLine() {
+            return JavaSourceLexer.this.getLine(start);
+        }
+
+        /**
+         * Method to get {@link #documented} instance <br>
+         * No-any params required
+         *
+         * @return {@link #documented} instance as boolean
+         */
+        public boolean isDocumented() {
+            return documented;
+        }
+
+        /**
+         * Method to get {@link #overrides} instance <br>
+         * No-any params required
+         *
+         * @return {@link #overrides} instance as boolean
+         */
+        public boolean isOverrides() {
+            return overrides;
+        }
+
+        /**
+         * Method to get {@link #name} instance <br>
+         * No-any params required
+         *
+         * @return {@link #name} instance as {@link String}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Method to get the qualified name of a class declaration <br>
+         * No-any params required
+         *
+         * @return the qualified name of the class as {@link String}
+         */
+        public String getQualifiedName() {
+            if (containerName.isEmpty())
+                return name;
+            return containerName + "." + name;
+        }
+
+        /**
+         * Method to get {@link #containerName} instance <br>
+         * No-any params required
+         *
+         * @return {@link #containerName} instance as {@link String}
+         */
+        public String getContainerName() {
+            return containerName;
+        }
+
+        /**
+         * Method to get the normalized return type <br>
+         * No-any params required
+         *
+         * @return the normalized return type as {@link String}, {@code null} if the declaration has not a return type
+         */
+        public String getReturnType() {
+            if (returnTypeEnd == -1)
+                return null;
+            return normalize(returnTypeStart, returnTypeEnd);
+        }
+
+        /**
+         * Method to get the text of the parameters list, its brackets included <br>
+         * No-any params required
+         *
+         * @return the text of the parameters list as {@link String}, an empty string if the declaration has not a
+         * parameters list
+         */
+        public String getParametersText() {
+            if (parametersStart == -1)
+                return kind == Kind.CONSTRUCTOR ? "()" : "";
+            return text(parametersStart, parametersEnd);
+        }
+
+        /**
+         * Method to get {@link #parameterNames} instance <br>
+         * No-any params required
+         *
+         * @return {@link #parameterNames} instance as array of {@link String}
+         */
+        public String[] getParameterNames() {
+            return parameterNames.toArray(new String[0]);
+        }
+
+        /**
+         * Method to get {@link #parameterTypes} instance <br>
+         * No-any params required
+         *
+         * @return {@link #parameterTypes} instance as array of {@link String}
+         */
+        public String[] getParameterTypes() {
+            return parameterTypes.toArray(new String[0]);
+        }
+
+        /**
+         * Method to get the type parameters visible from the declaration <br>
+         * No-any params required
+         *
+         * @return the type parameters visible from the declaration as {@link List} of {@link String}
+         */
+        public List<String> getTypeParameters() {
+            return typeParameters;
+        }
+
+        /**
+         * Method to get the instance returned by the method <br>
+         * No-any params required
+         *
+         * @return the instance returned as {@link String}, {@code null} if the method does not return any value
+         */
+        public String getReturnedInstance() {
+            if (bodyStart == -1)
+                return null;
+            return findReturnedInstance(bodyStart, bodyEnd);
+        }
+
+        /**
+         * Method to get the field assigned by the method <br>
+         * No-any params required
+         *
+         * @return the name of the field assigned as {@link String}, an empty string if not found
+         */
+        public String getAssignedField() {
+            return findAssignedField(bodyStart, bodyEnd, parameterNames, name);
+        }
+
+    }
+
+}
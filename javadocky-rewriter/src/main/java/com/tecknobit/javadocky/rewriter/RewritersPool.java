@@ -0,0 +1,400 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code RewritersPool} class is useful to rewrite, or to check, the Java files of a set of paths in parallel, with
+ * a {@link SourceRewriter} for each thread of the pool:
+ * <ul>
+ *     <li>
+ *         the threads and their rewriters are kept alive between the runs, so a long-lived process can serve each
+ *         run without warming them up again
+ *     </li>
+ *     <li>
+ *         if enabled, the results of the files are cached by their path, so a file not modified since its last run
+ *         with the same docu-templates is not read again
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the files waiting to be rewritten in each run are bounded, so the memory used does not grow with the size of
+ * the paths, more runs can be executed concurrently sharing the threads of the pool
+ * @see Closeable
+ **/
+public class RewritersPool implements Closeable {
+
+    /**
+     * {@code PENDING_FILES_PER_THREAD} the max number of the files waiting to be rewritten for each thread
+     */
+    private static final int PENDING_FILES_PER_THREAD = 4;
+
+    /**
+     * {@code MAX_CACHED_FILES} the max number of the results of the files to cache
+     */
+    private static final int MAX_CACHED_FILES = 65536;
+
+    /**
+     * {@code JAVA_EXTENSION} the extension of the Java files
+     */
+    private static final String JAVA_EXTENSION = ".java";
+
+    /**
+     * {@code rewriters} the rewriter of each thread of the pool
+     */
+    private final ThreadLocal<SourceRewriter> rewriters = new ThreadLocal<>();
+
+    /**
+     * {@code executor} the executor which runs the threads of the pool
+     */
+    private final ExecutorService executor;
+
+    /**
+     * {@code threads} the number of the threads of the pool
+     */
+    private final int threads;
+
+    /**
+     * {@code filesCache} the results of the files mapped by their absolute path, {@code null} if not enabled
+     */
+    private final ConcurrentHashMap<Path, FileResult> filesCache;
+
+    /**
+     * Constructor to init {@link RewritersPool}
+     *
+     * @param threads:      the number of the threads of the pool
+     * @param cacheResults: whether cache the results of the files
+     */
+    public RewritersPool(int threads, boolean cacheResults) {
+        this.threads = threads;
+        AtomicInteger threadsCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "javadocky-rewriter-" + threadsCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        filesCache = cacheResults ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Method to rewrite, or to check, the Java files of the paths
+     *
+     * @param snapshot: the docu-templates to use
+     * @param paths:    the files or the directories to rewrite, the directories are walked skipping the hidden ones
+     * @param check:    whether the files must be only checked
+     * @param out:      the stream where report the members not documented or, when rewriting, the files changed,
+     *                  {@code null} to not report the files changed
+     * @return the statistics of the run as {@link Statistics}
+     * @throws IOException when a directory cannot be walked
+     * @apiNote the method returns when all the files of the run have been rewritten
+     */
+    public Statistics rewrite(TemplatesSnapshot snapshot, List<Path> paths, boolean check,
+                              PrintStream out) throws IOException {
+        Statistics statistics = new Statistics();
+        int maxPendingFiles = threads * PENDING_FILES_PER_THREAD;
+        Semaphore pendingFiles = new Semaphore(maxPendingFiles);
+        try {
+            for (Path path : paths) {
+                Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                    /**
+                     * {@inheritDoc}
+                     */
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (!dir.equals(path) && dir.getFileName().toString().startsWith("."))
+                            return FileVisitResult.SKIP_SUBTREE;
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (attrs.isRegularFile() && file.getFileName().toString().endsWith(JAVA_EXTENSION)) {
+                            pendingFiles.acquireUninterruptibly();
+                            try {
+                                executor.execute(() -> {
+                                    try {
+                                        rewrite(snapshot, file, attrs, check, out, statistics);
+                                    } finally {
+                                        pendingFiles.release();
+                                    }
+                                });
+                            } catch (RejectedExecutionException e) {
+                                pendingFiles.release();
+                                throw e;
+                            }
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+        } finally {
+            pendingFiles.acquireUninterruptibly(maxPendingFiles);
+        }
+        return statistics;
+    }
+
+    /**
+     * Method to rewrite, or to check, a Java file with the rewriter of the current thread
+     *
+     * @param snapshot:   the docu-templates to use
+     * @param file:       the file to rewrite
+     * @param attrs:      the attributes of the file
+     * @param check:      whether the file must be only checked
+     * @param out:        the stream where report the members not documented or the file changed
+     * @param statistics: the statistics of the run
+     * @apiNote if the result of the file is cached and the file has not been modified, it is reported without reading
+     * the file, when rewriting only the files which are already fully documented are skipped. A file rewritten is
+     * cached as fully documented
+     */
+    private void rewrite(TemplatesSnapshot snapshot, Path file, BasicFileAttributes attrs, boolean check,
+                         PrintStream out, Statistics statistics) {
+        try {
+            Path cacheKey = filesCache != null ? file.toAbsolutePath().normalize() : null;
+            FileResult result = cacheKey != null ? filesCache.get(cacheKey) : null;
+            int members;
+            String report;
+            if (result != null && result.isValid(attrs, snapshot.getVersion()) && (check || result.members == 0)) {
+                statistics.cachedFiles.increment();
+                members = result.members;
+                report = result.report;
+            } else {
+                SourceRewriter rewriter = rewriters.get();
+                if (rewriter == null || rewriter.getSnapshot() != snapshot) {
+                    rewriter = new SourceRewriter(snapshot);
+                    rewriters.set(rewriter);
+                }
+                members = rewriter.rewrite(file, check);
+                report = check ? rewriter.getReport() : "";
+                if (cacheKey != null) {
+                    if (check)
+                        result = new FileResult(attrs, snapshot.getVersion(), members, report);
+                    else {
+                        result = new FileResult(members > 0 ? Files.readAttributes(file, BasicFileAttributes.class)
+                                : attrs, snapshot.getVersion(), 0, "");
+                    }
+                    if (filesCache.size() >= MAX_CACHED_FILES)
+                        filesCache.clear();
+                    filesCache.put(cacheKey, result);
+                }
+            }
+            statistics.files.increment();
+            statistics.bytes.add(attrs.size());
+            statistics.members.add(members);
+            if (members > 0) {
+                statistics.changedFiles.increment();
+                if (out != null) {
+                    synchronized (out) {
+                        if (check)
+                            out.print(report);
+                        else
+                            out.println(file + ": " + members + " docu-comments added");
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            statistics.failedFiles.increment();
+            System.err.println("JavaDocky: cannot rewrite " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Method to stop the threads of the pool <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * The {@code FileResult} class is useful to cache the result of a file until it is modified
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class FileResult {
+
+        /**
+         * {@code lastModified} the time when the file has been modified, in milliseconds
+         */
+        private final long lastModified;
+
+        /**
+         * {@code size} the size of the file
+         */
+        private final long size;
+
+        /**
+         * {@code fileKey} the key which identifies the file in its file system, {@code null} if not available
+         */
+        private final Object fileKey;
+
+        /**
+         * {@code version} the version of the docu-templates used to compute the result
+         */
+        private final long version;
+
+        /**
+         * {@code members} the number of the members not documented in the file
+         */
+        private final int members;
+
+        /**
+         * {@code report} the report of the members not documented in the file
+         */
+        private final String report;
+
+        /**
+         * Constructor to init {@link FileResult}
+         *
+         * @param attrs:   the attributes of the file
+         * @param version: the version of the docu-templates used to compute the result
+         * @param members: the number of the members not documented in the file
+         * @param report:  the report of the members not documented in the file
+         */
+        private FileResult(BasicFileAttributes attrs, long version, int members, String report) {
+            lastModified = attrs.lastModifiedTime().toMillis();
+            size = attrs.size();
+            fileKey = attrs.fileKey();
+            this.version = version;
+            this.members = members;
+            this.report = report;
+        }
+
+        /**
+         * Method to check whether the result is still valid for a file
+         *
+         * @param attrs:   the current attributes of the file
+         * @param version: the version of the docu-templates to use
+         * @return whether the result is still valid as boolean
+         */
+        private boolean isValid(BasicFileAttributes attrs, long version) {
+            return this.version == version && lastModified == attrs.lastModifiedTime().toMillis()
+                    && size == attrs.size() && Objects.equals(fileKey, attrs.fileKey());
+        }
+
+    }
+
+    /**
+     * The {@code Statistics} class is useful to collect the statistics of a run from all the threads
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static final class Statistics {
+
+        /**
+         * {@code files} the number of the files rewritten or checked
+         */
+        private final LongAdder files = new LongAdder();
+
+        /**
+         * {@code changedFiles} the number of the files with docu-comments added or with members not documented
+         */
+        private final LongAdder changedFiles = new LongAdder();
+
+        /**
+         * {@code cachedFiles} the number of the files whose result has been taken from the cache
+         */
+        private final LongAdder cachedFiles = new LongAdder();
+
+        /**
+         * {@code failedFiles} the number of the files which cannot be rewritten
+         */
+        private final LongAdder failedFiles = new LongAdder();
+
+        /**
+         * {@code bytes} the number of the bytes of the files rewritten or checked
+         */
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * {@code members} the number of the docu-comments added or of the members not documented
+         */
+        private final LongAdder members = new LongAdder();
+
+        /**
+         * Constructor to init {@link Statistics} <br>
+         * No-any params required
+         */
+        private Statistics() {
+        }
+
+        /**
+         * Method to get the number of the files rewritten or checked <br>
+         * No-any params required
+         *
+         * @return the number of the files rewritten or checked as long
+         */
+        public long getFiles() {
+            return files.sum();
+        }
+
+        /**
+         * Method to get the number of the files with docu-comments added or with members not documented <br>
+         * No-any params required
+         *
+         * @return the number of the files changed as long
+         */
+        public long getChangedFiles() {
+            return changedFiles.sum();
+        }
+
+        /**
+         * Method to get the number of the files whose result has been taken from the cache <br>
+         * No-any params required
+         *
+         * @return the number of the files whose result has been taken from the cache as long
+         */
+        public long getCachedFiles() {
+            return cachedFiles.sum();
+        }
+
+        /**
+         * Method to get the number of the files which cannot be rewritten <br>
+         * No-any params required
+         *
+         * @return the number of the files which cannot be rewritten as long
+         */
+        public long getFailedFiles() {
+            return failedFiles.sum();
+        }
+
+        /**
+         * Method to get the number of the bytes of the files rewritten or checked <br>
+         * No-any params required
+         *
+         * @return the number of the bytes of the files as long
+         */
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        /**
+         * Method to get the number of the docu-comments added or of the members not documented <br>
+         * No-any params required
+         *
+         * @return the number of the docu-comments added or of the members not documented as long
+         */
+        public long getMembers() {
+            return members.sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,574 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.*;
+import com.tecknobit.javadocky.rewriter.JavaSourceLexer.Declaration;
+import com.tecknobit.javadocky.rewriter.JavaSourceLexer.DeclarationsListener;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+
+import static com.tecknobit.javadocky.core.JavaDockyTemplate.Slot.LINKED_RETURN_TYPE;
+import static com.tecknobit.javadocky.core.JavaDockyTemplate.Slot.RETURN_TYPE;
+import static com.tecknobit.javadocky.core.MethodType.CUSTOM;
+import static com.tecknobit.javadocky.core.MethodType.SETTER;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The {@code SourceRewriter} class is useful to document a Java file outside the IDE, inserting the docu-comments
+ * rendered from the docu-templates before the members found by the {@link JavaSourceLexer} which are still not
+ * documented:
+ * <ul>
+ *     <li>
+ *         the file is read in chunks and decoded in a buffer reused for all the files rewritten by the instance
+ *     </li>
+ *     <li>
+ *         the docu-comments are indented like their members and the file is written in a temporary file which then
+ *         atomically replaces it, the file is closed before, so it can be replaced also on Windows
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the instance reuses its buffers, so it must be used by a single thread, the files must be encoded in
+ * {@code UTF-8}. The sources are not resolved, so the methods annotated with {@code @Override} are the ones which
+ * override a documented method and the types are rendered as written in the source
+ * @see DeclarationsListener
+ **/
+public class SourceRewriter implements DeclarationsListener {
+
+    /**
+     * {@code CLASSES_KEY} the key of the docu-template of the classes
+     */
+    public static final String CLASSES_KEY = "Classes";
+
+    /**
+     * {@code FIELDS_KEY} the key of the docu-template of the fields
+     */
+    public static final String FIELDS_KEY = "Fields";
+
+    /**
+     * {@code CONSTRUCTORS_KEY} the key of the docu-template of the constructors
+     */
+    public static final String CONSTRUCTORS_KEY = "Constructors";
+
+    /**
+     * {@code METHODS_KEY} the name of the item of the methods
+     */
+    public static final String METHODS_KEY = "Methods";
+
+    /**
+     * {@code OVERRIDES_MODE_KEY} the key where the mode to document the overriding methods is stored
+     */
+    public static final String OVERRIDES_MODE_KEY = "OverridesMode";
+
+    /**
+     * {@code DOCUMENT_MODE} the mode which documents the overriding methods with their templates
+     */
+    private static final String DOCUMENT_MODE = "DOCUMENT";
+
+    /**
+     * {@code SKIP_MODE} the mode which does not document the overriding methods
+     */
+    private static final String SKIP_MODE = "SKIP";
+
+    /**
+     * {@code INHERIT_DOC_TEMPLATE} the docu-comment used with the {@code INHERIT_DOC} mode
+     */
+    private static final String INHERIT_DOC_TEMPLATE = "/**\n * {@inheritDoc}\n */";
+
+    /**
+     * {@code DOCU_COMMENT_END} the sequence which closes a docu-comment
+     */
+    private static final String DOCU_COMMENT_END = "*/";
+
+    /**
+     * {@code ESCAPED_DOCU_COMMENT_END} the {@link #DOCU_COMMENT_END} escaped to be written inside a docu-comment
+     */
+    private static final String ESCAPED_DOCU_COMMENT_END = "*&#47;";
+
+    /**
+     * {@code DOCU_COMMENTS_CACHE_SIZE} the max number of the docu-comments cached by each instance
+     */
+    private static final int DOCU_COMMENTS_CACHE_SIZE = 1024;
+
+    /**
+     * {@code INITIAL_BUFFER_SIZE} the initial size of the buffer where the files are decoded
+     */
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * {@code READ_BUFFER_SIZE} the size of the chunks read from the files
+     */
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * {@code TYPES} the cached values of the {@link MethodType}
+     */
+    private static final MethodType[] TYPES = MethodType.values();
+
+    /**
+     * {@code lexer} the lexer which finds the declarations of the files
+     */
+    private final JavaSourceLexer lexer = new JavaSourceLexer();
+
+    /**
+     * {@code docuRenderer} the renderer of the docu-comments of this instance
+     */
+    private final DocuRenderer docuRenderer = new DocuRenderer(new DocuCommentsCache(DOCU_COMMENTS_CACHE_SIZE));
+
+    /**
+     * {@code decoder} the decoder of the files
+     */
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+    /**
+     * {@code bytes} the buffer where the chunks of the files are read
+     */
+    private final ByteBuffer bytes = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    /**
+     * {@code editTexts} the docu-comments to insert in the current file
+     */
+    private final ArrayList<String> editTexts = new ArrayList<>();
+
+    /**
+     * {@code report} the report of the members not documented in the current file
+     */
+    private final StringBuilder report = new StringBuilder();
+
+    /**
+     * {@code docuBuilder} the builder where the docu-comments are indented
+     */
+    private final StringBuilder docuBuilder = new StringBuilder();
+
+    /**
+     * {@code snapshot} the docu-templates to use
+     */
+    private final TemplatesSnapshot snapshot;
+
+    /**
+     * {@code matcher} the matcher of the {@link MethodType#CUSTOM} templates
+     */
+    private final CustomMethodsMatcher matcher;
+
+    /**
+     * {@code classTemplate} the compiled template of the classes, {@code null} if not enabled
+     */
+    private final JavaDockyTemplate classTemplate;
+
+    /**
+     * {@code fieldTemplate} the compiled template of the fields, {@code null} if not enabled
+     */
+    private final JavaDockyTemplate fieldTemplate;
+
+    /**
+     * {@code constructorTemplate} the compiled template of the constructors, {@code null} if not enabled
+     */
+    private final JavaDockyTemplate constructorTemplate;
+
+    /**
+     * {@code methodTemplates} the compiled templates of the methods indexed by the ordinal of their
+     * {@link MethodType}, {@code null} if not enabled
+     */
+    private final JavaDockyTemplate[] methodTemplates;
+
+    /**
+     * {@code fieldTemplateSource} the fields' template to use in the params list, {@code null} if not enabled
+     */
+    private final String fieldTemplateSource;
+
+    /**
+     * {@code overridesMode} the mode to document the overriding methods
+     */
+    private final String overridesMode;
+
+    /**
+     * {@code buffer} the buffer where the files are decoded
+     */
+    private CharBuffer buffer = CharBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    /**
+     * {@code editRanges} the pairs of the offsets where each one of the {@link #editTexts} replaces the source,
+     * an empty range when the docu-comment is only inserted
+     */
+    private int[] editRanges = new int[128];
+
+    /**
+     * {@code check} whether the current file must be only checked, reporting the members not documented
+     */
+    private boolean check;
+
+    /**
+     * {@code path} the path of the current file as shown in the report
+     */
+    private String path;
+
+    /**
+     * {@code source} the characters of the current file
+     */
+    private char[] source;
+
+    /**
+     * {@code lineSeparator} the line separator used by the current file
+     */
+    private String lineSeparator;
+
+    /**
+     * {@code members} the number of the members documented, or to document, in the current file
+     */
+    private int members;
+
+    /**
+     * Constructor to init {@link SourceRewriter}
+     *
+     * @param snapshot: the docu-templates to use
+     */
+    public SourceRewriter(TemplatesSnapshot snapshot) {
+        this.snapshot = snapshot;
+        matcher = snapshot.getCustomMethodsMatcher();
+        classTemplate = compile(snapshot.get(CLASSES_KEY, null));
+        fieldTemplateSource = snapshot.get(FIELDS_KEY, null);
+        fieldTemplate = compile(fieldTemplateSource);
+        constructorTemplate = compile(snapshot.get(CONSTRUCTORS_KEY, null));
+        methodTemplates = new JavaDockyTemplate[TYPES.length];
+        for (MethodType type : TYPES)
+            if (type != CUSTOM)
+                methodTemplates[type.ordinal()] = compile(snapshot.get(type.name(), null));
+        overridesMode = snapshot.get(OVERRIDES_MODE_KEY, DOCUMENT_MODE);
+    }
+
+    /**
+     * Method to compile a docu-template
+     *
+     * @param template: the docu-template to compile
+     * @return the template compiled as {@link JavaDockyTemplate}, {@code null} if the docu-template is {@code null}
+     */
+    private static JavaDockyTemplate compile(String template) {
+        if (template == null)
+            return null;
+        return JavaDockyTemplate.of(template);
+    }
+
+    /**
+     * Method to rewrite a file, documenting its members, or to check it
+     *
+     * @param file:  the file to rewrite
+     * @param check: whether the file must be only checked, reporting the members not documented
+     * @return the number of the docu-comments added or, when checking, of the members not documented as int
+     * @throws IOException when the file cannot be read, decoded or written
+     * @apiNote when checking, the members not documented are available with {@link #getReport()} until the next
+     * file is rewritten
+     */
+    public int rewrite(Path file, boolean check) throws IOException {
+        int length = decode(file);
+        this.check = check;
+        path = file.toString();
+        source = buffer.array();
+        lineSeparator = detectLineSeparator(length);
+        members = 0;
+        editTexts.clear();
+        report.setLength(0);
+        try {
+            lexer.scan(source, length, this);
+            if (!check && members > 0)
+                write(file, length);
+            return members;
+        } finally {
+            source = null;
+            editTexts.clear();
+        }
+    }
+
+    /**
+     * Method to decode a file in the {@link #buffer}, reading it in chunks through the {@link #bytes} buffer
+     *
+     * @param file: the file to decode
+     * @return the number of the characters decoded as int
+     * @throws IOException when the file cannot be read or decoded
+     * @apiNote the file is not mapped in memory, a mapped file cannot be replaced on Windows until the mapping is
+     * garbage collected, so the rewritten file could not be moved over it
+     */
+    private int decode(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("The file is too large to be rewritten: " + file);
+            if (buffer.capacity() < size)
+                buffer = CharBuffer.allocate(Math.max((int) size, buffer.capacity() * 2));
+            buffer.clear();
+            bytes.clear();
+            decoder.reset();
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = channel.read(bytes) == -1;
+                bytes.flip();
+                CoderResult result = decoder.decode(bytes, buffer, endOfInput);
+                if (result.isError())
+                    result.throwException();
+                if (result.isOverflow())
+                    throw new IOException("The file has been modified while it was read: " + file);
+                bytes.compact();
+            }
+            CoderResult result = decoder.flush(buffer);
+            if (result.isError())
+                result.throwException();
+            return buffer.position();
+        }
+    }
+
+    /**
+     * Method to detect the line separator used by the current file
+     *
+     * @param length: the number of the characters of the file
+     * @return the line separator as {@link String}
+     */
+    private String detectLineSeparator(int length) {
+        for (int j = 0; j < length; j++) {
+            if (source[j] == '\n')
+                return j > 0 && source[j - 1] == '\r' ? "\r\n" : "\n";
+        }
+        return System.lineSeparator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDeclaration(Declaration declaration) {
+        if (declaration.isDocumented())
+            return;
+        switch (declaration.getKind()) {
+            case CLASS -> {
+                if (classTemplate != null)
+                    document(declaration, CLASSES_KEY, classTemplate,
+                            MemberDescriptor.ofClass(declaration.getName()), false);
+            }
+            case FIELD -> {
+                if (fieldTemplate != null)
+                    document(declaration, FIELDS_KEY, fieldTemplate,
+                            MemberDescriptor.ofField(declaration.getName()), false);
+            }
+            case CONSTRUCTOR -> {
+                if (constructorTemplate != null)
+                    document(declaration, CONSTRUCTORS_KEY, constructorTemplate,
+                            MemberDescriptor.ofConstructor(declaration.getName(), declaration.getParameterNames(),
+                                    declaration.getParameterTypes()), false);
+            }
+            case METHOD -> documentMethod(declaration);
+        }
+    }
+
+    /**
+     * Method to document a method, choosing its template like the plugin does
+     *
+     * @param declaration: the declaration of the method
+     */
+    private void documentMethod(Declaration declaration) {
+        if (declaration.isOverrides() && !overridesMode.equals(DOCUMENT_MODE)) {
+            if (!overridesMode.equals(SKIP_MODE)) {
+                members++;
+                if (check)
+                    reportMember(declaration);
+                else
+                    insert(declaration, INHERIT_DOC_TEMPLATE);
+            }
+            return;
+        }
+        String name = declaration.getName();
+        String[] parameterNames = declaration.getParameterNames();
+        MethodType type = MethodsClassifier.classify(name, parameterNames.length);
+        String kind;
+        JavaDockyTemplate template;
+        if (type != CUSTOM) {
+            template = methodTemplates[type.ordinal()];
+            kind = type.name();
+        } else {
+            int index = matcher.match(name, declaration.getReturnType(), parameterNames);
+            if (index == -1)
+                return;
+            template = matcher.getTemplate(index);
+            kind = CUSTOM.name() + matcher.getName(index);
+        }
+        if (template == null)
+            return;
+        if (check) {
+            document(declaration, METHODS_KEY, template, null, false);
+            return;
+        }
+        String instance;
+        boolean formatReturnType;
+        if (type == SETTER) {
+            instance = declaration.getAssignedField();
+            formatReturnType = true;
+        } else {
+            instance = declaration.getReturnedInstance();
+            formatReturnType = instance != null;
+        }
+        String returnType = declaration.getReturnType();
+        String renderedReturnType = null;
+        String linkedReturnType = null;
+        if (returnType != null) {
+            if (template.hasSlot(RETURN_TYPE))
+                renderedReturnType = SourceTypesRenderer.render(returnType, false, declaration.getTypeParameters());
+            if (template.hasSlot(LINKED_RETURN_TYPE))
+                linkedReturnType = SourceTypesRenderer.render(returnType, true, declaration.getTypeParameters());
+        }
+        document(declaration, kind, template, MemberDescriptor.ofMethod(name, instance, returnType,
+                renderedReturnType, linkedReturnType, returnType, parameterNames,
+                declaration.getParameterTypes()), formatReturnType);
+    }
+
+    /**
+     * Method to document a member, or to report it when checking
+     *
+     * @param declaration:      the declaration of the member
+     * @param kind:             the kind of the template
+     * @param template:         the template to use to render the docu-comment
+     * @param member:           the descriptor of the member, not used when checking
+     * @param formatReturnType: whether format the {@link Tag#returnType}'s tag
+     */
+    private void document(Declaration declaration, String kind, JavaDockyTemplate template, MemberDescriptor member,
+                          boolean formatReturnType) {
+        members++;
+        if (check)
+            reportMember(declaration);
+        else
+            insert(declaration, docuRenderer.render(kind, template, member, snapshot.getVersion(),
+                    fieldTemplateSource, formatReturnType));
+    }
+
+    /**
+     * Method to report a member not documented, with the same format of the {@code javadocky --check} command
+     *
+     * @param declaration: the declaration of the member
+     */
+    private void reportMember(Declaration declaration) {
+        report.append(path).append(':').append(declaration.getLine()).append(": ");
+        switch (declaration.getKind()) {
+            case CLASS -> report.append(CLASSES_KEY).append(' ').append(declaration.getQualifiedName());
+            case FIELD -> report.append(FIELDS_KEY).append(' ').append(declaration.getContainerName()).append('#')
+                    .append(declaration.getName());
+            default -> report.append(declaration.getKind() == MemberDescriptor.Kind.CONSTRUCTOR ? CONSTRUCTORS_KEY
+                            : METHODS_KEY).append(' ').append(declaration.getContainerName()).append('#')
+                    .append(declaration.getName()).append(declaration.getParametersText());
+        }
+        report.append(System.lineSeparator());
+    }
+
+    /**
+     * Method to insert a docu-comment before a member, indenting it like the line of the member
+     *
+     * @param declaration: the declaration of the member
+     * @param docuComment: the docu-comment to insert
+     * @apiNote if the member does not start its line, like the enum constants written in a single line, the
+     * whitespaces before the member are replaced to move it in a new line after the docu-comment. The
+     * {@link #DOCU_COMMENT_END} rendered inside the docu-comment, for example from a returned expression, is escaped
+     * so the docu-comment cannot be closed early
+     */
+    private void insert(Declaration declaration, String docuComment) {
+        int closingIndex = docuComment.indexOf(DOCU_COMMENT_END);
+        if (closingIndex != -1 && closingIndex < docuComment.length() - DOCU_COMMENT_END.length())
+            docuComment = docuComment.substring(0, docuComment.length() - DOCU_COMMENT_END.length())
+                    .replace(DOCU_COMMENT_END, ESCAPED_DOCU_COMMENT_END) + DOCU_COMMENT_END;
+        int start = declaration.getStart();
+        int replacedStart = start;
+        while (replacedStart > 0 && Character.isWhitespace(source[replacedStart - 1])
+                && source[replacedStart - 1] != '\n')
+            replacedStart--;
+        int lineStart = replacedStart;
+        while (lineStart > 0 && source[lineStart - 1] != '\n')
+            lineStart--;
+        int indentEnd = lineStart;
+        while (indentEnd < start && (source[indentEnd] == ' ' || source[indentEnd] == '\t'))
+            indentEnd++;
+        boolean atLineStart = replacedStart == lineStart;
+        if (atLineStart)
+            replacedStart = start;
+        StringBuilder builder = docuBuilder;
+        builder.setLength(0);
+        if (!atLineStart)
+            builder.append(lineSeparator).append(source, lineStart, indentEnd - lineStart);
+        for (int j = 0; j < docuComment.length(); j++) {
+            char character = docuComment.charAt(j);
+            if (character == '\n')
+                builder.append(lineSeparator).append(source, lineStart, indentEnd - lineStart);
+            else
+                builder.append(character);
+        }
+        builder.append(lineSeparator).append(source, lineStart, indentEnd - lineStart);
+        int index = editTexts.size();
+        if (index * 2 == editRanges.length) {
+            int[] ranges = new int[index * 4];
+            System.arraycopy(editRanges, 0, ranges, 0, index * 2);
+            editRanges = ranges;
+        }
+        editRanges[index * 2] = replacedStart;
+        editRanges[index * 2 + 1] = start;
+        editTexts.add(builder.toString());
+    }
+
+    /**
+     * Method to write the current file with the docu-comments inserted
+     *
+     * @param file:   the file to write
+     * @param length: the number of the characters of the file
+     * @throws IOException when the file cannot be written
+     * @apiNote the temporary file is created in the same directory of the file, so it can be moved atomically, and
+     * with the same permissions of the file
+     */
+    private void write(Path file, int length) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".javadocky");
+        try {
+            if (Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class))
+                Files.setPosixFilePermissions(temporaryFile, Files.getPosixFilePermissions(file));
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                int offset = 0;
+                for (int j = 0; j < editTexts.size(); j++) {
+                    writer.write(source, offset, editRanges[j * 2] - offset);
+                    writer.write(editTexts.get(j));
+                    offset = editRanges[j * 2 + 1];
+                }
+                writer.write(source, offset, length - offset);
+            }
+            Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Method to get the report of the members not documented in the last file checked <br>
+     * No-any params required
+     *
+     * @return the report of the members not documented, a line for each member, as {@link String}
+     */
+    public String getReport() {
+        return report.toString();
+    }
+
+    /**
+     * Method to get {@link #snapshot} instance <br>
+     * No-any params required
+     *
+     * @return {@link #snapshot} instance as {@link TemplatesSnapshot}
+     */
+    public TemplatesSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+}
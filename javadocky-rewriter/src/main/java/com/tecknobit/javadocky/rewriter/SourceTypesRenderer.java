@@ -0,0 +1,165 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.Tag;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code SourceTypesRenderer} class is useful to render the value of the {@link Tag#returnType}'s tag from the
+ * text of a type as written in the source, walking its structure like the plugin does with the resolved types:
+ * <pre>
+ *   {@code
+ *       // <returnType> in the docu-comment will be formatted as:
+ *       // - if contains the {@link } tag -> {@link HashMap} of {@link String} and {@link List} of {@link Foo}
+ *       // - if not contains the {@link } tag -> HashMap of String and List of Foo
+ *       public HashMap<String, List<Foo>> getMap() {
+ *           // your code here
+ *       }
+ *   }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the types are not resolved, so they are rendered with the names written in the source and the type
+ * parameters are recognized only if declared by the enclosing classes or by the method
+ **/
+public class SourceTypesRenderer {
+
+    /**
+     * {@code AND_KEYWORD} and keyword
+     */
+    private static final String AND_KEYWORD = " and ";
+
+    /**
+     * {@code OF_KEYWORD} of keyword
+     */
+    private static final String OF_KEYWORD = " of ";
+
+    /**
+     * {@code PRIMITIVE_TYPES} the primitive types, which are never linked
+     */
+    private static final Set<String> PRIMITIVE_TYPES = Set.of("boolean", "byte", "char", "short", "int", "long",
+            "float", "double", "void", "var");
+
+    /**
+     * {@code type} the normalized text of the type to render
+     */
+    private final String type;
+
+    /**
+     * {@code builder} the builder where render the type
+     */
+    private final StringBuilder builder;
+
+    /**
+     * {@code linked} whether the type is inside the {@code "{@link }"} tag
+     */
+    private final boolean linked;
+
+    /**
+     * {@code typeParameters} the type parameters visible from the type
+     */
+    private final List<String> typeParameters;
+
+    /**
+     * {@code position} the position where the type is being read
+     */
+    private int position;
+
+    /**
+     * Constructor to init {@link SourceTypesRenderer}
+     *
+     * @param type:           the normalized text of the type to render
+     * @param linked:         whether the type is inside the {@code "{@link }"} tag
+     * @param typeParameters: the type parameters visible from the type
+     */
+    private SourceTypesRenderer(String type, boolean linked, List<String> typeParameters) {
+        this.type = type;
+        this.builder = new StringBuilder(type.length() + 16);
+        this.linked = linked;
+        this.typeParameters = typeParameters;
+    }
+
+    /**
+     * Method to render a type
+     *
+     * @param type:           the normalized text of the type to render
+     * @param linked:         whether the type is inside the {@code "{@link }"} tag
+     * @param typeParameters: the type parameters visible from the type
+     * @return the type rendered as {@link String}
+     */
+    public static String render(String type, boolean linked, List<String> typeParameters) {
+        SourceTypesRenderer renderer = new SourceTypesRenderer(type, linked, typeParameters);
+        renderer.renderType();
+        if (renderer.position < type.length())
+            renderer.builder.append(type, renderer.position, type.length());
+        return renderer.builder.toString();
+    }
+
+    /**
+     * Method to render the type starting from the current position <br>
+     * No-any params required
+     */
+    private void renderType() {
+        skipSpaces();
+        if (position >= type.length())
+            return;
+        if (type.charAt(position) == '?') {
+            builder.append('?');
+            position++;
+            skipSpaces();
+            if (type.startsWith("extends", position) || type.startsWith("super", position)) {
+                boolean isExtends = type.startsWith("extends", position);
+                builder.append(isExtends ? " extends " : " super ");
+                position += isExtends ? "extends".length() : "super".length();
+                renderType();
+            }
+            return;
+        }
+        int nameStart = position;
+        while (position < type.length() && (Character.isJavaIdentifierPart(type.charAt(position))
+                || type.charAt(position) == '.' && !type.startsWith("...", position)))
+            position++;
+        String rawType = type.substring(nameStart, position);
+        if (linked && !rawType.isEmpty() && !PRIMITIVE_TYPES.contains(rawType) && !typeParameters.contains(rawType))
+            builder.append("{@link ").append(rawType).append("}");
+        else
+            builder.append(rawType);
+        if (position < type.length() && type.charAt(position) == '<') {
+            position++;
+            boolean first = true;
+            while (position < type.length() && type.charAt(position) != '>') {
+                builder.append(first ? OF_KEYWORD : AND_KEYWORD);
+                first = false;
+                renderType();
+                skipSpaces();
+                if (position < type.length() && type.charAt(position) == ',')
+                    position++;
+                else if (position < type.length() && type.charAt(position) != '>')
+                    return;
+            }
+            position++;
+        }
+        while (true) {
+            skipSpaces();
+            if (type.startsWith("[]", position)) {
+                builder.append("[]");
+                position += 2;
+            } else if (type.startsWith("...", position)) {
+                builder.append("...");
+                position += 3;
+            } else
+                break;
+        }
+    }
+
+    /**
+     * Method to skip the spaces from the current position <br>
+     * No-any params required
+     */
+    private void skipSpaces() {
+        while (position < type.length() && type.charAt(position) == ' ')
+            position++;
+    }
+
+}
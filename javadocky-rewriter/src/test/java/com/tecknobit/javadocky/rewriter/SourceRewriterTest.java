@@ -0,0 +1,441 @@
+package com.tecknobit.javadocky.rewriter;
+
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.stream.Stream;
+
+import static com.tecknobit.javadocky.rewriter.SourceRewriter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code SourceRewriterTest} class is useful to check that the {@link SourceRewriter}, through the
+ * {@link JavaSourceLexer}, documents only the real members of the fixtures, also when the source contains text which
+ * looks like a declaration or a docu-comment
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each fixture is written in a temporary directory, so the files are really read and replaced
+ **/
+class SourceRewriterTest {
+
+    /**
+     * {@code LITERALS_SOURCE} the fixture with text blocks, char literals and comments which look like declarations
+     */
+    private static final String LITERALS_SOURCE = """
+            package demo;
+
+            public class Literals {
+
+                private static final String TEXT = \"""
+                        class Fake { int hidden; }
+                        /** not a docu-comment */
+                        \""";
+
+                private final char open = '{';
+
+                private final char close = '}';
+
+                // /** not a docu-comment */
+                private int counter;
+
+                /* /** not a docu-comment either */
+                private String name;
+
+                public String getName() {
+                    String brace = "}";
+                    return name;
+                }
+
+            }
+            """;
+
+    /**
+     * {@code LITERALS_DOCUMENTED} the {@link #LITERALS_SOURCE} fixture once rewritten
+     */
+    private static final String LITERALS_DOCUMENTED = """
+            package demo;
+
+            /**
+             * The {@code Literals} class
+             */
+            public class Literals {
+
+                /**
+                 * {@code TEXT} the field
+                 */
+                private static final String TEXT = \"""
+                        class Fake { int hidden; }
+                        /** not a docu-comment */
+                        \""";
+
+                /**
+                 * {@code open} the field
+                 */
+                private final char open = '{';
+
+                /**
+                 * {@code close} the field
+                 */
+                private final char close = '}';
+
+                // /** not a docu-comment */
+                /**
+                 * {@code counter} the field
+                 */
+                private int counter;
+
+                /* /** not a docu-comment either */
+                /**
+                 * {@code name} the field
+                 */
+                private String name;
+
+                /**
+                 * Method to get name
+                 *
+                 * @return name as {@link String}
+                 */
+                public String getName() {
+                    String brace = "}";
+                    return name;
+                }
+
+            }
+            """;
+
+    /**
+     * {@code TYPES_SOURCE} the fixture with an enum with constant bodies, a record with a compact constructor and an
+     * annotation type
+     */
+    private static final String TYPES_SOURCE = """
+            package demo;
+
+            public enum Planet {
+
+                EARTH {
+                    @Override
+                    public String toString() {
+                        return "earth";
+                    }
+                },
+                MARS;
+
+                private int moons;
+
+            }
+
+            record Point(int x, int y) {
+
+                Point {
+                    if (x < 0)
+                        throw new IllegalArgumentException();
+                }
+
+            }
+
+            @interface Marker {
+
+                String getLabel() default "{";
+
+                int size();
+
+            }
+            """;
+
+    /**
+     * {@code ONE_LINE_SOURCE} the fixture with the members written in a single line
+     */
+    private static final String ONE_LINE_SOURCE = """
+            package demo;
+
+            class Compact { private int size; public int getSize() { return size; } }
+
+                enum Level { LOW, HIGH }
+            """;
+
+    /**
+     * {@code ONE_LINE_DOCUMENTED} the {@link #ONE_LINE_SOURCE} fixture once rewritten
+     */
+    private static final String ONE_LINE_DOCUMENTED = """
+            package demo;
+
+            /**
+             * The {@code Compact} class
+             */
+            class Compact {
+            /**
+             * {@code size} the field
+             */
+            private int size;
+            /**
+             * Method to get size
+             *
+             * @return size as int
+             */
+            public int getSize() { return size; } }
+
+                /**
+                 * The {@code Level} class
+                 */
+                enum Level {
+                /**
+                 * {@code LOW} the field
+                 */
+                LOW,
+                /**
+                 * {@code HIGH} the field
+                 */
+                HIGH }
+            """;
+
+    /**
+     * {@code OVERRIDES_SOURCE} the fixture with the methods annotated with {@code @Override}
+     */
+    private static final String OVERRIDES_SOURCE = """
+            package demo;
+
+            /**
+             * The {@code Child} class
+             */
+            class Child extends Parent {
+
+                @Override
+                public String getName() {
+                    return "child";
+                }
+
+                @java.lang.Override public String toString() { return getName(); }
+
+                @SuppressWarnings("unused")
+                public String getTitle() {
+                    return "title";
+                }
+
+            }
+            """;
+
+    /**
+     * {@code directory} the temporary directory where the fixtures are written
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * Method to check that the text blocks, the char literals with brackets and the comments which look like
+     * docu-comments do not hide or add any member <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    @Test
+    void documentsAroundLiteralsAndComments() throws IOException {
+        assertEquals(LITERALS_DOCUMENTED, rewrite(LITERALS_SOURCE, 7));
+    }
+
+    /**
+     * Method to check the enum constants with a body, the compact constructors of the records and the annotation
+     * types <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or checked
+     */
+    @Test
+    void reportsEnumsRecordsAndAnnotationTypes() throws IOException {
+        Path file = write("Planet.java", TYPES_SOURCE);
+        SourceRewriter rewriter = new SourceRewriter(createSnapshot(null));
+        assertEquals(8, rewriter.rewrite(file, true));
+        assertEquals(String.join(System.lineSeparator(),
+                file + ":3: Classes demo.Planet",
+                file + ":5: Fields demo.Planet#EARTH",
+                file + ":11: Fields demo.Planet#MARS",
+                file + ":13: Fields demo.Planet#moons",
+                file + ":17: Classes demo.Point",
+                file + ":19: Constructors demo.Point#Point()",
+                file + ":26: Classes demo.Marker",
+                file + ":28: Methods demo.Marker#getLabel()",
+                ""), rewriter.getReport());
+        assertEquals(TYPES_SOURCE, Files.readString(file));
+    }
+
+    /**
+     * Method to check that the members which do not start their line are moved in a new line after their
+     * docu-comment, indented like the line <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    @Test
+    void documentsOneLineMembers() throws IOException {
+        assertEquals(ONE_LINE_DOCUMENTED, rewrite(ONE_LINE_SOURCE, 6));
+    }
+
+    /**
+     * Method to check that the docu-comments are inserted with the line separator of a file with {@code CRLF} line
+     * endings <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    @Test
+    void keepsCrlfLineEndings() throws IOException {
+        String documented = rewrite(LITERALS_SOURCE.replace("\n", "\r\n"), 7);
+        assertEquals(LITERALS_DOCUMENTED.replace("\n", "\r\n"), documented);
+        assertFalse(documented.replace("\r\n", "").contains("\n"));
+    }
+
+    /**
+     * Method to check the methods annotated with {@code @Override} with each mode to document them <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    @Test
+    void documentsOverridingMethodsByMode() throws IOException {
+        String titleDocuComment = "    /**\n     * Method to get \"title\"\n     *\n     * @return \"title\" as "
+                + "{@link String}\n     */\n    @SuppressWarnings";
+        String skipped = rewrite(OVERRIDES_SOURCE, "SKIP", 1);
+        assertEquals(OVERRIDES_SOURCE.replace("    @SuppressWarnings", titleDocuComment), skipped);
+        String inherited = rewrite(OVERRIDES_SOURCE, "INHERIT_DOC", 3);
+        assertEquals(skipped
+                .replace("    @Override", "    /**\n     * {@inheritDoc}\n     */\n    @Override")
+                .replace("    @java.lang.Override", "    /**\n     * {@inheritDoc}\n     */\n    @java.lang.Override"),
+                inherited);
+        String documented = rewrite(OVERRIDES_SOURCE, "DOCUMENT", 3);
+        assertTrue(documented.contains("""
+                    /**
+                     * Method to get "child"
+                     *
+                     * @return "child" as {@link String}
+                     */
+                    @Override
+                """));
+        assertTrue(documented.contains("    /**\n     * Method to get the text\n     */\n    @java.lang.Override"));
+        assertEquals(inherited, rewrite(inherited, "INHERIT_DOC", 0));
+    }
+
+    /**
+     * Method to check that a rewritten file is replaced without leaving temporary files and is not rewritten again
+     * <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    @Test
+    void replacesTheFileOnlyOnce() throws IOException {
+        Path file = write("Literals.java", LITERALS_SOURCE);
+        SourceRewriter rewriter = new SourceRewriter(createSnapshot(null));
+        assertEquals(7, rewriter.rewrite(file, false));
+        assertEquals(0, rewriter.rewrite(file, false));
+        assertEquals(0, rewriter.rewrite(file, true));
+        assertEquals(LITERALS_DOCUMENTED, Files.readString(file));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    /**
+     * Method to check that a file larger than the chunks read, with multibyte characters across their boundaries, is
+     * decoded entirely <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written or checked
+     */
+    @Test
+    void decodesLargeFilesInChunks() throws IOException {
+        StringBuilder source = new StringBuilder("/**\n * The cities\n */\nclass Cities {\n\n");
+        int fields = 2000;
+        for (int j = 0; j < fields; j++)
+            source.append("    /**\n     * citt\u00e0\n     */\n    private String citt\u00e0").append(j).append(";\n\n");
+        source.append("    private String lastCitt\u00e0;\n\n}\n");
+        Path file = write("Cities.java", source.toString());
+        assertTrue(Files.size(file) > 64 * 1024);
+        SourceRewriter rewriter = new SourceRewriter(createSnapshot(null));
+        assertEquals(1, rewriter.rewrite(file, true));
+        assertTrue(rewriter.getReport().endsWith("Fields Cities#lastCitt\u00e0" + System.lineSeparator()));
+    }
+
+    /**
+     * Method to check that a file which is not encoded in {@code UTF-8} is not rewritten <br>
+     * No-any params required
+     *
+     * @throws IOException when the fixture cannot be written
+     */
+    @Test
+    void rejectsMalformedFiles() throws IOException {
+        Path file = directory.resolve("Latin.java");
+        byte[] source = "class Latin { private String citt\u00e0; }".getBytes(StandardCharsets.ISO_8859_1);
+        Files.write(file, source);
+        SourceRewriter rewriter = new SourceRewriter(createSnapshot(null));
+        assertThrows(CharacterCodingException.class, () -> rewriter.rewrite(file, false));
+        assertArrayEquals(source, Files.readAllBytes(file));
+    }
+
+    /**
+     * Method to rewrite a fixture with the default mode to document the overriding methods
+     *
+     * @param source:  the source of the fixture
+     * @param members: the number of the docu-comments expected
+     * @return the fixture rewritten as {@link String}
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    private String rewrite(String source, int members) throws IOException {
+        return rewrite(source, null, members);
+    }
+
+    /**
+     * Method to rewrite a fixture, checking first that the same members are reported as not documented
+     *
+     * @param source:        the source of the fixture
+     * @param overridesMode: the mode to document the overriding methods, {@code null} to use the default one
+     * @param members:       the number of the docu-comments expected
+     * @return the fixture rewritten as {@link String}
+     * @throws IOException when the fixture cannot be written or rewritten
+     */
+    private String rewrite(String source, String overridesMode, int members) throws IOException {
+        Path file = write("Fixture.java", source);
+        SourceRewriter rewriter = new SourceRewriter(createSnapshot(overridesMode));
+        assertEquals(members, rewriter.rewrite(file, true));
+        assertEquals(source, Files.readString(file));
+        assertEquals(members, rewriter.rewrite(file, false));
+        return Files.readString(file);
+    }
+
+    /**
+     * Method to write a fixture in the {@link #directory}
+     *
+     * @param name:   the name of the file
+     * @param source: the source of the fixture
+     * @return the path of the file written as {@link Path}
+     * @throws IOException when the file cannot be written
+     */
+    private Path write(String name, String source) throws IOException {
+        return Files.writeString(directory.resolve(name), source);
+    }
+
+    /**
+     * Method to create the docu-templates used by the tests
+     *
+     * @param overridesMode: the mode to document the overriding methods, {@code null} to use the default one
+     * @return the docu-templates as {@link TemplatesSnapshot}
+     */
+    private static TemplatesSnapshot createSnapshot(String overridesMode) {
+        LinkedHashMap<String, String> templates = new LinkedHashMap<>();
+        templates.put(CLASSES_KEY, "/**\n * The {@code <className>} class\n */");
+        templates.put(FIELDS_KEY, "/**\n * {@code <instance>} the field\n */");
+        templates.put(CONSTRUCTORS_KEY, "/**\n * Constructor to init {@link <className>}\n */");
+        templates.put("GETTER", "/**\n * Method to get <instance>\n *\n * @return <instance> as {@link <returnType>}"
+                + "\n */");
+        templates.put("TO_STRING", "/**\n * Method to get the text\n */");
+        if (overridesMode != null)
+            templates.put(OVERRIDES_MODE_KEY, overridesMode);
+        return new TemplatesSnapshot(templates);
+    }
+
+}
@@ -1 +1,4 @@
-rootProject.name = "JavaDocky"
\ No newline at end of file
+rootProject.name = "JavaDocky"
+
+include("javadocky-core")
+include("javadocky-rewriter")
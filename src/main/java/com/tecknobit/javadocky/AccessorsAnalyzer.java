@@ -0,0 +1,208 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.tecknobit.javadocky.core.MethodType;
+import com.tecknobit.javadocky.core.Tag;
+
+/**
+ * The {@code AccessorsAnalyzer} class is useful to fetch the instances used by the methods walking their PSI tree,
+ * without copying their bodies in strings:
+ * <ul>
+ *     <li>
+ *         the instance returned by a method
+ *     </li>
+ *     <li>
+ *         the field assigned by a {@link MethodType#SETTER} method
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the results are cached in the methods and computed again only when the methods change
+ **/
+public class AccessorsAnalyzer {
+
+    /**
+     * {@code SETTER_PREFIX} the prefix of the setter methods
+     */
+    private static final String SETTER_PREFIX = "set";
+
+    /**
+     * Constructor to init {@link AccessorsAnalyzer}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private AccessorsAnalyzer() {
+    }
+
+    /**
+     * Method to fetch the instance returned by a method, used as value of the {@link Tag#instance}'s tag
+     * <pre>
+     *   {@code
+     *       public Object getAnyObject() {
+     *           return anyObject; // or this.anyObject
+     *       }
+     *   }
+     *  </pre>
+     * will be fetched {@code "anyObject"}
+     *
+     * @param method: the method from fetch the returned instance
+     * @return the returned instance as {@link String}, {@code null} if the method does not return any value
+     */
+    public static String getReturnedInstance(PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, () ->
+                Result.create(computeReturnedInstance(method), method));
+    }
+
+    /**
+     * Method to compute the instance returned by a method
+     *
+     * @param method: the method from fetch the returned instance
+     * @return the returned instance as {@link String}, {@code null} if the method does not return any value
+     */
+    private static String computeReturnedInstance(PsiMethod method) {
+        PsiField field = PropertyUtilBase.getFieldOfGetter(method);
+        if (field != null)
+            return field.getName();
+        PsiCodeBlock body = method.getBody();
+        if (body == null)
+            return null;
+        PsiExpression[] returnValue = {null};
+        body.accept(new JavaRecursiveElementWalkingVisitor() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void visitReturnStatement(PsiReturnStatement statement) {
+                PsiExpression value = statement.getReturnValue();
+                if (value != null) {
+                    returnValue[0] = value;
+                    stopWalking();
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void visitClass(PsiClass aClass) {
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void visitLambdaExpression(PsiLambdaExpression expression) {
+            }
+        });
+        if (returnValue[0] == null)
+            return null;
+        return getInstanceName(returnValue[0]);
+    }
+
+    /**
+     * Method to fetch the field assigned by a {@link MethodType#SETTER} method, used as value of the
+     * {@link Tag#instance}'s tag
+     * <pre>
+     *   {@code
+     *       public void setAnyObject(Object differentAnyObjectInstanceName) {
+     *           anyObject = differentAnyObjectInstanceName; // or this.anyObject = ...
+     *       }
+     *   }
+     *  </pre>
+     * will be fetched {@code "anyObject"}
+     *
+     * @param method: the method from fetch the assigned field
+     * @return the assigned field as {@link String}, an empty {@link String} if the field has not been found
+     * @apiNote if the method does not assign any field will be searched in its class a field with the same name of
+     * the method without the {@code "set"} prefix
+     */
+    public static String getAssignedField(PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, () ->
+                Result.create(computeAssignedField(method), method));
+    }
+
+    /**
+     * Method to compute the field assigned by a {@link MethodType#SETTER} method
+     *
+     * @param method: the method from fetch the assigned field
+     * @return the assigned field as {@link String}, an empty {@link String} if the field has not been found
+     */
+    private static String computeAssignedField(PsiMethod method) {
+        PsiField field = PropertyUtilBase.getFieldOfSetter(method);
+        if (field != null)
+            return field.getName();
+        PsiCodeBlock body = method.getBody();
+        if (body != null) {
+            String[] assignedField = {null};
+            body.accept(new JavaRecursiveElementWalkingVisitor() {
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitAssignmentExpression(PsiAssignmentExpression expression) {
+                    if (expression.getLExpression() instanceof PsiReferenceExpression reference
+                            && reference.resolve() instanceof PsiField) {
+                        assignedField[0] = reference.getReferenceName();
+                        stopWalking();
+                    } else
+                        super.visitAssignmentExpression(expression);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitClass(PsiClass aClass) {
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitLambdaExpression(PsiLambdaExpression expression) {
+                }
+            });
+            if (assignedField[0] != null)
+                return assignedField[0];
+        }
+        PsiClass containingClass = method.getContainingClass();
+        String methodName = method.getName();
+        if (containingClass != null && methodName.startsWith(SETTER_PREFIX)) {
+            String fieldName = methodName.substring(SETTER_PREFIX.length());
+            for (PsiField classField : containingClass.getFields()) {
+                String fName = classField.getName();
+                if (fName.equalsIgnoreCase(fieldName))
+                    return fName;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Method to get the name of the instance of an expression
+     *
+     * @param expression: the expression from fetch the instance name
+     * @return the name of the instance as {@link String}
+     * @apiNote if the expression is a reference, also qualified by {@code this}, will be returned the referenced
+     * name, otherwise the text of the expression without blank spaces
+     */
+    private static String getInstanceName(PsiExpression expression) {
+        if (expression instanceof PsiReferenceExpression reference) {
+            PsiExpression qualifier = reference.getQualifierExpression();
+            if (qualifier == null || qualifier instanceof PsiThisExpression)
+                return reference.getReferenceName();
+        }
+        String text = expression.getText();
+        StringBuilder instance = new StringBuilder(text.length());
+        for (int j = 0; j < text.length(); j++) {
+            char character = text.charAt(j);
+            if (!Character.isWhitespace(character))
+                instance.append(character);
+        }
+        return instance.toString();
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.tecknobit.javadocky.core.JavaDockyTemplate;
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The {@code CompiledTemplatesCache} class is useful to store on the disk the compiled form of the docu-templates,
+ * so at the next start they are loaded directly instead of compiling all of them again
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the cache is keyed by the hash of the docu-templates, so it is rebuilt only when they change
+ **/
+public class CompiledTemplatesCache {
+
+    /**
+     * {@code LOG} the logger where report the time spent to prepare the compiled templates
+     */
+    private static final Logger LOG = Logger.getInstance(CompiledTemplatesCache.class);
+
+    /**
+     * {@code MAGIC} the header which identifies the cache file
+     */
+    private static final int MAGIC = 0x4A444B59;
+
+    /**
+     * {@code FORMAT_VERSION} the version of the format of the cache file, to increment when the compiled form of the
+     * templates changes
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * {@code CACHE_FILE} the path of the cache file, relative to the system directory of the IDE
+     */
+    private static final String CACHE_FILE = "javadocky/compiled-templates.bin";
+
+    /**
+     * Constructor to init {@link CompiledTemplatesCache}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private CompiledTemplatesCache() {
+    }
+
+    /**
+     * Method to prepare the compiled templates of a snapshot, loading them from the cache if it is still valid or
+     * compiling them and rebuilding the cache otherwise
+     *
+     * @param snapshot: the snapshot of the docu-templates to prepare
+     */
+    public static void warmUp(TemplatesSnapshot snapshot) {
+        long start = System.nanoTime();
+        LinkedHashSet<String> sources = new LinkedHashSet<>();
+        for (String template : snapshot.getTemplates().values())
+            if (template.startsWith("/**"))
+                sources.add(template);
+        long hash = hash(sources);
+        Path cacheFile = PathManager.getSystemDir().resolve(CACHE_FILE);
+        ArrayList<JavaDockyTemplate> templates = load(cacheFile, hash);
+        boolean fromCache = templates != null;
+        if (!fromCache) {
+            templates = new ArrayList<>(sources.size());
+            for (String source : sources)
+                templates.add(JavaDockyTemplate.compile(source));
+            store(cacheFile, hash, templates);
+        }
+        for (JavaDockyTemplate template : templates)
+            JavaDockyTemplate.register(template);
+        snapshot.getCustomMethodsMatcher();
+        LOG.info(String.format("%d docu-templates ready in %.2f ms (%s)", templates.size(),
+                (System.nanoTime() - start) / 1_000_000.0, fromCache ? "loaded from the cache"
+                        : "compiled, cache rebuilt"));
+    }
+
+    /**
+     * Method to compute the hash of the docu-templates
+     *
+     * @param sources: the source docu-templates
+     * @return the hash of the docu-templates as long
+     * @apiNote the hash is computed with the 64-bit FNV-1a algorithm
+     */
+    private static long hash(LinkedHashSet<String> sources) {
+        long hash = 0xcbf29ce484222325L;
+        for (String source : sources) {
+            for (byte value : source.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= value & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Method to load the compiled templates from the cache file
+     *
+     * @param cacheFile: the cache file
+     * @param hash:      the hash of the current docu-templates
+     * @return the compiled templates as {@link ArrayList} of {@link JavaDockyTemplate}, {@code null} if the cache
+     * does not exist or is not valid for the current docu-templates
+     */
+    private static ArrayList<JavaDockyTemplate> load(Path cacheFile, long hash) {
+        if (!Files.isRegularFile(cacheFile))
+            return null;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || input.readLong() != hash)
+                return null;
+            int size = input.readInt();
+            ArrayList<JavaDockyTemplate> templates = new ArrayList<>(size);
+            for (int j = 0; j < size; j++)
+                templates.add(JavaDockyTemplate.readFrom(input));
+            return templates;
+        } catch (IOException e) {
+            LOG.warn("Cannot load the compiled docu-templates from " + cacheFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Method to store the compiled templates in the cache file
+     *
+     * @param cacheFile: the cache file
+     * @param hash:      the hash of the current docu-templates
+     * @param templates: the compiled templates to store
+     * @apiNote the cache file is written in a temporary file and then moved, so a partial file is never read
+     */
+    private static void store(Path cacheFile, long hash, ArrayList<JavaDockyTemplate> templates) {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tmpFile = Files.createTempFile(cacheFile.getParent(), "compiled-templates", ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(tmpFile)))) {
+                    output.writeInt(MAGIC);
+                    output.writeInt(FORMAT_VERSION);
+                    output.writeLong(hash);
+                    output.writeInt(templates.size());
+                    for (JavaDockyTemplate template : templates)
+                        template.writeTo(output);
+                }
+                Files.move(tmpFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            LOG.warn("Cannot store the compiled docu-templates in " + cacheFile, e);
+        }
+    }
+
+}
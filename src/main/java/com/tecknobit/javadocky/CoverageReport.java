@@ -0,0 +1,384 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.psi.*;
+import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
+import com.tecknobit.javadocky.core.DocuCommentsCache;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.tecknobit.javadocky.DocumentationChecker.isDocumented;
+
+/**
+ * The {@code CoverageReport} class is useful to report the documentation coverage of a project by module, package
+ * and class, so the members which would be documented by the enabled {@link JavaDockyItem}s and how many of them
+ * are already documented, without writing anything in the project
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the files are analyzed in parallel by the {@link JavaFilesScanner} and each class is written in the
+ * {@link #JSON_REPORT} and {@link #HTML_REPORT} files as soon as it is analyzed, so only the totals of the modules
+ * and of the packages are kept in memory
+ **/
+public class CoverageReport {
+
+    /**
+     * {@code JSON_REPORT} the name of the report file in the JSON format
+     */
+    public static final String JSON_REPORT = "javadocky-coverage.json";
+
+    /**
+     * {@code HTML_REPORT} the name of the report file in the HTML format
+     */
+    public static final String HTML_REPORT = "javadocky-coverage.html";
+
+    /**
+     * {@code NO_MODULE} the name used for the files which are not in a module
+     */
+    private static final String NO_MODULE = "<no module>";
+
+    /**
+     * {@code project} the project to analyze
+     */
+    private final Project project;
+
+    /**
+     * {@code configuration} the configuration from fetch the docu-templates
+     */
+    private final JavaDockyConfiguration configuration;
+
+    /**
+     * {@code modules} the coverage of each module mapped by its name
+     */
+    private final ConcurrentHashMap<String, Coverage> modules = new ConcurrentHashMap<>();
+
+    /**
+     * {@code packages} the coverage of each package mapped by the name of its module and its name
+     */
+    private final ConcurrentHashMap<String, Coverage> packages = new ConcurrentHashMap<>();
+
+    /**
+     * {@code total} the coverage of the whole project
+     */
+    private final Coverage total = new Coverage();
+
+    /**
+     * {@code jsonWriter} the writer of the {@link #JSON_REPORT} file
+     */
+    private Writer jsonWriter;
+
+    /**
+     * {@code htmlWriter} the writer of the {@link #HTML_REPORT} file
+     */
+    private Writer htmlWriter;
+
+    /**
+     * {@code classes} the number of the classes written in the reports
+     */
+    private int classes;
+
+    /**
+     * Constructor to init {@link CoverageReport}
+     *
+     * @param project:       the project to analyze
+     * @param configuration: the configuration from fetch the docu-templates
+     */
+    public CoverageReport(Project project, JavaDockyConfiguration configuration) {
+        this.project = project;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Method to generate the reports of the project
+     *
+     * @param outputDir: the directory where write the reports
+     * @param indicator: the indicator of the progress of the generation
+     * @return the coverage of the whole project as {@link Coverage}
+     * @throws IOException when the reports cannot be written
+     */
+    public Coverage generate(Path outputDir, ProgressIndicator indicator) throws IOException {
+        Files.createDirectories(outputDir);
+        try (BufferedWriter json = Files.newBufferedWriter(outputDir.resolve(JSON_REPORT), StandardCharsets.UTF_8);
+             BufferedWriter html = Files.newBufferedWriter(outputDir.resolve(HTML_REPORT), StandardCharsets.UTF_8)) {
+            jsonWriter = json;
+            htmlWriter = html;
+            json.write("{\n  \"classes\": [");
+            html.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>JavaDocky coverage of "
+                    + escapeHtml(project.getName()) + "</title>\n</head>\n<body>\n<h1>JavaDocky coverage of "
+                    + escapeHtml(project.getName()) + "</h1>\n<h2>Classes</h2>\n");
+            html.write("<table>\n<tr><th>Module</th><th>Class</th><th>Documented</th><th>Documentable</th>"
+                    + "<th>Coverage</th></tr>\n");
+            JavaFilesScanner.scan(project, null, null, indicator, javaFile -> {
+                analyzeFile(javaFile);
+                return null;
+            }, null);
+            html.write("</table>\n");
+            json.write("\n  ],\n");
+            writeTotals();
+            html.write("</body>\n</html>\n");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            jsonWriter = null;
+            htmlWriter = null;
+        }
+        return total;
+    }
+
+    /**
+     * Method to analyze a file
+     *
+     * @param javaFile: the file to analyze
+     */
+    private void analyzeFile(PsiJavaFile javaFile) {
+        Module module = ProjectFileIndex.getInstance(project).getModuleForFile(javaFile.getVirtualFile());
+        String moduleName = module != null ? module.getName() : NO_MODULE;
+        String packageName = javaFile.getPackageName();
+        for (PsiClass psiClass : javaFile.getClasses()) {
+            JavaDockyDocuManager docuManager = new JavaDockyDocuManager(project, psiClass, configuration,
+                    new DocuCommentsCache(1));
+            analyzeClass(psiClass, docuManager, moduleName, packageName);
+        }
+    }
+
+    /**
+     * Method to analyze a class and its inner classes
+     *
+     * @param psiClass:    the class to analyze
+     * @param docuManager: the manager which applies the rules to classify the methods
+     * @param moduleName:  the name of the module of the class
+     * @param packageName: the name of the package of the class
+     * @apiNote a method is documentable only when a docu-template would document it, whether it is already
+     * documented or not
+     */
+    private void analyzeClass(PsiClass psiClass, JavaDockyDocuManager docuManager, String moduleName,
+                              String packageName) {
+        Coverage coverage = new Coverage();
+        if (configuration.isClassTemplateEnabled())
+            coverage.add(isDocumented(psiClass));
+        if (configuration.isFieldTemplateEnabled())
+            for (PsiField field : psiClass.getFields())
+                coverage.add(isDocumented(field));
+        if (configuration.isConstructorTemplateEnabled())
+            for (PsiMethod constructor : psiClass.getConstructors())
+                coverage.add(isDocumented(constructor));
+        if (configuration.isMethodTemplateEnabled()) {
+            for (PsiMethod method : psiClass.getMethods())
+                if (!method.isConstructor() && docuManager.hasMethodTemplate(method))
+                    coverage.add(isDocumented(method));
+        }
+        String className = psiClass.getQualifiedName();
+        if (className == null)
+            className = psiClass.getName();
+        modules.computeIfAbsent(moduleName, name -> new Coverage()).add(coverage);
+        packages.computeIfAbsent(moduleName + ":" + packageName, name -> new Coverage()).add(coverage);
+        total.add(coverage);
+        writeClass(moduleName, packageName, className, coverage);
+        for (PsiClass innerClass : psiClass.getInnerClasses())
+            analyzeClass(innerClass, docuManager, moduleName, packageName);
+    }
+
+    /**
+     * Method to write the coverage of a class in the reports
+     *
+     * @param moduleName:  the name of the module of the class
+     * @param packageName: the name of the package of the class
+     * @param className:   the name of the class
+     * @param coverage:    the coverage of the class
+     */
+    private synchronized void writeClass(String moduleName, String packageName, String className, Coverage coverage) {
+        try {
+            jsonWriter.write(classes++ == 0 ? "\n    " : ",\n    ");
+            jsonWriter.write("{\"module\": " + quote(moduleName) + ", \"package\": " + quote(packageName)
+                    + ", \"class\": " + quote(className) + ", " + toJson(coverage) + "}");
+            htmlWriter.write("<tr><td>" + escapeHtml(moduleName) + "</td><td>" + escapeHtml(className) + "</td>"
+                    + toHtml(coverage) + "</tr>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method to write the totals of the modules, of the packages and of the project in the reports <br>
+     * No-any params required
+     *
+     * @throws IOException when the reports cannot be written
+     */
+    private void writeTotals() throws IOException {
+        TreeMap<String, Coverage> sortedPackages = new TreeMap<>(packages);
+        jsonWriter.write("  \"packages\": [");
+        htmlWriter.write("<h2>Packages</h2>\n<table>\n<tr><th>Module</th><th>Package</th><th>Documented</th>"
+                + "<th>Documentable</th><th>Coverage</th></tr>\n");
+        String separator = "\n    ";
+        for (Map.Entry<String, Coverage> entry : sortedPackages.entrySet()) {
+            String key = entry.getKey();
+            int separatorIndex = key.lastIndexOf(':');
+            String moduleName = key.substring(0, separatorIndex);
+            String packageName = key.substring(separatorIndex + 1);
+            jsonWriter.write(separator + "{\"module\": " + quote(moduleName) + ", \"package\": "
+                    + quote(packageName) + ", " + toJson(entry.getValue()) + "}");
+            htmlWriter.write("<tr><td>" + escapeHtml(moduleName) + "</td><td>" + escapeHtml(packageName) + "</td>"
+                    + toHtml(entry.getValue()) + "</tr>\n");
+            separator = ",\n    ";
+        }
+        jsonWriter.write("\n  ],\n  \"modules\": [");
+        htmlWriter.write("</table>\n<h2>Modules</h2>\n<table>\n<tr><th>Module</th><th>Documented</th>"
+                + "<th>Documentable</th><th>Coverage</th></tr>\n");
+        separator = "\n    ";
+        for (Map.Entry<String, Coverage> entry : new TreeMap<>(modules).entrySet()) {
+            jsonWriter.write(separator + "{\"module\": " + quote(entry.getKey()) + ", " + toJson(entry.getValue())
+                    + "}");
+            htmlWriter.write("<tr><td>" + escapeHtml(entry.getKey()) + "</td>" + toHtml(entry.getValue())
+                    + "</tr>\n");
+            separator = ",\n    ";
+        }
+        jsonWriter.write("\n  ],\n  \"total\": {" + toJson(total) + "}\n}\n");
+        htmlWriter.write("</table>\n<h2>Total</h2>\n<table>\n<tr><th>Documented</th><th>Documentable</th>"
+                + "<th>Coverage</th></tr>\n<tr>" + toHtml(total) + "</tr>\n</table>\n");
+    }
+
+    /**
+     * Method to format a coverage as the fields of a JSON object
+     *
+     * @param coverage: the coverage to format
+     * @return the coverage formatted as {@link String}
+     */
+    private static String toJson(Coverage coverage) {
+        return "\"documented\": " + coverage.getDocumented() + ", \"documentable\": " + coverage.getDocumentable()
+                + ", \"coverage\": " + String.format(Locale.ROOT, "%.2f", coverage.getPercentage());
+    }
+
+    /**
+     * Method to format a coverage as the cells of an HTML table
+     *
+     * @param coverage: the coverage to format
+     * @return the coverage formatted as {@link String}
+     */
+    private static String toHtml(Coverage coverage) {
+        return "<td>" + coverage.getDocumented() + "</td><td>" + coverage.getDocumentable() + "</td><td>"
+                + String.format(Locale.ROOT, "%.2f%%", coverage.getPercentage()) + "</td>";
+    }
+
+    /**
+     * Method to quote a value as a JSON string
+     *
+     * @param value: the value to quote
+     * @return the value quoted as {@link String}
+     */
+    static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int j = 0; j < value.length(); j++) {
+            char character = value.charAt(j);
+            switch (character) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (character < 0x20)
+                        quoted.append(String.format("\\u%04x", (int) character));
+                    else
+                        quoted.append(character);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Method to escape a value to write it in an HTML document
+     *
+     * @param value: the value to escape
+     * @return the value escaped as {@link String}
+     */
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * The {@code Coverage} class is useful to count the documentable members and the documented ones
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static class Coverage {
+
+        /**
+         * {@code documentable} the number of the members which would be documented by the enabled items
+         */
+        private int documentable;
+
+        /**
+         * {@code documented} the number of the members already documented
+         */
+        private int documented;
+
+        /**
+         * Method to count a documentable member
+         *
+         * @param isDocumented: whether the member is already documented
+         */
+        private synchronized void add(boolean isDocumented) {
+            documentable++;
+            if (isDocumented)
+                documented++;
+        }
+
+        /**
+         * Method to add the members of another coverage
+         *
+         * @param coverage: the coverage to add
+         */
+        private synchronized void add(Coverage coverage) {
+            documentable += coverage.documentable;
+            documented += coverage.documented;
+        }
+
+        /**
+         * Method to get {@link #documentable} instance <br>
+         * No-any params required
+         *
+         * @return {@link #documentable} instance as int
+         */
+        public synchronized int getDocumentable() {
+            return documentable;
+        }
+
+        /**
+         * Method to get {@link #documented} instance <br>
+         * No-any params required
+         *
+         * @return {@link #documented} instance as int
+         */
+        public synchronized int getDocumented() {
+            return documented;
+        }
+
+        /**
+         * Method to get the percentage of the documented members <br>
+         * No-any params required
+         *
+         * @return the percentage of the documented members as double, {@code 100} if there are no-any
+         * documentable members
+         */
+        public synchronized double getPercentage() {
+            if (documentable == 0)
+                return 100;
+            return documented * 100.0 / documentable;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.tecknobit.javadocky.CoverageReport.Coverage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.intellij.openapi.ui.Messages.showErrorDialog;
+import static com.intellij.openapi.ui.Messages.showInfoMessage;
+
+/**
+ * The {@code CoverageReportAction} class is useful to generate the {@link CoverageReport} of the current project in
+ * a directory chosen by the user
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see AnAction
+ **/
+public class CoverageReportAction extends AnAction {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null)
+            return;
+        VirtualFile outputDir = FileChooser.chooseFile(FileChooserDescriptorFactory.createSingleFolderDescriptor(),
+                project, null);
+        if (outputDir == null)
+            return;
+        JavaDockyConfiguration configuration = JavaDockyProjectConfiguration.getInstance(project).getConfiguration();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Generating JavaDocky coverage report",
+                true) {
+
+            /**
+             * {@code coverage} the coverage of the project
+             */
+            private Coverage coverage;
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    coverage = new CoverageReport(project, configuration).generate(outputDir.toNioPath(),
+                            indicator);
+                } catch (IOException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onSuccess() {
+                outputDir.refresh(true, false);
+                showInfoMessage(project, String.format("%d of %d members documented (%.2f%%), report written in %s",
+                        coverage.getDocumented(), coverage.getDocumentable(), coverage.getPercentage(),
+                        outputDir.getPresentableUrl()), "JavaDocky Coverage");
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onThrowable(@NotNull Throwable error) {
+                showErrorDialog(project, "Cannot generate the coverage report: " + error.getMessage(),
+                        "JavaDocky Coverage");
+            }
+
+        });
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.psi.JavaDocTokenType;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.impl.source.tree.LeafPsiElement;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.javadoc.PsiDocToken;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.tecknobit.javadocky.core.JavaDockyTemplate;
+import com.tecknobit.javadocky.core.JavaDockyTemplate.Slot;
+
+/**
+ * The {@code DocuCommentPrototype} class is useful to parse a template only once in a docu-comment where the slots
+ * are marked, then each docu-comment for a member is a copy of that prototype with its text nodes patched
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote a prototype can be used only if all the slots of the template are inside plain text nodes and the values
+ * to insert are plain text too, otherwise the docu-comment must be parsed from its text
+ **/
+public class DocuCommentPrototype {
+
+    /**
+     * {@code MARKER} the prefix of the markers inserted in the slots of the prototype
+     */
+    private static final String MARKER = "JavaDockySlot";
+
+    /**
+     * {@code SLOTS} the cached values of the {@link Slot}
+     */
+    private static final Slot[] SLOTS = Slot.values();
+
+    /**
+     * {@code MARKERS} the marker of each {@link Slot}
+     */
+    private static final String[] MARKERS = new String[SLOTS.length];
+
+    static {
+        for (Slot slot : SLOTS)
+            MARKERS[slot.ordinal()] = MARKER + slot.ordinal() + "_";
+    }
+
+    /**
+     * {@code prototype} the docu-comment parsed with the markers in its slots, {@code null} if the prototype cannot
+     * be used
+     */
+    private final PsiDocComment prototype;
+
+    /**
+     * {@code template} the template of the prototype
+     */
+    private final JavaDockyTemplate template;
+
+    /**
+     * Constructor to init {@link DocuCommentPrototype}
+     *
+     * @param factory:  the factory to parse the prototype
+     * @param template: the template of the prototype
+     * @param builder:  the builder where render the template
+     */
+    public DocuCommentPrototype(PsiElementFactory factory, JavaDockyTemplate template, StringBuilder builder) {
+        this.template = template;
+        PsiDocComment docComment = factory.createDocCommentFromText(template.render(builder, MARKERS));
+        int markers = countMarkers(docComment.getText());
+        int plainMarkers = 0;
+        for (PsiElement token : getMarkedTokens(docComment))
+            plainMarkers += countMarkers(token.getText());
+        if (markers == plainMarkers)
+            prototype = docComment;
+        else
+            prototype = null;
+    }
+
+    /**
+     * Method to get whether the prototype can be used to create the docu-comment with the values of a member
+     *
+     * @param values: the values to insert in the slots, indexed by {@link Slot#ordinal()}
+     * @return whether the prototype can be used as boolean
+     */
+    public boolean canPatch(String[] values) {
+        if (prototype == null)
+            return false;
+        for (Slot slot : SLOTS) {
+            if (template.hasSlot(slot)) {
+                String value = values[slot.ordinal()];
+                if (value == null || value.isEmpty() || !isPlainText(value))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method to create a docu-comment copying the prototype and patching its text nodes
+     *
+     * @param values: the values to insert in the slots, indexed by {@link Slot#ordinal()}
+     * @return the docu-comment created as {@link PsiDocComment}
+     * @apiNote must be invoked only if {@link #canPatch(String[])} is {@code true}
+     */
+    public PsiDocComment patch(String[] values) {
+        PsiDocComment docComment = (PsiDocComment) prototype.copy();
+        for (PsiElement token : getMarkedTokens(docComment)) {
+            String text = token.getText();
+            for (Slot slot : SLOTS)
+                if (template.hasSlot(slot))
+                    text = text.replace(MARKERS[slot.ordinal()], values[slot.ordinal()]);
+            ((LeafPsiElement) token).replaceWithText(text);
+        }
+        return docComment;
+    }
+
+    /**
+     * Method to get the plain text nodes of a docu-comment which contain a marker
+     *
+     * @param docComment: the docu-comment from fetch the text nodes
+     * @return the text nodes as array of {@link PsiElement}
+     */
+    private static PsiElement[] getMarkedTokens(PsiDocComment docComment) {
+        return PsiTreeUtil.collectElements(docComment, element -> element instanceof PsiDocToken
+                && ((PsiDocToken) element).getTokenType() == JavaDocTokenType.DOC_COMMENT_DATA
+                && element.getText().contains(MARKER));
+    }
+
+    /**
+     * Method to count the markers in a text
+     *
+     * @param text: the text where count the markers
+     * @return the number of the markers as int
+     */
+    private static int countMarkers(String text) {
+        int markers = 0;
+        int index = text.indexOf(MARKER);
+        while (index != -1) {
+            markers++;
+            index = text.indexOf(MARKER, index + MARKER.length());
+        }
+        return markers;
+    }
+
+    /**
+     * Method to check whether a value is plain text, so it cannot change the structure of a docu-comment
+     *
+     * @param value: the value to check
+     * @return whether a value is plain text as boolean
+     */
+    private static boolean isPlainText(String value) {
+        for (int j = 0; j < value.length(); j++) {
+            switch (value.charAt(j)) {
+                case '{', '}', '@', '*', '/', '<', '>', '&', '#', '\n', '\r' -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.psi.*;
+import com.intellij.psi.impl.java.stubs.PsiClassStub;
+import com.intellij.psi.impl.java.stubs.PsiFieldStub;
+import com.intellij.psi.impl.java.stubs.PsiMethodStub;
+import com.intellij.psi.impl.source.StubBasedPsiElementBase;
+import com.intellij.psi.stubs.StubElement;
+import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
+
+/**
+ * The {@code DocumentationChecker} class is useful to check whether the members of a class are already documented
+ * reading their docu-comments directly, without materializing the text of the members
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when the green stub of a member is available the checks read its doc comment flag, because
+ * {@code getDocComment()} loads the full AST of the file as soon as the member is documented
+ **/
+public class DocumentationChecker {
+
+    /**
+     * Constructor to init {@link DocumentationChecker}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private DocumentationChecker() {
+    }
+
+    /**
+     * Method to check whether a member is already documented
+     *
+     * @param member: the member to check
+     * @return whether the member is already documented as boolean
+     * @apiNote if the member is backed by its stub the check does not load the AST, otherwise its doc comment is read
+     */
+    public static boolean isDocumented(PsiJavaDocumentedElement member) {
+        if (member instanceof StubBasedPsiElementBase<?> stubBasedMember) {
+            StubElement<?> stub = stubBasedMember.getGreenStub();
+            if (stub instanceof PsiMethodStub methodStub)
+                return methodStub.hasDocComment();
+            if (stub instanceof PsiFieldStub fieldStub)
+                return fieldStub.hasDocComment();
+            if (stub instanceof PsiClassStub<?> classStub)
+                return classStub.hasDocComment();
+        }
+        return member.getDocComment() != null;
+    }
+
+    /**
+     * Method to check whether all the members of a class, and of its inner classes, which have to be documented with
+     * the enabled {@link JavaDockyItem}s are already documented
+     *
+     * @param psiClass:      the class to check
+     * @param configuration: the configuration from fetch the enabled items
+     * @return whether all the members of the class are already documented as boolean
+     */
+    public static boolean isFullyDocumented(PsiClass psiClass, JavaDockyConfiguration configuration) {
+        if (configuration.isClassTemplateEnabled() && !isDocumented(psiClass))
+            return false;
+        if (configuration.isFieldTemplateEnabled()) {
+            for (PsiField field : psiClass.getFields())
+                if (!isDocumented(field))
+                    return false;
+        }
+        if (configuration.isConstructorTemplateEnabled()) {
+            for (PsiMethod constructor : psiClass.getConstructors())
+                if (!isDocumented(constructor))
+                    return false;
+        }
+        if (configuration.isMethodTemplateEnabled()) {
+            for (PsiMethod method : psiClass.getMethods())
+                if (!method.isConstructor() && !isDocumented(method))
+                    return false;
+        }
+        for (PsiClass innerClass : psiClass.getInnerClasses())
+            if (!isFullyDocumented(innerClass, configuration))
+                return false;
+        return true;
+    }
+
+}
@@ -0,0 +1,303 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.tecknobit.javadocky.DocumentationChecker.isDocumented;
+import static com.tecknobit.javadocky.DocumentationChecker.isFullyDocumented;
+
+/**
+ * The {@code DocumentationPlan} class is useful to compute, for a file, the docu-comments which the enabled
+ * {@link JavaDockyItem}s would add, without modifying the file, so they can be reported or applied later
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the plan must be computed in a read action and applied in a write command, the members are referenced by
+ * smart pointers, so the plan survives the changes made in other files between the two phases
+ **/
+public class DocumentationPlan {
+
+    /**
+     * {@code path} the path of the file
+     */
+    private final String path;
+
+    /**
+     * {@code docuComments} the docu-comments planned for the file
+     */
+    private final ArrayList<PlannedDocuComment> docuComments = new ArrayList<>();
+
+    /**
+     * Constructor to init {@link DocumentationPlan}
+     *
+     * @param path: the path of the file
+     */
+    private DocumentationPlan(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Method to compute the plan of a file
+     *
+     * @param project:       the project of the file
+     * @param javaFile:      the file to plan
+     * @param configuration: the configuration from fetch the docu-templates
+     * @param render:        whether render the docu-comments, when {@code false} the plan only lists the members to
+     *                       document and cannot be applied
+     * @return the plan of the file as {@link DocumentationPlan}
+     */
+    public static DocumentationPlan compute(Project project, PsiJavaFile javaFile, JavaDockyConfiguration configuration,
+                                            boolean render) {
+        return compute(project, javaFile, javaFile.getVirtualFile().getPath(), configuration, render);
+    }
+
+    /**
+     * Method to compute the plan of a file
+     *
+     * @param project:       the project of the file
+     * @param javaFile:      the file to plan
+     * @param path:          the path of the file to report, useful when the file has been created from a text
+     * @param configuration: the configuration from fetch the docu-templates
+     * @param render:        whether render the docu-comments, when {@code false} the plan only lists the members to
+     *                       document and cannot be applied
+     * @return the plan of the file as {@link DocumentationPlan}
+     * @apiNote the files created from a text, like the staged ones, have not any document, so a detached document is
+     * created from their text to compute the lines of the members
+     */
+    public static DocumentationPlan compute(Project project, PsiJavaFile javaFile, String path,
+                                            JavaDockyConfiguration configuration, boolean render) {
+        DocumentationPlan plan = new DocumentationPlan(path);
+        Document document = PsiDocumentManager.getInstance(project).getDocument(javaFile);
+        if (document == null)
+            document = EditorFactory.getInstance().createDocument(javaFile.getViewProvider().getContents());
+        for (PsiClass psiClass : javaFile.getClasses()) {
+            if (!isFullyDocumented(psiClass, configuration)) {
+                JavaDockyDocuManager docuManager = new JavaDockyDocuManager(project, psiClass, configuration);
+                plan.planClass(psiClass, configuration, docuManager, document, render);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Method to plan the docu-comments of a class and of its inner classes
+     *
+     * @param psiClass:      the class to plan
+     * @param configuration: the configuration from fetch the docu-templates
+     * @param docuManager:   the manager which creates the docu-comments
+     * @param document:      the document of the file, used to compute the lines of the members
+     * @param render:        whether render the docu-comments
+     */
+    private void planClass(PsiClass psiClass, JavaDockyConfiguration configuration, JavaDockyDocuManager docuManager,
+                           Document document, boolean render) {
+        if (configuration.isClassTemplateEnabled() && !isDocumented(psiClass))
+            plan(psiClass, JavaDockyItem.Classes, render ? docuManager.createClassDocu(psiClass) : null, document,
+                    render);
+        if (configuration.isFieldTemplateEnabled()) {
+            for (PsiField field : psiClass.getFields())
+                if (!isDocumented(field))
+                    plan(field, JavaDockyItem.Fields, render ? docuManager.createFieldDocu(field) : null, document,
+                            render);
+        }
+        if (configuration.isConstructorTemplateEnabled()) {
+            for (PsiMethod constructor : psiClass.getConstructors())
+                if (!isDocumented(constructor))
+                    plan(constructor, JavaDockyItem.Constructors, render
+                            ? docuManager.createConstructorDocu(constructor) : null, document, render);
+        }
+        if (configuration.isMethodTemplateEnabled()) {
+            for (PsiMethod method : psiClass.getMethods()) {
+                if (method.isConstructor() || isDocumented(method))
+                    continue;
+                if (render)
+                    plan(method, JavaDockyItem.Methods, docuManager.createMethodDocu(method), document, true);
+                else if (docuManager.hasMethodTemplate(method))
+                    plan(method, JavaDockyItem.Methods, null, document, false);
+            }
+        }
+        for (PsiClass innerClass : psiClass.getInnerClasses())
+            planClass(innerClass, configuration, docuManager, document, render);
+    }
+
+    /**
+     * Method to add a docu-comment to the plan
+     *
+     * @param member:   the member to document
+     * @param item:     the item which documents the member
+     * @param docu:     the docu-comment rendered, {@code null} if not rendered
+     * @param document: the document of the file, used to compute the lines of the members
+     * @param render:   whether the docu-comment has been rendered
+     */
+    private void plan(PsiJavaDocumentedElement member, JavaDockyItem item, PsiDocComment docu, Document document,
+                      boolean render) {
+        if (render && docu == null)
+            return;
+        int line = document.getLineNumber(member.getTextOffset()) + 1;
+        docuComments.add(new PlannedDocuComment(SmartPointerManager.createPointer(member), item,
+                getMemberName(member), line, docu));
+    }
+
+    /**
+     * Method to get the name of a member to show in the reports
+     *
+     * @param member: the member from get the name
+     * @return the name of the member as {@link String}
+     */
+    private static String getMemberName(PsiJavaDocumentedElement member) {
+        if (member instanceof PsiClass psiClass)
+            return psiClass.getQualifiedName() != null ? psiClass.getQualifiedName() : psiClass.getName();
+        PsiMember psiMember = (PsiMember) member;
+        PsiClass containingClass = psiMember.getContainingClass();
+        String memberName = psiMember.getName();
+        if (member instanceof PsiMethod method)
+            memberName += method.getParameterList().getText();
+        if (containingClass == null)
+            return memberName;
+        return getMemberName(containingClass) + "#" + memberName;
+    }
+
+    /**
+     * Method to apply the plan, adding the docu-comments to the members still not documented <br>
+     * No-any params required
+     *
+     * @return the number of the docu-comments added as int
+     * @apiNote must be invoked in a write command
+     */
+    public int apply() {
+        int added = 0;
+        for (PlannedDocuComment docuComment : docuComments) {
+            PsiJavaDocumentedElement member = docuComment.member.getElement();
+            if (member == null || docuComment.docu == null || isDocumented(member))
+                continue;
+            if (member instanceof PsiClass psiClass)
+                psiClass.addBefore(docuComment.docu, psiClass.getFirstChild());
+            else {
+                PsiClass containingClass = ((PsiMember) member).getContainingClass();
+                if (containingClass == null)
+                    continue;
+                containingClass.addBefore(docuComment.docu, member);
+            }
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Method to get {@link #path} instance <br>
+     * No-any params required
+     *
+     * @return {@link #path} instance as {@link String}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Method to get {@link #docuComments} instance <br>
+     * No-any params required
+     *
+     * @return {@link #docuComments} instance as {@link List} of {@link PlannedDocuComment}
+     */
+    public List<PlannedDocuComment> getDocuComments() {
+        return docuComments;
+    }
+
+    /**
+     * Method to check whether the plan has not any docu-comment <br>
+     * No-any params required
+     *
+     * @return whether the plan has not any docu-comment as boolean
+     */
+    public boolean isEmpty() {
+        return docuComments.isEmpty();
+    }
+
+    /**
+     * The {@code PlannedDocuComment} class is useful to store a docu-comment planned for a member
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static class PlannedDocuComment {
+
+        /**
+         * {@code member} the pointer to the member to document
+         */
+        private final SmartPsiElementPointer<PsiJavaDocumentedElement> member;
+
+        /**
+         * {@code item} the item which documents the member
+         */
+        private final JavaDockyItem item;
+
+        /**
+         * {@code memberName} the name of the member
+         */
+        private final String memberName;
+
+        /**
+         * {@code line} the line of the member in its file, {@code 0} if not available
+         */
+        private final int line;
+
+        /**
+         * {@code docu} the docu-comment rendered, {@code null} if not rendered
+         */
+        private final PsiDocComment docu;
+
+        /**
+         * Constructor to init {@link PlannedDocuComment}
+         *
+         * @param member:     the pointer to the member to document
+         * @param item:       the item which documents the member
+         * @param memberName: the name of the member
+         * @param line:       the line of the member in its file
+         * @param docu:       the docu-comment rendered
+         */
+        private PlannedDocuComment(SmartPsiElementPointer<PsiJavaDocumentedElement> member, JavaDockyItem item,
+                                   String memberName, int line, PsiDocComment docu) {
+            this.member = member;
+            this.item = item;
+            this.memberName = memberName;
+            this.line = line;
+            this.docu = docu;
+        }
+
+        /**
+         * Method to get {@link #item} instance <br>
+         * No-any params required
+         *
+         * @return {@link #item} instance as {@link JavaDockyItem}
+         */
+        public JavaDockyItem getItem() {
+            return item;
+        }
+
+        /**
+         * Method to get {@link #memberName} instance <br>
+         * No-any params required
+         *
+         * @return {@link #memberName} instance as {@link String}
+         */
+        public String getMemberName() {
+            return memberName;
+        }
+
+        /**
+         * Method to get {@link #line} instance <br>
+         * No-any params required
+         *
+         * @return {@link #line} instance as int
+         */
+        public int getLine() {
+            return line;
+        }
+
+    }
+
+}
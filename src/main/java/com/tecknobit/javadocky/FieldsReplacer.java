@@ -1,41 +1,49 @@
 package com.tecknobit.javadocky;
 
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import com.intellij.psi.javadoc.PsiDocComment;
+import com.tecknobit.javadocky.core.Tag;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import static com.intellij.openapi.application.ApplicationManager.getApplication;
 import static com.intellij.openapi.command.WriteCommandAction.runWriteCommandAction;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.MethodType.SETTER;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.MethodType.reachMethodType;
 import static com.tecknobit.javadocky.JavaDockyDocuManager.formatFieldTemplate;
+import static com.tecknobit.javadocky.MemberDescriptors.reachMethodType;
+import static com.tecknobit.javadocky.core.MethodType.SETTER;
 
 /**
  * The {@code FieldsReplacer} class is useful to modify all the documentation comments that appear in the class of the
  * fields that has been changed
  *
  * @author N7ghtm4r3 - Tecknobit
- * @apiNote this when the {@link JavaDockyConfiguration.Tag#params} is used in the configured template
+ * @apiNote this when the {@link Tag#params} is used in the configured template, the replacer
+ * is a project service, so its state and its listener are released when the project is closed or the plugin unloaded
+ * @see Disposable
  */
-public class FieldsReplacer {
+public class FieldsReplacer implements Disposable {
 
     /**
      * {@code currentDocus} list of the current documentation comments of the class
      *
      * @apiNote when the class changes will be recreated
      */
-    private static ArrayList<String> currentDocus = new ArrayList<>();
+    private ArrayList<String> currentDocus = new ArrayList<>();
 
     /**
      * {@code tempDocus} check list of the current documentation comments of the class
      *
      * @apiNote when the class changes will be recreated
      */
-    private static ArrayList<String> tempDocus = new ArrayList<>();
+    private ArrayList<String> tempDocus = new ArrayList<>();
 
     /**
      * {@code OPEN_CURLY_BRACKET_REGEX} regex for the "{" character
@@ -72,6 +80,11 @@ public class FieldsReplacer {
      */
     private PsiClass currentClass;
 
+    /**
+     * {@code listening} whether the replacer is listening the changes of the documents
+     */
+    private boolean listening;
+
     /**
      * Constructor to init a {@link FieldsReplacer} object
      *
@@ -82,6 +95,51 @@ public class FieldsReplacer {
         documentManager = PsiDocumentManager.getInstance(project);
     }
 
+    /**
+     * Method to get the instance of the replacer of a project
+     *
+     * @param project: the project from fetch the replacer
+     * @return the instance of the replacer of the project as {@link FieldsReplacer}
+     */
+    public static FieldsReplacer getInstance(Project project) {
+        return project.getService(FieldsReplacer.class);
+    }
+
+    /**
+     * Method to start listening the changes of the documents to replace the fields documentation <br>
+     * No-any params required
+     *
+     * @apiNote the listener is registered only once and removed when the replacer is disposed
+     */
+    public synchronized void startListening() {
+        if (listening)
+            return;
+        listening = true;
+        EditorFactory.getInstance().getEventMulticaster().addDocumentListener(new DocumentListener() {
+            /**
+             * Called after the text of the document has been changed.
+             *
+             * @param event the event containing the information about the change.
+             */
+            @Override
+            public void documentChanged(@NotNull DocumentEvent event) {
+                DocumentListener.super.documentChanged(event);
+                replaceFields(event.getDocument());
+            }
+        }, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void dispose() {
+        currentDocus = new ArrayList<>();
+        tempDocus = new ArrayList<>();
+        currentClass = null;
+        document = null;
+    }
+
     /**
      * Method to replace the fields documentation
      *
@@ -119,24 +177,25 @@ public class FieldsReplacer {
             PsiClass tmpClass = PsiElementFactory.getInstance(project).createClassFromText(
                     insertDanglingMetaCharacters(getChanges(sourceClass, sourceClass.getText())),
                     null).getInnerClasses()[0];
-            for (PsiMethod tmpMethod : tmpClass.getMethods()) {
-                boolean isSetter = reachMethodType(tmpMethod) == SETTER;
-                if (tmpMethod.getName().equals(tmpClass.getName()) || isSetter) {
-                    for (PsiMethod method : sourceClass.getMethods()) {
-                        if (method.getName().equals(sourceClass.getName()) || isSetter) {
-                            if (tmpMethod.getBody().getText().equals(method.getBody().getText())) {
-                                PsiDocComment methodDocComment = method.getDocComment();
-                                PsiDocComment tmpMethodDocComment = tmpMethod.getDocComment();
-                                if ((methodDocComment != null && tmpMethodDocComment != null)
-                                        && (!methodDocComment.getText().equals(tmpMethodDocComment.getText()))) {
-                                    getApplication().invokeLater(() ->
-                                            runWriteCommandAction(project, () -> {
-                                                documentManager.commitDocument(document);
-                                                methodDocComment.replace(tmpMethodDocComment);
-                                            })
-                                    );
-                                }
-                            }
+            PsiMethod[] tmpMethods = tmpClass.getMethods();
+            PsiMethod[] methods = sourceClass.getMethods();
+            if (tmpMethods.length == methods.length) {
+                for (int j = 0; j < tmpMethods.length; j++) {
+                    PsiMethod tmpMethod = tmpMethods[j];
+                    PsiMethod method = methods[j];
+                    if (!tmpMethod.getName().equals(method.getName()))
+                        continue;
+                    if (method.isConstructor() || reachMethodType(tmpMethod) == SETTER) {
+                        PsiDocComment methodDocComment = method.getDocComment();
+                        PsiDocComment tmpMethodDocComment = tmpMethod.getDocComment();
+                        if ((methodDocComment != null && tmpMethodDocComment != null)
+                                && (!methodDocComment.getText().equals(tmpMethodDocComment.getText()))) {
+                            getApplication().invokeLater(() ->
+                                    runWriteCommandAction(project, () -> {
+                                        documentManager.commitDocument(document);
+                                        methodDocComment.replace(tmpMethodDocComment);
+                                    })
+                            );
                         }
                     }
                 }
@@ -183,6 +242,7 @@ public class FieldsReplacer {
      * @param sourceClass: the class from fetch the fields and their documentation comment
      */
     private String getChanges(PsiClass sourceClass, String changes) {
+        JavaDockyConfiguration configuration = JavaDockyProjectConfiguration.getInstance(project).getConfiguration();
         for (PsiField field : sourceClass.getFields()) {
             String fieldName = field.getName();
             PsiDocComment docComment = field.getDocComment();
@@ -190,7 +250,7 @@ public class FieldsReplacer {
                 String description = removeDanglingMetaCharacters(docComment.getText().replaceAll("\\*", "")
                         .replace("\\\\", "").replace("/", "")
                         .replaceAll("\n", "")).trim()
-                        .replace(removeDanglingMetaCharacters(formatFieldTemplate(fieldName)).trim(), "");
+                        .replace(removeDanglingMetaCharacters(formatFieldTemplate(configuration, fieldName)).trim(), "");
                 String regex = getRegex(changes, fieldName);
                 if (!description.isEmpty() && !description.equals(regex)) {
                     changes = removeDanglingMetaCharacters(changes).replaceAll(removeDanglingMetaCharacters("* @param "
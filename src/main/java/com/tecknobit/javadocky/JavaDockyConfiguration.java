@@ -1,229 +1,246 @@
 package com.tecknobit.javadocky;
 
-import com.intellij.psi.PsiMethod;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.tecknobit.javadocky.core.DocuCommentsCache;
+import com.tecknobit.javadocky.core.MethodType;
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 
 import static com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem.*;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.MethodType.*;
+import static com.tecknobit.javadocky.core.MethodType.*;
 
 /**
  * The {@code JavaDockyConfiguration} class is useful to manage the {@code JavaDocky}'s configuration
  *
  * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the configuration is kept in memory and persisted by the IDE's settings storage with its save cycle, so
+ * the changes are batched and written all together in a single file
+ * @see PersistentStateComponent
  **/
-public class JavaDockyConfiguration {
+@State(name = "JavaDockyConfiguration", storages = @Storage("javadocky.xml"))
+public class JavaDockyConfiguration implements PersistentStateComponent<JavaDockyConfiguration.ConfigurationState> {
 
     /**
-     * {@code Tag} list of available tags to use to give directions to {@code JavaDocky}
+     * {@code JavaDockyItem} list of available {@code JavaDocky}'s items
      */
-    public enum Tag {
+    public enum JavaDockyItem {
 
         /**
-         * {@code className} tag -> use to fetch the name of the class
+         * {@code Classes} item -> to create and use a docu-template for all the classes
          */
-        className("className"),
+        Classes,
 
         /**
-         * {@code instance} tag -> use to link to an instance of the class
+         * {@code Fields} item -> to create and use a docu-template for all the fields
          */
-        instance("instance"),
+        Fields,
 
         /**
-         * {@code params} tag -> use to insert the linked params
+         * {@code Constructors} item -> to create and use a docu-template for all the constructors
          */
-        params("params"),
+        Constructors,
 
         /**
-         * {@code returnType} tag -> use to fetch the return type of method
+         * {@code Methods} item -> to create and use a docu-template for methods
          */
-        returnType("returnType"),
+        Methods
 
-        /**
-         * {@code hasP} tag -> use to document only the methods with the specified params
-         *
-         * @implNote {@code <hasP>} params_name_value, ..., params_name_value, <b>must be in the same line</b>
-         * @implSpec useful with the {@link MethodType#CUSTOM} method type template
-         */
-        hasP("hasP"),
+    }
 
-        /**
-         * {@code returnTypeIs} tag -> use to document only the methods with the specified return type
-         *
-         * @implNote {@code <returnTypeIs>} boolean, <b>must be in the same line</b>
-         * @implSpec useful with the {@link MethodType#CUSTOM} method type template
-         */
-        returnTypeIs("returnTypeIs"),
+    /**
+     * {@code OverridesMode} list of the available modes to document the methods which override an already documented
+     * method
+     */
+    public enum OverridesMode {
 
         /**
-         * {@code nameContains} tag -> use to document only the methods if contain the specified name path
-         *
-         * @implNote {@code <nameContains>} characters_sequence, <b>must be in the same line</b>
-         * @apiNote if not specified will be used the name given to the custom method
-         * @implSpec useful with the {@link MethodType#CUSTOM} method type template
+         * {@code DOCUMENT} -> the overriding methods are documented with their docu-template as the other methods
          */
-        nameContains("nameContains");
+        DOCUMENT,
 
         /**
-         * {@code tag} value
+         * {@code INHERIT_DOC} -> the overriding methods are documented with the {@code "{@inheritDoc}"} tag
          */
-        private final String tag;
+        INHERIT_DOC,
 
         /**
-         * Constructor to init {@link Tag}
-         *
-         * @param tag: tag value
+         * {@code SKIP} -> the overriding methods are not documented
          */
-        Tag(String tag) {
-            this.tag = "<" + tag + ">";
-        }
-
-        /**
-         * Method to get {@link #tag} instance <br>
-         * No-any params required
-         *
-         * @return {@link #tag} instance as {@link String}
-         */
-        public String getTag() {
-            return tag;
-        }
+        SKIP
 
     }
 
     /**
-     * {@code JavaDockyItem} list of available {@code JavaDocky}'s items
-     */
-    public enum JavaDockyItem {
+     * The {@code ConfigurationListener} interface is useful to be notified when the configuration changes
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public interface ConfigurationListener {
 
         /**
-         * {@code Classes} item -> to create and use a docu-template for all the classes
+         * Method invoked when the configuration changes
+         *
+         * @param snapshot: the new snapshot of the docu-templates
          */
-        Classes,
+        void configurationChanged(TemplatesSnapshot snapshot);
 
-        /**
-         * {@code Fields} item -> to create and use a docu-template for all the fields
-         */
-        Fields,
+    }
 
-        /**
-         * {@code Constructors} item -> to create and use a docu-template for all the constructors
-         */
-        Constructors,
+    /**
+     * The {@code ConfigurationState} class is the structured state of the configuration persisted by the IDE's
+     * settings storage as a single element
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    public static class ConfigurationState {
 
         /**
-         * {@code Methods} item -> to create and use a docu-template for methods
+         * {@code templates} the docu-templates mapped by their key
          */
-        Methods
+        public Map<String, String> templates = new LinkedHashMap<>();
 
     }
 
     /**
-     * {@code MethodType} list of available {@code JavaDocky}'s method types
+     * {@code LEGACY_PREFERENCES_NODE} the node of the preferences where the previous versions stored the data
      */
-    public enum MethodType {
+    private static final String LEGACY_PREFERENCES_NODE = "/user/javadocky";
 
-        /**
-         * {@code HASH_CODE} -> to create and use a docu-template for all the HASH_CODE methods
-         */
-        HASH_CODE,
+    /**
+     * {@code defDocuTemplate} default docu-template
+     */
+    public static final String defDocuTemplate = "/**\n *\n */";
 
-        /**
-         * {@code EQUALS} -> to create and use a docu-template for all the EQUALS methods
-         */
-        EQUALS,
+    /**
+     * {@code OVERRIDES_MODE_KEY} the key where the {@link OverridesMode} is stored
+     */
+    private static final String OVERRIDES_MODE_KEY = "OverridesMode";
 
-        /**
-         * {@code CLONE} -> to create and use a docu-template for all the CLONE methods
-         */
-        CLONE,
+    /**
+     * {@code DOCU_COMMENTS_CACHE_SIZE} the max number of the docu-comments cached by each configuration
+     */
+    private static final int DOCU_COMMENTS_CACHE_SIZE = 1024;
 
-        /**
-         * {@code TO_STRING} -> to create and use a docu-template for all the TO_STRING methods
-         */
-        TO_STRING,
+    /**
+     * {@code listeners} the listeners to notify when the configuration changes
+     */
+    private final CopyOnWriteArrayList<ConfigurationListener> listeners = new CopyOnWriteArrayList<>();
 
-        /**
-         * {@code GETTER} -> to create and use a docu-template for all the GETTER methods
-         *
-         * @apiNote the GETTER methods in the standard layout
-         */
-        GETTER,
+    /**
+     * {@code snapshot} the current snapshot of the docu-templates, replaced each time the configuration changes
+     */
+    private volatile TemplatesSnapshot snapshot;
 
-        /**
-         * {@code SETTER} -> to create and use a docu-template for all the SETTER methods
-         *
-         * @apiNote the SETTER methods in the standard layout
-         */
-        SETTER,
+    /**
+     * {@code readOnly} whether the configuration is a read-only view of a snapshot
+     */
+    private final boolean readOnly;
 
-        /**
-         * {@code CUSTOM} -> to create and use a docu-template for all the CUSTOM methods that the user choose
-         */
-        CUSTOM;
+    /**
+     * {@code docuCommentsCache} the docu-comments rendered with the docu-templates of this configuration mapped by
+     * their member signature
+     */
+    private final DocuCommentsCache docuCommentsCache = new DocuCommentsCache(DOCU_COMMENTS_CACHE_SIZE);
 
-        /**
-         * {@code GETTER_NAMES} list of possible getter names
-         */
-        private static final ArrayList<String> GETTER_NAMES = new ArrayList<>(List.of("GET", "IS", "ARE", "CAN", "HAS",
-                "HAVE"));
+    /**
+     * Constructor to init {@link JavaDockyConfiguration} <br>
+     * No-any params required
+     *
+     * @apiNote this constructor is used by the IDE to create the application service
+     */
+    public JavaDockyConfiguration() {
+        snapshot = new TemplatesSnapshot(Map.of());
+        readOnly = false;
+    }
 
-        /**
-         * Method to get the {@link MethodType} by a method name
-         *
-         * @param method: the method to fetch its type
-         * @return method type as {@link MethodType}
-         */
-        public static MethodType reachMethodType(PsiMethod method) {
-            String methodName = method.getName().toUpperCase();
-            int parameters = method.getParameterList().getParameters().length;
-            for (MethodType type : values()) {
-                String mType = type.toString();
-                if (mType.replace("_", "").equals(methodName))
-                    return valueOf(mType);
-                else if (parameters == 0) {
-                    for (String name : GETTER_NAMES)
-                        if (methodName.startsWith(name))
-                            return valueOf(GETTER.toString());
-                } else if (methodName.startsWith("SET") && parameters == 1)
-                    return valueOf(SETTER.toString());
-            }
-            return CUSTOM;
-        }
+    /**
+     * Constructor to init {@link JavaDockyConfiguration} as a read-only view of a snapshot
+     *
+     * @param snapshot: the snapshot of the docu-templates to read
+     * @apiNote the configuration created with this constructor cannot be changed
+     */
+    JavaDockyConfiguration(TemplatesSnapshot snapshot) {
+        this.snapshot = snapshot;
+        readOnly = true;
+    }
 
-        /**
-         * Method to check the validity of a method
-         *
-         * @param method: method to check the validity
-         * @return whether a method is valid
-         */
-        public static boolean isValidMethod(String method) {
-            try {
-                JavaDockyItem.valueOf(method);
-                return false;
-            } catch (IllegalArgumentException e) {
-                return true;
-            }
-        }
+    /**
+     * Method to get the instance to manage the {@code JavaDocky}'s configuration <br>
+     * No-any params required
+     *
+     * @return the instance to manage the {@code JavaDocky}'s configuration as {@link JavaDockyConfiguration}
+     */
+    public static JavaDockyConfiguration getInstance() {
+        return ApplicationManager.getApplication().getService(JavaDockyConfiguration.class);
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote the state is created from the current {@link #snapshot}, so the IDE will write it only when it
+     * changed since the last save
+     */
+    @Override
+    public ConfigurationState getState() {
+        ConfigurationState state = new ConfigurationState();
+        state.templates = new LinkedHashMap<>(snapshot.getTemplates());
+        return state;
     }
 
     /**
-     * {@code configuration} instance to manage the {@code JavaDocky}'s configuration
+     * {@inheritDoc}
      */
-    public static final JavaDockyConfiguration configuration = new JavaDockyConfiguration();
+    @Override
+    public synchronized void loadState(@NotNull ConfigurationState state) {
+        publishSnapshot(new TemplatesSnapshot(state.templates));
+        warmUpTemplates();
+    }
 
     /**
-     * {@code preferences} useful to manage the data stored by this plugin
+     * {@inheritDoc}
+     *
+     * @apiNote the docu-templates stored by the previous versions in the user preferences will be migrated in the
+     * state, so they will be persisted by the IDE's settings storage from the next save
      */
-    private static final Preferences preferences = Preferences.userRoot().node("/user/javadocky");
+    @Override
+    public synchronized void noStateLoaded() {
+        LinkedHashMap<String, String> templates = new LinkedHashMap<>();
+        try {
+            if (Preferences.userRoot().nodeExists(LEGACY_PREFERENCES_NODE)) {
+                Preferences preferences = Preferences.userRoot().node(LEGACY_PREFERENCES_NODE);
+                for (String key : preferences.keys()) {
+                    String template = preferences.get(key, null);
+                    if (template != null)
+                        templates.put(key, template);
+                }
+            }
+        } catch (BackingStoreException e) {
+            throw new RuntimeException(e);
+        }
+        publishSnapshot(new TemplatesSnapshot(templates));
+        warmUpTemplates();
+    }
 
     /**
-     * {@code defDocuTemplate} default docu-template
+     * Method to prepare in background the compiled form of the loaded docu-templates <br>
+     * No-any params required
+     *
+     * @see CompiledTemplatesCache
      */
-    public static final String defDocuTemplate = "/**\n *\n */";
+    private void warmUpTemplates() {
+        TemplatesSnapshot loadedSnapshot = snapshot;
+        ApplicationManager.getApplication().executeOnPooledThread(() -> CompiledTemplatesCache.warmUp(loadedSnapshot));
+    }
 
     /**
      * Method to add a docu-template
@@ -231,8 +248,10 @@ public class JavaDockyConfiguration {
      * @param item:     the item where use the docu-template
      * @param template: template value for the specified item
      */
-    public <T> void addDocuTemplate(T item, String template) {
-        preferences.put(item.toString(), template);
+    public synchronized <T> void addDocuTemplate(T item, String template) {
+        String key = item.toString();
+        if (!template.equals(snapshot.get(key, null)))
+            publishSnapshot(snapshot.with(key, template));
     }
 
     /**
@@ -240,8 +259,74 @@ public class JavaDockyConfiguration {
      *
      * @param item: the item from remove the docu-template
      */
-    public <T> void removeDocuTemplate(T item) {
-        preferences.remove(item.toString());
+    public synchronized <T> void removeDocuTemplate(T item) {
+        publishSnapshot(snapshot.without(item.toString()));
+    }
+
+    /**
+     * Method to replace the current snapshot and notify the {@link #listeners}
+     *
+     * @param newSnapshot: the new snapshot to publish
+     */
+    private void publishSnapshot(TemplatesSnapshot newSnapshot) {
+        if (readOnly)
+            throw new UnsupportedOperationException("A read-only configuration cannot be changed");
+        snapshot = newSnapshot;
+        for (ConfigurationListener listener : listeners)
+            listener.configurationChanged(newSnapshot);
+    }
+
+    /**
+     * Method to get {@link #snapshot} instance <br>
+     * No-any params required
+     *
+     * @return {@link #snapshot} instance as {@link TemplatesSnapshot}
+     * @apiNote the snapshot is immutable, so can be read by any thread without locks
+     */
+    public TemplatesSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Method to get {@link #docuCommentsCache} instance <br>
+     * No-any params required
+     *
+     * @return {@link #docuCommentsCache} instance as {@link DocuCommentsCache}
+     * @apiNote each configuration owns its cache, so the read-only configurations of the projects with their own
+     * docu-templates, which have a different version, do not clear the cache of the other ones
+     */
+    public DocuCommentsCache getDocuCommentsCache() {
+        return docuCommentsCache;
+    }
+
+    /**
+     * Method to add a listener to notify when the configuration changes
+     *
+     * @param listener: the listener to add
+     */
+    public void addConfigurationListener(ConfigurationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Method to remove a listener previously added
+     *
+     * @param listener: the listener to remove
+     */
+    public void removeConfigurationListener(ConfigurationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Method to get the current version of the docu-templates <br>
+     * No-any params required
+     *
+     * @return the current version of the docu-templates as long
+     * @apiNote the version changes each time a docu-template is added or removed, so it can be used to invalidate
+     * the data computed from the docu-templates
+     */
+    public long getTemplatesVersion() {
+        return snapshot.getVersion();
     }
 
     /**
@@ -262,7 +347,7 @@ public class JavaDockyConfiguration {
      * @return item template as {@link String}
      */
     public String getItemTemplate(JavaDockyItem item, String def) {
-        return preferences.get(item.name(), def);
+        return snapshot.get(item.name(), def);
     }
 
     /**
@@ -282,7 +367,7 @@ public class JavaDockyConfiguration {
      * @return {@link JavaDockyItem#Classes}'s template as {@link String}
      */
     public String getClassTemplate(String def) {
-        return preferences.get(Classes.name(), def);
+        return snapshot.get(Classes.name(), def);
     }
 
     /**
@@ -311,7 +396,7 @@ public class JavaDockyConfiguration {
      * @return {@link JavaDockyItem#Fields}'s template as {@link String}
      */
     public String getFieldTemplate(String def) {
-        return preferences.get(Fields.name(), def);
+        return snapshot.get(Fields.name(), def);
     }
 
     /**
@@ -340,7 +425,7 @@ public class JavaDockyConfiguration {
      * @return {@link JavaDockyItem#Constructors}'s template as {@link String}
      */
     public String getConstructorTemplate(String def) {
-        return preferences.get(Constructors.name(), def);
+        return snapshot.get(Constructors.name(), def);
     }
 
     /**
@@ -370,7 +455,7 @@ public class JavaDockyConfiguration {
      * @return {@link JavaDockyItem#Methods}'s template as {@link String}
      */
     public <T> String getMethodTemplate(T type, String def) {
-        return preferences.get(type.toString(), def);
+        return snapshot.get(type.toString(), def);
     }
 
     /**
@@ -399,7 +484,7 @@ public class JavaDockyConfiguration {
      * @return {@link MethodType#HASH_CODE}'s template as {@link String}
      */
     public String getHashCodeTemplate(String def) {
-        return preferences.get(HASH_CODE.name(), def);
+        return snapshot.get(HASH_CODE.name(), def);
     }
 
     /**
@@ -419,7 +504,7 @@ public class JavaDockyConfiguration {
      * @return {@link MethodType#EQUALS}'s template as {@link String}
      */
     public String getEqualsTemplate(String def) {
-        return preferences.get(EQUALS.name(), def);
+        return snapshot.get(EQUALS.name(), def);
     }
 
     /**
@@ -439,7 +524,7 @@ public class JavaDockyConfiguration {
      * @return {@link MethodType#CLONE}'s template as {@link String}
      */
     public String getCloneTemplate(String def) {
-        return preferences.get(CLONE.name(), def);
+        return snapshot.get(CLONE.name(), def);
     }
 
     /**
@@ -459,7 +544,7 @@ public class JavaDockyConfiguration {
      * @return {@link MethodType#TO_STRING}'s template as {@link String}
      */
     public String getToStringTemplate(String def) {
-        return preferences.get(TO_STRING.name(), def);
+        return snapshot.get(TO_STRING.name(), def);
     }
 
     /**
@@ -479,7 +564,7 @@ public class JavaDockyConfiguration {
      * @return {@link MethodType#GETTER}'s template as {@link String}
      */
     public String getGetterTemplate(String def) {
-        return preferences.get(GETTER.name(), def);
+        return snapshot.get(GETTER.name(), def);
     }
 
     /**
@@ -499,7 +584,7 @@ public class JavaDockyConfiguration {
      * @return {@link MethodType#SETTER}'s template as {@link String}
      */
     public String getSetterTemplate(String def) {
-        return preferences.get(SETTER.name(), def);
+        return snapshot.get(SETTER.name(), def);
     }
 
     /**
@@ -523,7 +608,7 @@ public class JavaDockyConfiguration {
         String vCustom = CUSTOM.name();
         if (!methodName.contains(vCustom))
             methodName = vCustom + methodName;
-        return preferences.get(methodName, def);
+        return snapshot.get(methodName, def);
     }
 
     /**
@@ -532,12 +617,18 @@ public class JavaDockyConfiguration {
      *
      * @return list of custom method templates as {@link ArrayList} of {@link String}
      */
-    public ArrayList<String> getCustomMethodTemplates() throws BackingStoreException {
-        ArrayList<String> templates = new ArrayList<>();
-        for (String method : preferences.keys())
-            if (method.startsWith(CUSTOM.name()))
-                templates.add(getCustomMethodTemplate(method));
-        return templates;
+    public ArrayList<String> getCustomMethodTemplates() {
+        return new ArrayList<>(snapshot.getCustomMethodTemplates().values());
+    }
+
+    /**
+     * Method to get the custom method templates with their names <br>
+     * No-any params required
+     *
+     * @return custom method templates mapped by their names as {@link LinkedHashMap} of {@link String}
+     */
+    public LinkedHashMap<String, String> getCustomMethodTemplatesMap() {
+        return new LinkedHashMap<>(snapshot.getCustomMethodTemplates());
     }
 
     /**
@@ -546,10 +637,9 @@ public class JavaDockyConfiguration {
      * @param methodName: method name to fetch the template name
      * @return the template name {@link String}
      */
-    public String getCustomMethodName(String methodName) throws BackingStoreException {
-        for (String name : getCustomMethodMenuItems())
-            if (name.equals(methodName))
-                return name;
+    public String getCustomMethodName(String methodName) {
+        if (snapshot.getCustomMethodTemplates().containsKey(methodName))
+            return methodName;
         return null;
     }
 
@@ -559,11 +649,8 @@ public class JavaDockyConfiguration {
      *
      * @return custom method menu items as array of {@link String}
      */
-    public String[] getCustomMethodMenuItems() throws BackingStoreException {
-        ArrayList<String> templates = new ArrayList<>();
-        for (String method : preferences.keys())
-            if (method.startsWith(CUSTOM.name()))
-                templates.add(method.replace(CUSTOM.name(), ""));
+    public String[] getCustomMethodMenuItems() {
+        ArrayList<String> templates = new ArrayList<>(snapshot.getCustomMethodTemplates().keySet());
         templates.add("Add custom method");
         return templates.toArray(new String[0]);
     }
@@ -573,24 +660,59 @@ public class JavaDockyConfiguration {
      *
      * @param method: method identifier to remove the corresponding method
      */
-    public void removeMethodTemplate(String method) {
+    public synchronized void removeMethodTemplate(String method) {
         if (getCustomMethodTemplate(method, null) != null)
             method = CUSTOM.name() + method;
-        preferences.remove(method);
+        publishSnapshot(snapshot.without(method));
     }
 
     /**
      * Method to remove all the method templates <br>
      * No-any params required
      */
-    public void removeAllMethodTemplates() {
-        preferences.remove(Methods.name());
+    public synchronized void removeAllMethodTemplates() {
+        LinkedHashMap<String, String> templates = new LinkedHashMap<>(snapshot.getTemplates());
+        templates.remove(Methods.name());
+        templates.keySet().removeIf(method -> isValidMethod(method) && !method.equals(OVERRIDES_MODE_KEY));
+        publishSnapshot(new TemplatesSnapshot(templates));
+    }
+
+    /**
+     * Method to check the validity of a method
+     *
+     * @param method: method to check the validity
+     * @return whether a method is valid
+     */
+    public static boolean isValidMethod(String method) {
         try {
-            for (String method : preferences.keys())
-                if (isValidMethod(method))
-                    preferences.remove(method);
-        } catch (BackingStoreException e) {
-            throw new RuntimeException(e);
+            JavaDockyItem.valueOf(method);
+            return false;
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Method to set the mode to document the methods which override an already documented method
+     *
+     * @param overridesMode: the mode to use
+     */
+    public synchronized void setOverridesMode(OverridesMode overridesMode) {
+        publishSnapshot(snapshot.with(OVERRIDES_MODE_KEY, overridesMode.name()));
+    }
+
+    /**
+     * Method to get the mode to document the methods which override an already documented method <br>
+     * No-any params required
+     *
+     * @return the mode to use as {@link OverridesMode}
+     * @apiNote if not set will be used the {@link OverridesMode#DOCUMENT} mode
+     */
+    public OverridesMode getOverridesMode() {
+        try {
+            return OverridesMode.valueOf(snapshot.get(OVERRIDES_MODE_KEY, OverridesMode.DOCUMENT.name()));
+        } catch (IllegalArgumentException e) {
+            return OverridesMode.DOCUMENT;
         }
     }
 
@@ -1,19 +1,36 @@
 package com.tecknobit.javadocky;
 
+import com.intellij.ide.util.TreeClassChooser;
+import com.intellij.ide.util.TreeClassChooserFactory;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.event.DocumentEvent;
 import com.intellij.openapi.editor.event.DocumentListener;
 import com.intellij.openapi.editor.ex.EditorEx;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowFactory;
 import com.intellij.psi.JavaCodeFragmentFactory;
+import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
 import com.intellij.ui.EditorTextField;
+import com.intellij.ui.components.JBList;
 import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextArea;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.table.JBTable;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.tecknobit.javadocky.core.MethodType;
+import com.tecknobit.javadocky.core.Tag;
+import com.tecknobit.javadocky.core.TemplatesProfiler;
+import com.tecknobit.javadocky.core.TemplatesProfiler.TemplateStatistics;
 import org.jdesktop.swingx.HorizontalLayout;
 import org.jdesktop.swingx.VerticalLayout;
 import org.jetbrains.annotations.NotNull;
@@ -36,8 +53,8 @@ import static com.intellij.ui.content.ContentFactory.getInstance;
 import static com.intellij.util.ui.JBUI.Borders.empty;
 import static com.tecknobit.javadocky.JavaDockyConfiguration.*;
 import static com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem.Methods;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.MethodType.CUSTOM;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.Tag.*;
+import static com.tecknobit.javadocky.core.MethodType.CUSTOM;
+import static com.tecknobit.javadocky.core.Tag.*;
 import static java.awt.Color.getColor;
 import static java.awt.Font.*;
 import static javax.swing.BorderFactory.createLineBorder;
@@ -62,7 +79,7 @@ public class JavaDockyDashboard implements ToolWindowFactory {
     @Override
     public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
         try {
-            JavaDockyContent javaDockyContent = new JavaDockyContent(project);
+            JavaDockyContent javaDockyContent = new JavaDockyContent(project, toolWindow.getDisposable());
             Content content = getInstance().createContent(javaDockyContent.getContent(), "", false);
             toolWindow.getContentManager().addContent(content);
         } catch (Exception e) {
@@ -82,28 +99,95 @@ public class JavaDockyDashboard implements ToolWindowFactory {
          */
         private final JPanel contentPanel = new JPanel();
 
+        /**
+         * {@code CUSTOM_TEMPLATE_PROTOTYPE} the prototype of the rows of the {@link #customTemplates}, used to compute
+         * their size without measuring all the rows
+         */
+        private static final String CUSTOM_TEMPLATE_PROTOTYPE = "CUSTOM METHOD TEMPLATE NAME";
+
+        /**
+         * {@code TEMPLATES_SAVING_DELAY} the delay in milliseconds to wait after the last change of an editor before
+         * save its template
+         */
+        private static final int TEMPLATES_SAVING_DELAY = 300;
+
+        /**
+         * {@code PREVIEW_DELAY} the delay in milliseconds to wait after the last change of an editor before render
+         * the preview
+         */
+        private static final int PREVIEW_DELAY = 300;
+
+        /**
+         * {@code configuration} instance to manage the {@code JavaDocky}'s configuration
+         */
+        private final JavaDockyConfiguration configuration = JavaDockyConfiguration.getInstance();
+
         /**
          * {@code project} the project in use
          */
         private final Project project;
 
         /**
-         * {@code methodTextField} the editor text field for the method item
+         * {@code disposable} the disposable of the toolwindow, used to dispose the resources of the dashboard
+         */
+        private final Disposable disposable;
+
+        /**
+         * {@code previewAlarm} the alarm to debounce the renders of the preview
+         */
+        private final Alarm previewAlarm;
+
+        /**
+         * {@code previewClass} the class where preview the templates, {@code null} if not chosen yet
+         */
+        private SmartPsiElementPointer<PsiClass> previewClass;
+
+        /**
+         * {@code previewKey} the key of the template edited for the last time, {@code null} if no-any template has
+         * been edited yet
+         */
+        private String previewKey;
+
+        /**
+         * {@code previewTemplate} the value of the template edited for the last time
+         */
+        private String previewTemplate;
+
+        /**
+         * {@code previewArea} the area where show the preview
+         */
+        private JBTextArea previewArea;
+
+        /**
+         * {@code previewCost} the label where show the cost of the last preview
+         */
+        private JLabel previewCost;
+
+        /**
+         * {@code methodEditor} the holder of the editor text field for the method item
          */
-        private EditorTextField methodTextField;
+        private TextEditorHolder methodEditor;
 
         /**
-         * {@code customTemplates} the combobox for the custom method templates
+         * {@code customTemplatesModel} the model of the list of the custom method templates
          */
-        private ComboBox<String> customTemplates;
+        private CustomTemplatesModel customTemplatesModel;
+
+        /**
+         * {@code customTemplates} the list of the custom method templates
+         */
+        private JBList<String> customTemplates;
 
         /**
          * Constructor to init {@link JavaDockyContent}
          *
-         * @param project: the current project
+         * @param project:    the current project
+         * @param disposable: the disposable of the toolwindow
          */
-        public JavaDockyContent(Project project) {
+        public JavaDockyContent(Project project, Disposable disposable) {
             this.project = project;
+            this.disposable = disposable;
+            previewAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, disposable);
             contentPanel.setLayout(new VerticalLayout(10));
             contentPanel.addHierarchyListener(e -> refreshPanel());
             contentPanel.setBorder(empty(10));
@@ -111,6 +195,11 @@ public class JavaDockyDashboard implements ToolWindowFactory {
             setTagsLayout();
             contentPanel.add(getHeaderTitle("Configuration"));
             setConfigurationLayout();
+            setOverridesModeLayout();
+            contentPanel.add(getHeaderTitle("Preview"));
+            setPreviewLayout();
+            contentPanel.add(getHeaderTitle("Profiler"));
+            setProfilerLayout();
         }
 
         /**
@@ -169,7 +258,7 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                 });
                 container.setBorder(createLineBorder(getColor("#f5f5f5"), 1));
                 ComboBox<MethodType> comboBox;
-                EditorTextField docuText;
+                TextEditorHolder docuText;
                 JPanel itemPanel = new JPanel(new HorizontalLayout(50));
                 itemPanel.setBorder(empty(10));
                 JCheckBox itemCheckBox = new JCheckBox(item.name());
@@ -189,6 +278,7 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                 arrowButton.setVisible(itemCheckBox.isSelected());
                 if (item == Methods) {
                     docuText = null;
+                    methodEditor = new TextEditorHolder(container);
                     comboBox = new ComboBox<>(MethodType.values());
                     setDefComboBoxLayout(comboBox, false);
                     final JPanel[] customMethodPanel = {null};
@@ -209,7 +299,7 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                                 container.remove(customMethodPanel[0]);
                                 customMethodPanel[0] = null;
                             }
-                            removeMethodTextField(container);
+                            methodEditor.release();
                         }
                     });
                     arrowButton.addActionListener(e -> {
@@ -221,7 +311,7 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                                 container.remove(customMethodPanel[0]);
                                 customMethodPanel[0] = null;
                             }
-                            removeMethodTextField(container);
+                            methodEditor.release();
                         }
                     });
                     comboBox.addActionListener(e -> {
@@ -233,9 +323,9 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                                         container.remove(customMethodPanel[0]);
                                         customMethodPanel[0] = null;
                                     }
-                                    manageMethodText(methodType, container);
+                                    manageMethodText(methodType);
                                 } else {
-                                    removeMethodTextField(container);
+                                    methodEditor.release();
                                     if (customMethodPanel[0] == null) {
                                         customMethodPanel[0] = new JPanel(new VerticalLayout());
                                         customMethodPanel[0].setBorder(empty(15));
@@ -253,45 +343,43 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                                         JLabel jTitle = new JLabel("Current custom methods templates");
                                         jTitle.setFont(getFontText(15));
                                         customMethodPanel[0].add(jTitle);
-                                        customTemplates = new ComboBox<>(configuration.getCustomMethodMenuItems());
-                                        customTemplates.addActionListener(e1 -> {
-                                            try {
-                                                String selectedItem = (String) customTemplates.getSelectedItem();
-                                                if (selectedItem.equals("Add custom method")) {
-                                                    String name = showInputDialog(project, "Insert a name for " +
-                                                            "the custom method to add", "Custom Method Name", null);
-                                                    if (name != null) {
-                                                        if (!name.isEmpty()) {
-                                                            if (configuration.getCustomMethodTemplate(name, null)
-                                                                    == null) {
-                                                                configuration.addDocuTemplate(methodType.name()
-                                                                        + name, defDocuTemplate);
-                                                                customTemplates.removeAllItems();
-                                                                for (String method : configuration.getCustomMethodMenuItems())
-                                                                    customTemplates.addItem(method);
-                                                                customTemplates.setEditable(true);
-                                                                customTemplates.setSelectedItem(name);
-                                                                customTemplates.setEditable(false);
-                                                                manageMethodText(name, container);
-                                                            } else {
-                                                                showErrorDialog("The name inserted is already used",
-                                                                        "Name Already Exists");
-                                                                setDefCustomTemplatesLayout(container);
-                                                            }
-                                                        } else {
-                                                            showErrorDialog("You must insert a valid name for " +
-                                                                    "the custom method", "Wrong Name");
-                                                            setDefCustomTemplatesLayout(container);
-                                                        }
-                                                    } else
-                                                        setDefCustomTemplatesLayout(container);
-                                                } else
-                                                    manageMethodText(selectedItem, container);
-                                            } catch (Exception exception) {
-                                                throw new RuntimeException(exception);
-                                            }
+                                        customTemplatesModel = new CustomTemplatesModel();
+                                        refreshCustomTemplates();
+                                        customTemplates = new JBList<>(customTemplatesModel);
+                                        customTemplates.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+                                        customTemplates.setPrototypeCellValue(CUSTOM_TEMPLATE_PROTOTYPE);
+                                        customTemplates.setVisibleRowCount(8);
+                                        customTemplates.addListSelectionListener(e1 -> {
+                                            String selectedItem = customTemplates.getSelectedValue();
+                                            if (!e1.getValueIsAdjusting() && selectedItem != null)
+                                                manageMethodText(selectedItem);
                                         });
-                                        customMethodPanel[0].add(customTemplates);
+                                        JButton addCustomMethod = new JButton("Add custom method");
+                                        addCustomMethod.addActionListener(e1 -> {
+                                            String name = showInputDialog(project, "Insert a name for " +
+                                                    "the custom method to add", "Custom Method Name", null);
+                                            if (name != null) {
+                                                if (!name.isEmpty()) {
+                                                    if (configuration.getCustomMethodTemplate(name, null) == null) {
+                                                        configuration.addDocuTemplate(methodType.name() + name,
+                                                                defDocuTemplate);
+                                                        refreshCustomTemplates();
+                                                        customTemplates.setSelectedValue(name, true);
+                                                    } else {
+                                                        showErrorDialog("The name inserted is already used",
+                                                                "Name Already Exists");
+                                                        setDefCustomTemplatesLayout();
+                                                    }
+                                                } else {
+                                                    showErrorDialog("You must insert a valid name for " +
+                                                            "the custom method", "Wrong Name");
+                                                    setDefCustomTemplatesLayout();
+                                                }
+                                            } else
+                                                setDefCustomTemplatesLayout();
+                                        });
+                                        customMethodPanel[0].add(addCustomMethod);
+                                        customMethodPanel[0].add(new JBScrollPane(customTemplates));
                                         container.add(customMethodPanel[0]);
                                     }
                                 }
@@ -303,7 +391,7 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                     });
                 } else {
                     comboBox = null;
-                    docuText = createTextEditor(false);
+                    docuText = new TextEditorHolder(container);
                     itemCheckBox.addActionListener(new ActionListener() {
                         /**
                          * {@inheritDoc}
@@ -325,18 +413,173 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                             setButtonDirection(arrowButton);
                         }
                     });
-                    addEditorListener(docuText, item);
                 }
                 itemPanel.add(arrowButton);
                 container.add(itemPanel);
                 if (comboBox != null)
                     container.add(comboBox);
-                else
-                    container.add(docuText);
                 contentPanel.add(container);
             }
         }
 
+        /**
+         * Method to set the layout to choose the {@link OverridesMode} <br>
+         * No-any params required
+         */
+        private void setOverridesModeLayout() {
+            JPanel overridesPanel = new JPanel(new HorizontalLayout(10));
+            overridesPanel.setBorder(empty(10));
+            JLabel lOverrides = new JLabel("Overriding methods");
+            lOverrides.setFont(getFontText(15));
+            overridesPanel.add(lOverrides);
+            ComboBox<OverridesMode> overridesModes = new ComboBox<>(OverridesMode.values());
+            overridesModes.setSelectedItem(configuration.getOverridesMode());
+            overridesModes.addActionListener(e -> {
+                OverridesMode overridesMode = (OverridesMode) overridesModes.getSelectedItem();
+                if (overridesMode != null)
+                    configuration.setOverridesMode(overridesMode);
+            });
+            overridesPanel.add(overridesModes);
+            contentPanel.add(overridesPanel);
+        }
+
+        /**
+         * Method to set the layout to preview the templates on a class of the project <br>
+         * No-any params required
+         */
+        private void setPreviewLayout() {
+            JPanel choosePanel = new JPanel(new HorizontalLayout(10));
+            JLabel lPreviewClass = new JLabel("No class chosen");
+            lPreviewClass.setFont(getFontText(15));
+            JButton chooseClass = new JButton("Choose class");
+            chooseClass.addActionListener(e -> {
+                TreeClassChooser classChooser = TreeClassChooserFactory.getInstance(project)
+                        .createProjectScopeChooser("Choose the Class Where Preview the Templates");
+                classChooser.showDialog();
+                PsiClass selectedClass = classChooser.getSelected();
+                if (selectedClass != null) {
+                    previewClass = SmartPointerManager.createPointer(selectedClass);
+                    lPreviewClass.setText(selectedClass.getName());
+                    schedulePreview();
+                }
+            });
+            choosePanel.add(chooseClass);
+            choosePanel.add(lPreviewClass);
+            contentPanel.add(choosePanel);
+            previewArea = new JBTextArea(12, 40);
+            previewArea.setEditable(false);
+            previewArea.setFont(getFontText(MONOSPACED, 13));
+            contentPanel.add(new JBScrollPane(previewArea));
+            previewCost = new JLabel();
+            previewCost.setFont(getFontText(13));
+            contentPanel.add(previewCost);
+        }
+
+        /**
+         * Method to set the layout to profile the matching of the {@link MethodType#CUSTOM} templates <br>
+         * No-any params required
+         *
+         * @apiNote the table can be sorted by any column clicking on its header
+         */
+        private void setProfilerLayout() {
+            JPanel profilerPanel = new JPanel(new HorizontalLayout(10));
+            JCheckBox profile = new JCheckBox("Profile custom templates");
+            profile.setSelected(TemplatesProfiler.isEnabled());
+            profile.addActionListener(e -> TemplatesProfiler.setEnabled(profile.isSelected()));
+            profilerPanel.add(profile);
+            DefaultTableModel model = new DefaultTableModel(new String[]{"Template", "Attempts", "Hits", "Uses",
+                    "Time (ms)"}, 0) {
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public Class<?> getColumnClass(int columnIndex) {
+                    return switch (columnIndex) {
+                        case 0 -> String.class;
+                        case 4 -> Double.class;
+                        default -> Long.class;
+                    };
+                }
+            };
+            JButton refresh = new JButton("Refresh");
+            refresh.addActionListener(e -> refreshProfilerTable(model));
+            profilerPanel.add(refresh);
+            JButton reset = new JButton("Reset");
+            reset.addActionListener(e -> {
+                TemplatesProfiler.reset();
+                refreshProfilerTable(model);
+            });
+            profilerPanel.add(reset);
+            contentPanel.add(profilerPanel);
+            JBTable table = new JBTable(model);
+            table.setDefaultEditor(Object.class, null);
+            table.setAutoCreateRowSorter(true);
+            table.setFont(getFontText(SANS_SERIF, 13));
+            contentPanel.add(new JBScrollPane(table));
+        }
+
+        /**
+         * Method to refresh the table of the profiler with the statistics recorded
+         *
+         * @param model: the model of the table to refresh
+         */
+        private void refreshProfilerTable(DefaultTableModel model) {
+            model.setRowCount(0);
+            for (TemplateStatistics statistics : TemplatesProfiler.getStatistics()) {
+                model.addRow(new Object[]{statistics.getName(), statistics.getAttempts(), statistics.getHits(),
+                        statistics.getUses(), statistics.getEvaluationTime() / 1_000_000.0});
+            }
+        }
+
+        /**
+         * Method to schedule the render of the preview, cancelling the previous one scheduled <br>
+         * No-any params required
+         */
+        private void schedulePreview() {
+            previewAlarm.cancelAllRequests();
+            previewAlarm.addRequest(this::updatePreview, PREVIEW_DELAY);
+        }
+
+        /**
+         * Method to render the preview in a background read action and show it <br>
+         * No-any params required
+         *
+         * @apiNote a render still running when a newer one is submitted will be cancelled
+         */
+        private void updatePreview() {
+            SmartPsiElementPointer<PsiClass> vPreviewClass = previewClass;
+            if (vPreviewClass == null)
+                return;
+            String key = previewKey;
+            String template = previewTemplate;
+            ReadAction.nonBlocking(() -> {
+                        PsiClass psiClass = vPreviewClass.getElement();
+                        if (psiClass == null)
+                            return null;
+                        JavaDockyConfiguration vConfiguration = JavaDockyProjectConfiguration.getInstance(project)
+                                .getConfiguration();
+                        if (key != null && template.startsWith("/**") && template.endsWith("*/")) {
+                            vConfiguration = new JavaDockyConfiguration(vConfiguration.getSnapshot()
+                                    .with(key, template));
+                        }
+                        return TemplatesPreview.render(project, psiClass, vConfiguration);
+                    })
+                    .coalesceBy(this)
+                    .expireWith(disposable)
+                    .finishOnUiThread(ModalityState.any(), preview -> {
+                        if (preview == null) {
+                            previewArea.setText("The class chosen is no longer available");
+                            previewCost.setText("");
+                        } else {
+                            previewArea.setText(preview.getText());
+                            previewArea.setCaretPosition(0);
+                            previewCost.setText(String.format("%d docu-comments rendered in %.2f ms",
+                                    preview.getDocuComments(), preview.getElapsedTime() / 1_000_000.0));
+                        }
+                    })
+                    .submit(AppExecutorUtil.getAppExecutorService());
+        }
+
         /**
          * Method to get the font for a {@link JComponent}
          *
@@ -424,63 +667,84 @@ public class JavaDockyDashboard implements ToolWindowFactory {
         /**
          * Method to manage the method panel
          *
-         * @param method:    method to work on
-         * @param container: the panel of the method layout
+         * @param method: method to work on
          */
-        private <T> void manageMethodText(T method, JPanel container) {
-            removeMethodTextField(container);
+        private <T> void manageMethodText(T method) {
             try {
                 MethodType.valueOf(method.toString());
             } catch (IllegalArgumentException e) {
                 method = (T) (CUSTOM.name() + method);
             }
-            methodTextField = createTextEditor(true);
-            methodTextField.setText(configuration.getMethodTemplate(method));
-            addEditorListener(methodTextField, method);
-            container.add(methodTextField);
+            methodEditor.show(method, configuration.getMethodTemplate(method));
         }
 
         /**
-         * Method to remove the method textfield from the container panel
-         *
-         * @param container: the panel where remove the container panel
+         * Method to set the default {@link #customTemplates} layout <br>
+         * No-any params required
          */
-        private void removeMethodTextField(JPanel container) {
-            if (methodTextField != null)
-                container.remove(methodTextField);
+        private void setDefCustomTemplatesLayout() {
+            customTemplates.clearSelection();
+            methodEditor.release();
         }
 
         /**
-         * Method to set the default {@link #customTemplates} layout
-         *
-         * @param container: the panel where set the default {@link #customTemplates} layout
+         * Method to refresh the {@link #customTemplatesModel} with the current custom method templates <br>
+         * No-any params required
          */
-        private void setDefCustomTemplatesLayout(JPanel container) {
-            customTemplates.setSelectedItem(0);
-            removeMethodTextField(container);
+        private void refreshCustomTemplates() {
+            customTemplatesModel.setNames(configuration.getSnapshot().getCustomMethodTemplates().keySet()
+                    .toArray(new String[0]));
         }
 
         /**
          * Method to set the docu-text layout
          *
-         * @param docuText:  the editor where insert the template
+         * @param docuText:  the holder of the editor where insert the template
          * @param isVisible: whether the arrow button is visible
          * @param item:      the item of the panel
+         * @apiNote the editor is created only when it has to be visible and released when it is hidden
          */
-        private void setDocuTextLayout(EditorTextField docuText, boolean isVisible, JavaDockyItem item) {
-            docuText.setVisible(isVisible);
-            docuText.setText(configuration.getItemTemplate(item));
+        private void setDocuTextLayout(TextEditorHolder docuText, boolean isVisible, JavaDockyItem item) {
+            if (isVisible) {
+                String template = configuration.getItemTemplate(item);
+                docuText.show(item, template);
+                configuration.addDocuTemplate(item, template);
+            } else
+                docuText.release();
         }
 
         /**
          * Method to add a listener on a text field to get the template for an item
          *
-         * @param textField: the editor text field to get the template for an item
-         * @param item:      the item used for the textfield
+         * @param textField:        the editor text field to get the template for an item
+         * @param item:             the item used for the textfield
+         * @param parentDisposable: the disposable of the text field
+         * @apiNote the template is saved only when the text field has not been changed for
+         * {@link #TEMPLATES_SAVING_DELAY} milliseconds, so the configuration is not updated on each keystroke, a
+         * pending change is saved when the text field is released, the preview is rendered with the same debounce
          */
-        private <T> void addEditorListener(EditorTextField textField, T item) {
-            boolean deleteIfEmpty = MethodType.isValidMethod(item.toString());
+        private <T> void addEditorListener(EditorTextField textField, T item, Disposable parentDisposable) {
+            boolean deleteIfEmpty = isValidMethod(item.toString());
             String sItem = item.toString().replace(CUSTOM.name(), "");
+            Alarm savingAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, parentDisposable);
+            Runnable saveTemplate = () -> {
+                String vDocu = textField.getText();
+                if (vDocu.startsWith("/**") && vDocu.endsWith("*/"))
+                    configuration.addDocuTemplate(item, vDocu);
+                else if (vDocu.isEmpty() && deleteIfEmpty) {
+                    configuration.removeMethodTemplate(sItem);
+                    try {
+                        MethodType.valueOf(sItem);
+                    } catch (IllegalArgumentException e) {
+                        refreshCustomTemplates();
+                        setDefCustomTemplatesLayout();
+                    }
+                }
+            };
+            Disposer.register(parentDisposable, () -> {
+                if (!savingAlarm.isEmpty())
+                    saveTemplate.run();
+            });
             textField.addDocumentListener(new DocumentListener() {
                 /**
                  * Called after the text of the document has been changed.
@@ -490,18 +754,11 @@ public class JavaDockyDashboard implements ToolWindowFactory {
                 @Override
                 public void documentChanged(@NotNull DocumentEvent event) {
                     DocumentListener.super.documentChanged(event);
-                    String vDocu = textField.getText();
-                    if (vDocu.startsWith("/**") && vDocu.endsWith("*/"))
-                        configuration.addDocuTemplate(item, vDocu);
-                    else if (vDocu.isEmpty() && deleteIfEmpty) {
-                        configuration.removeMethodTemplate(sItem);
-                        try {
-                            MethodType.valueOf(sItem);
-                        } catch (IllegalArgumentException e) {
-                            customTemplates.removeItem(sItem);
-                            customTemplates.setSelectedItem(0);
-                        }
-                    }
+                    savingAlarm.cancelAllRequests();
+                    savingAlarm.addRequest(saveTemplate, TEMPLATES_SAVING_DELAY);
+                    previewKey = item.toString();
+                    previewTemplate = textField.getText();
+                    schedulePreview();
                 }
             });
         }
@@ -534,6 +791,118 @@ public class JavaDockyDashboard implements ToolWindowFactory {
             return new JBScrollPane(contentPanel);
         }
 
+        /**
+         * The {@code TextEditorHolder} class is useful to create an editor text field only when it has to be shown
+         * and to release it, with its resources, when it is hidden
+         *
+         * @author N7ghtm4r3 - Tecknobit
+         */
+        private final class TextEditorHolder {
+
+            /**
+             * {@code container} the panel where show the editor text field
+             */
+            private final JPanel container;
+
+            /**
+             * {@code textField} the editor text field currently shown, {@code null} if not shown
+             */
+            private EditorTextField textField;
+
+            /**
+             * {@code textFieldDisposable} the disposable of the {@link #textField}
+             */
+            private Disposable textFieldDisposable;
+
+            /**
+             * Constructor to init {@link TextEditorHolder}
+             *
+             * @param container: the panel where show the editor text field
+             */
+            private TextEditorHolder(JPanel container) {
+                this.container = container;
+            }
+
+            /**
+             * Method to show a new editor text field for an item
+             *
+             * @param item:     the item used for the text field
+             * @param template: the template to insert in the text field
+             * @apiNote the editor text field currently shown will be released
+             */
+            private <T> void show(T item, String template) {
+                release();
+                textFieldDisposable = Disposer.newDisposable(disposable, "JavaDocky template editor");
+                textField = createTextEditor(true);
+                textField.setText(template);
+                addEditorListener(textField, item, textFieldDisposable);
+                container.add(textField);
+            }
+
+            /**
+             * Method to release the editor text field currently shown <br>
+             * No-any params required
+             */
+            private void release() {
+                if (textField != null) {
+                    EditorTextField vTextField = textField;
+                    Disposable vTextFieldDisposable = textFieldDisposable;
+                    textField = null;
+                    textFieldDisposable = null;
+                    Disposer.dispose(vTextFieldDisposable);
+                    container.remove(vTextField);
+                }
+            }
+
+        }
+
+    }
+
+    /**
+     * The {@code CustomTemplatesModel} class is the model of the list of the custom method templates, it does not copy
+     * the names of the templates in other structures, so the list, which renders only its visible rows, can show
+     * thousands of templates instantly
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see AbstractListModel
+     */
+    private static final class CustomTemplatesModel extends AbstractListModel<String> {
+
+        /**
+         * {@code names} the names of the custom method templates
+         */
+        private String[] names = new String[0];
+
+        /**
+         * Method to set the names of the custom method templates
+         *
+         * @param names: the names of the custom method templates
+         */
+        private void setNames(String[] names) {
+            int previousSize = this.names.length;
+            this.names = names;
+            if (previousSize > 0)
+                fireIntervalRemoved(this, 0, previousSize - 1);
+            if (names.length > 0)
+                fireIntervalAdded(this, 0, names.length - 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getSize() {
+            return names.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getElementAt(int index) {
+            return names[index];
+        }
+
     }
 
 }
@@ -1,45 +1,37 @@
 package com.tecknobit.javadocky;
 
-import com.intellij.navigation.NavigationItem;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import com.intellij.psi.javadoc.PsiDocComment;
 import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
-import com.tecknobit.javadocky.JavaDockyConfiguration.MethodType;
-import com.tecknobit.javadocky.JavaDockyConfiguration.Tag;
+import com.tecknobit.javadocky.JavaDockyConfiguration.OverridesMode;
+import com.tecknobit.javadocky.core.*;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
-import java.util.prefs.BackingStoreException;
+import java.util.HashSet;
 
-import static com.tecknobit.javadocky.JavaDockyConfiguration.MethodType.*;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.Tag.*;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.configuration;
+import static com.tecknobit.javadocky.MemberDescriptors.*;
+import static com.tecknobit.javadocky.core.MethodType.CUSTOM;
+import static com.tecknobit.javadocky.core.MethodType.SETTER;
 
 /**
  * The {@code JavaDockyDocuManager} class is useful to manage and create the {@code JavaDocky}'s docu-comments
  *
  * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the members are adapted to the {@link MemberDescriptor}s rendered by a {@link DocuRenderer}, this manager
+ * only parses the docu-comments rendered
  **/
 public class JavaDockyDocuManager {
 
     /**
-     * {@code PRIMITIVE_TYPES} list of primitive types
+     * {@code INHERIT_DOC_TEMPLATE} the docu-comment used with the {@link OverridesMode#INHERIT_DOC} mode
      */
-    private static final ArrayList<String> PRIMITIVE_TYPES = new ArrayList<>(List.of("boolean", "byte", "char", "short",
-            "int", "long", "float", "double"));
+    private static final String INHERIT_DOC_TEMPLATE = "/**\n * {@inheritDoc}\n */";
 
     /**
-     * {@code AND_KEYWORD} and keyword
+     * {@code configuration} instance to manage the {@code JavaDocky}'s configuration
      */
-    private static final String AND_KEYWORD = " and ";
-
-    /**
-     * {@code OF_KEYWORD} of keyword
-     */
-    private static final String OF_KEYWORD = " of ";
+    private final JavaDockyConfiguration configuration;
 
     /**
      * {@code factory} useful to add the docu-comment in the {@link #psiClass}
@@ -51,6 +43,48 @@ public class JavaDockyDocuManager {
      */
     private final PsiClass psiClass;
 
+    /**
+     * {@code docuRenderer} the renderer of the docu-comments
+     */
+    private final DocuRenderer docuRenderer;
+
+    /**
+     * {@code prototypeRenderer} the reused builder where the {@link DocuCommentPrototype}s are rendered
+     */
+    private final StringBuilder prototypeRenderer = new StringBuilder();
+
+    /**
+     * {@code parsedDocuComments} the docu-comments parsed during this run mapped by their text
+     *
+     * @apiNote the same instance can be returned more times because it is copied when added to a class
+     */
+    private final HashMap<String, PsiDocComment> parsedDocuComments = new HashMap<>();
+
+    /**
+     * {@code prototypes} the prototypes of the templates used more than one time during this run
+     */
+    private final HashMap<JavaDockyTemplate, DocuCommentPrototype> prototypes = new HashMap<>();
+
+    /**
+     * {@code usedTemplates} the templates already used during this run
+     */
+    private final HashSet<JavaDockyTemplate> usedTemplates = new HashSet<>();
+
+    /**
+     * {@code inheritDocComment} the docu-comment used with the {@link OverridesMode#INHERIT_DOC} mode during this run
+     */
+    private PsiDocComment inheritDocComment;
+
+    /**
+     * {@code createdDocuComments} the number of the docu-comments created during this run
+     */
+    private int createdDocuComments;
+
+    /**
+     * {@code parserInvocations} the number of the docu-comments parsed during this run
+     */
+    private int parserInvocations;
+
     /**
      * Constructor to init {@link JavaDockyDocuManager}
      *
@@ -58,6 +92,36 @@ public class JavaDockyDocuManager {
      * @param psiClass: current class where the plugin is working on
      */
     public JavaDockyDocuManager(Project project, PsiClass psiClass) {
+        this(project, psiClass, JavaDockyProjectConfiguration.getInstance(project).getConfiguration());
+    }
+
+    /**
+     * Constructor to init {@link JavaDockyDocuManager}
+     *
+     * @param project:       current project where the plugin is working on
+     * @param psiClass:      current class where the plugin is working on
+     * @param configuration: the configuration from fetch the docu-templates
+     * @apiNote the docu-comments are cached in the {@link JavaDockyConfiguration#getDocuCommentsCache()} of the
+     * configuration, so the projects with different docu-templates do not invalidate the cache of each other
+     */
+    public JavaDockyDocuManager(Project project, PsiClass psiClass, JavaDockyConfiguration configuration) {
+        this(project, psiClass, configuration, configuration.getDocuCommentsCache());
+    }
+
+    /**
+     * Constructor to init {@link JavaDockyDocuManager}
+     *
+     * @param project:           current project where the plugin is working on
+     * @param psiClass:          current class where the plugin is working on
+     * @param configuration:     the configuration from fetch the docu-templates
+     * @param docuCommentsCache: the cache where store the docu-comments rendered
+     * @apiNote useful to render docu-comments with a configuration different from the one of the project, like a
+     * preview of a template not saved yet, without invalidating the cache of the configuration
+     */
+    public JavaDockyDocuManager(Project project, PsiClass psiClass, JavaDockyConfiguration configuration,
+                                DocuCommentsCache docuCommentsCache) {
+        this.configuration = configuration;
+        this.docuRenderer = new DocuRenderer(docuCommentsCache);
         this.factory = JavaPsiFacade.getInstance(project).getElementFactory();
         this.psiClass = psiClass;
     }
@@ -69,7 +133,8 @@ public class JavaDockyDocuManager {
      * @return the docu-comment created with the {@link JavaDockyItem#Classes}'s template as {@link PsiDocComment}
      */
     public PsiDocComment createClassDocu(PsiClass currentClass) {
-        return createDocuComment(formatClassNameTag(configuration.getClassTemplate(), currentClass));
+        return createDocuComment(JavaDockyItem.Classes.name(), getCompiledTemplate(configuration.getClassTemplate()),
+                describeClass(currentClass), false);
     }
 
     /**
@@ -79,7 +144,8 @@ public class JavaDockyDocuManager {
      * @return the docu-comment created with the {@link JavaDockyItem#Fields}'s template as {@link PsiDocComment}
      */
     public PsiDocComment createFieldDocu(PsiField field) {
-        return createDocuComment(formatInstanceTag(configuration.getFieldTemplate(), field));
+        return createDocuComment(JavaDockyItem.Fields.name(), getCompiledTemplate(configuration.getFieldTemplate()),
+                describeField(field), false);
     }
 
     /**
@@ -89,7 +155,8 @@ public class JavaDockyDocuManager {
      * @return the docu-comment created with the {@link JavaDockyItem#Constructors}'s template as {@link PsiDocComment}
      */
     public PsiDocComment createConstructorDocu(PsiMethod constructor) {
-        return formatParamsTag(constructor, formatClassNameTag(configuration.getConstructorTemplate(), constructor));
+        return createDocuComment(JavaDockyItem.Constructors.name(),
+                getCompiledTemplate(configuration.getConstructorTemplate()), describeConstructor(constructor), false);
     }
 
     /**
@@ -97,65 +164,75 @@ public class JavaDockyDocuManager {
      *
      * @param method: method where add the docu-comment
      * @return the docu-comment created with the {@link JavaDockyItem#Methods}'s template as {@link PsiDocComment}
-     * @apiNote this method will automatically fetch if the template to use is {@link MethodType#CUSTOM} or not
+     * @apiNote this method will automatically fetch if the template to use is {@link MethodType#CUSTOM} or not, if
+     * the method overrides an already documented method will be used the current {@link OverridesMode}
      */
-    public PsiDocComment createMethodDocu(PsiMethod method) throws BackingStoreException {
-        String methodName = method.getName();
+    public PsiDocComment createMethodDocu(PsiMethod method) {
+        OverridesMode overridesMode = configuration.getOverridesMode();
+        if (overridesMode != OverridesMode.DOCUMENT && SuperMethodsResolver.overridesDocumentedMethod(method)) {
+            if (overridesMode == OverridesMode.SKIP)
+                return null;
+            if (inheritDocComment == null) {
+                inheritDocComment = factory.createDocCommentFromText(INHERIT_DOC_TEMPLATE);
+                parserInvocations++;
+            }
+            createdDocuComments++;
+            return inheritDocComment;
+        }
         MethodType methodType = reachMethodType(method);
         if (methodType != CUSTOM) {
             String template = configuration.getMethodTemplate(methodType, null);
             if (template != null) {
+                JavaDockyTemplate compiledTemplate = getCompiledTemplate(template);
                 if (methodType != SETTER)
-                    return formatInstanceMethodTag(template, method);
-                else
-                    return formatParamsTag(method, template.replaceAll(instance.getTag(), getSetterInstanceName(method)));
+                    return formatInstanceMethodTag(methodType.name(), compiledTemplate, method);
+                return createDocuComment(methodType.name(), compiledTemplate,
+                        describeMethod(method, AccessorsAnalyzer.getAssignedField(method), compiledTemplate), true);
             }
         } else {
-            for (String template : configuration.getCustomMethodTemplates()) {
-                boolean useDocuTemplate = true;
-                String nameContains = Tag.nameContains.getTag();
-                if (template.contains(nameContains)) {
-                    String nameContainsValue = getTagValue(template, nameContains);
-                    boolean useDefName = nameContainsValue.isEmpty();
-                    if (useDefName)
-                        nameContainsValue = configuration.getCustomMethodName(methodName);
-                    if (!methodName.contains(nameContainsValue))
-                        useDocuTemplate = false;
-                    else {
-                        if (useDefName)
-                            nameContainsValue = "";
-                        template = removeTagFromTemplate(template, nameContains, nameContainsValue);
-                    }
-                }
-                if (useDocuTemplate) {
-                    String returnTypeIs = Tag.returnTypeIs.getTag();
-                    if (template.contains(returnTypeIs)) {
-                        String returnTypeValue = getTagValue(template, returnTypeIs);
-                        PsiTypeElement returnType = method.getReturnTypeElement();
-                        if (returnType != null && !returnType.getText().equals(returnTypeValue))
-                            useDocuTemplate = false;
-                        else
-                            template = removeTagFromTemplate(template, returnTypeIs, returnTypeValue);
-                    }
-                    if (useDocuTemplate) {
-                        String hasP = Tag.hasP.getTag();
-                        if (template.contains(hasP)) {
-                            String replacer = getTagValue(template, hasP, false);
-                            String psiParameters = Arrays.toString(method.getParameterList().getParameters());
-                            for (String iHasP : replacer.replaceAll(" ", "").split(","))
-                                useDocuTemplate = psiParameters.contains(iHasP);
-                            if (useDocuTemplate)
-                                template = removeTagFromTemplate(template, hasP, replacer);
-                        }
-                        if (useDocuTemplate)
-                            return formatInstanceMethodTag(template, method);
-                    }
-                }
+            CustomMethodsMatcher matcher = configuration.getSnapshot().getCustomMethodsMatcher();
+            int templateIndex = matchCustomTemplate(matcher, method);
+            if (templateIndex != -1) {
+                return formatInstanceMethodTag(CUSTOM.name() + matcher.getName(templateIndex),
+                        matcher.getTemplate(templateIndex), method);
             }
         }
         return null;
     }
 
+    /**
+     * Method to check whether a docu-template would be used to document a method, without creating the docu-comment
+     *
+     * @param method: the method to check
+     * @return whether a docu-template would be used to document the method as boolean
+     * @apiNote the same rules of {@link #createMethodDocu(PsiMethod)} are applied
+     */
+    public boolean hasMethodTemplate(PsiMethod method) {
+        OverridesMode overridesMode = configuration.getOverridesMode();
+        if (overridesMode != OverridesMode.DOCUMENT && SuperMethodsResolver.overridesDocumentedMethod(method))
+            return overridesMode != OverridesMode.SKIP;
+        MethodType methodType = reachMethodType(method);
+        if (methodType != CUSTOM)
+            return configuration.getMethodTemplate(methodType, null) != null;
+        return matchCustomTemplate(configuration.getSnapshot().getCustomMethodsMatcher(), method) != -1;
+    }
+
+    /**
+     * Method to find the {@link MethodType#CUSTOM} template to use for a method
+     *
+     * @param matcher: the matcher of the custom templates
+     * @param method:  the method to match
+     * @return the index of the template to use as int, {@code -1} if no-any template matches the method
+     */
+    private int matchCustomTemplate(CustomMethodsMatcher matcher, PsiMethod method) {
+        PsiTypeElement returnType = method.getReturnTypeElement();
+        PsiParameter[] parameters = method.getParameterList().getParameters();
+        String[] parameterNames = new String[parameters.length];
+        for (int j = 0; j < parameters.length; j++)
+            parameterNames[j] = parameters[j].getName();
+        return matcher.match(method.getName(), returnType != null ? returnType.getText() : null, parameterNames);
+    }
+
     /**
      * Method to format the {@link Tag#instance}'s tag to create a docu-comment from the template
      * with the return instance value if the method is not void, in that case the {@link Tag#instance}'s tag will
@@ -187,332 +264,86 @@ public class JavaDockyDocuManager {
      *     </li>
      * </ul>
      *
+     * @param kind:     the kind of the template of the method
      * @param template: template of the method to format
      * @param method:   method where add the docu-comment
      * @return the docu-comment created with the template formatted as {@link PsiDocComment}
-     * @apiNote after will be invoked also the following methods:
-     * <ul>
-     *     <li>
-     *         {@link #formatParamsTag(PsiMethod, String)}
-     *     </li>
-     *     <li>
-     *         {@link #formatReturnTypeTag(String, PsiMethod)}
-     *     </li>
-     * </ul>
+     * @apiNote the {@link Tag#returnType}'s tag is formatted only if the method returns an instance
      */
-    private PsiDocComment formatInstanceMethodTag(String template, PsiMethod method) {
-        PsiCodeBlock body = method.getBody();
-        String instanceReplacer = null;
-        String methodBody = "";
-        if (body != null)
-            methodBody = body.getText();
-        String instanceTag = instance.getTag();
-        if (methodBody.contains("return")) {
-            instanceReplacer = methodBody.split("return")[1]
-                    .replace(";", "")
-                    .replaceAll(" ", "")
-                    .replace("}", "")
-                    .replaceAll("\n", "");
-        }
-        if (instanceReplacer != null)
-            template = template.replaceAll(instanceTag, instanceReplacer);
-        else {
-            String returnTypeTag = returnType.getTag();
-            template = removeTagFromTemplate(template, returnTypeTag, getTagValue(template, returnTypeTag));
-            template = removeTagFromTemplate(template, instanceTag, getTagValue(template, instanceTag));
-        }
-        return formatParamsTag(method, formatReturnTypeTag(template, method));
+    private PsiDocComment formatInstanceMethodTag(String kind, JavaDockyTemplate template, PsiMethod method) {
+        String instanceReplacer = AccessorsAnalyzer.getReturnedInstance(method);
+        return createDocuComment(kind, template, describeMethod(method, instanceReplacer, template),
+                instanceReplacer != null);
     }
 
     /**
-     * Method to fetch from a setter method the setter instance:
-     * <ul>
-     *     <li>
-     *         <b>standard setter's template</b> ->
-     * <pre>
-     *   {@code
-     *       // <instance> in the docu-comment
-     *       public void setAnyObject(Object anyObject) {
-     *           this.anyObject = anyObject;
-     *       }
-     *   }
-     *  </pre>
-     *        the {@link Tag#instance}'s tag will be replaced with the {@code "anyObject"} value
-     *     </li>
-     *     <li>
-     *         <b>not standard setter's template</b> ->
-     * <pre>
-     *   {@code
-     *       // <instance> in the docu-comment
-     *       public void setAnyObject(Object differentAnyObjectInstanceName) {
-     *           anyObject = differentAnyObjectInstanceName;
-     *       }
-     *   }
-     *  </pre>
-     *        the {@link Tag#instance}'s tag will be replaced with the {@code "anyObject"} value searched from the
-     *        fields of the class
-     *     </li>
-     * </ul>
-     *
-     * @param method: method from fetch the setter instance
-     * @return setter instance as {@link String}
-     */
-    private String getSetterInstanceName(PsiMethod method) {
-        String methodBody = method.getBody().getText();
-        if (methodBody.contains("this"))
-            return methodBody.split("this.")[1].split("=")[0].replaceAll(" ", "");
-        else {
-            String methodName = method.getName().replace("set", "");
-            for (PsiField field : psiClass.getFields()) {
-                String fName = field.getName();
-                if (fName.equalsIgnoreCase(methodName))
-                    return fName;
-            }
-        }
-        return "";
-    }
-
-    /**
-     * Method to fetch from a template a {@link Tag}'s value
-     *
-     * @param template: template from fetch the value of a {@link Tag}
-     * @param tag:      the tag from fetch the value
-     * @return tag value as {@link String}
-     */
-    private String getTagValue(String template, String tag) {
-        return getTagValue(template, tag, true);
-    }
-
-    /**
-     * Method to fetch from a template a {@link Tag}'s value
-     *
-     * @param template:          template from fetch the value of a {@link Tag}
-     * @param tag:               the tag from fetch the value
-     * @param removeBlankSpaces: whether remove the blank spaces
-     * @return tag value as {@link String}
-     */
-    private String getTagValue(String template, String tag, boolean removeBlankSpaces) {
-        if (template.contains(tag)) {
-            String tagValue = template.split(tag)[1].split("\n")[0];
-            if (removeBlankSpaces)
-                return tagValue.replaceAll(" ", "");
-            return tagValue;
-        } else
-            return template;
-    }
-
-    /**
-     * Method to remove from a template a {@link Tag} and its value
-     *
-     * @param template: template from remove a {@link Tag} and its value
-     * @param tag:      the tag to remove
-     * @param value:    the value of a tag to remove
-     * @return template as {@link String}
-     */
-    private String removeTagFromTemplate(String template, String tag, String value) {
-        if (template.contains(tag))
-            return template.replaceAll(tag + value, "").replaceAll(tag + " " + value, "");
-        return template;
-    }
-
-    /**
-     * Method to format the {@link Tag#className}'s tag to create a docu-comment from the template
-     *
-     * @param template: template to format
-     * @param item:     item where add the docu-comment
-     * @return the template formatted as {@link String}
-     */
-    private String formatClassNameTag(String template, NavigationItem item) {
-        return formatTag(className, template, item);
-    }
-
-    /**
-     * Method to format the {@link Tag#instance}'s tag to create a docu-comment from the template
-     *
-     * @param template: template to format
-     * @param item:     item where add the docu-comment
-     * @return the template formatted as {@link String}
-     */
-    private String formatInstanceTag(String template, NavigationItem item) {
-        return formatTag(instance, template, item);
-    }
-
-    /**
-     * Method to format a {@link Tag} to create a docu-comment from the template
-     *
-     * @param tag:      tag to format
-     * @param template: template to format
-     * @param item:     item where add the docu-comment
-     * @return the template formatted as {@link String}
-     */
-    private String formatTag(Tag tag, String template, NavigationItem item) {
-        return template.replaceAll(tag.getTag(), item.getName());
-    }
-
-    /**
-     * Method to format the {@link Tag#returnType}'s tag to create a docu-comment from the template
-     *
-     * @param template: template of the method to format
-     * @param method    method from fetch the value of the {@link Tag#returnType}
-     * @return the template formatted as {@link String}
-     */
-    private String formatReturnTypeTag(String template, PsiMethod method) {
-        String vReturnType = method.getReturnType().getCanonicalText();
-        String returnTypeTag = returnType.getTag();
-        String linkTag = "@link " + returnTypeTag + "}";
-        if (template.contains(linkTag) && PRIMITIVE_TYPES.contains(vReturnType))
-            template = clearFromLinkTag(template, linkTag, returnTypeTag);
-        else if (vReturnType.contains("<"))
-            return formatParameterizedClass(template, linkTag, returnTypeTag, vReturnType);
-        return template.replaceAll(returnTypeTag, vReturnType);
-    }
-
-    /**
-     * Method to remove the {@code "{@link }"} tag from the template
-     *
-     * @param template:      template of the method to format
-     * @param linkTag:       the {@code "{@link }"} tag correctly filled
-     * @param returnTypeTag: the {@link Tag#returnType}
-     * @return the template without the {@code "{@link }"} tag as {@link String}
-     */
-    private String clearFromLinkTag(String template, String linkTag, String returnTypeTag) {
-        return template.replaceAll("\\{" + linkTag, returnTypeTag);
-    }
-
-    /**
-     * Method to format the {@link Tag#returnType} tag if the return type is a parameterized class
-     * <pre>
-     *   {@code
-     *       // <returnType> in the docu-comment will be formatted as:
-     *       // - if contains the {@link } tag -> {@link ArrayList} of {@link String}
-     *       // - if not contains the {@link } tag -> java.util.ArrayList of java.lang.String
-     *       public ArrayList<String> getList() {
-     *           // your code here
-     *       }
-     *
-     *       // <returnType> in the docu-comment will be formatted as:
-     *       // - if contains the {@link } tag -> {@link HashMap} of {@link String} and {@link String}
-     *       // - if not contains the {@link } tag -> java.util.HashMap of java.lang.String and java.lang.String
-     *       public HashMap<String, String> getMap() {
-     *           // your code here
-     *       }
-     *   }
-     * </pre>
+     * Method to create a docu-comment with a template
      *
-     * @param template:      template of the method to format
-     * @param linkTag:       the {@code "{@link }"} tag correctly filled
-     * @param returnTypeTag: the {@link Tag#returnType} tag
-     * @param vReturnType:   the return type value
-     * @return the template correctly formatted as {@link String}
+     * @param kind:             the kind of the template
+     * @param template:         the template to use to create the docu-comment
+     * @param member:           the descriptor of the member where add the docu-comment
+     * @param formatReturnType: whether format the {@link Tag#returnType}'s tag
+     * @return the docu-comment created with the template as {@link PsiDocComment}
+     * @apiNote the docu-comment is rendered by the {@link #docuRenderer} and will be parsed only if the same
+     * docu-comment has not been already parsed during this run and the {@link DocuCommentPrototype} of the template
+     * cannot be used
      */
-    private String formatParameterizedClass(String template, String linkTag, String returnTypeTag, String vReturnType) {
-        vReturnType = vReturnType.replaceAll(">", "");
-        StringBuilder formatter;
-        if (template.contains(linkTag)) {
-            formatter = new StringBuilder();
-            template = clearFromLinkTag(template, linkTag, returnTypeTag);
-            for (String vClass : vReturnType.split("<")) {
-                if (vClass.contains(","))
-                    for (String paramClass : vClass.split(","))
-                        formatter.append("{@link ").append(paramClass).append("}").append(AND_KEYWORD);
-                else {
-                    if (formatter.toString().endsWith(AND_KEYWORD))
-                        formatter = clearFormatter(formatter, AND_KEYWORD, OF_KEYWORD);
-                    formatter.append("{@link ").append(vClass).append("}").append(OF_KEYWORD);
+    private PsiDocComment createDocuComment(String kind, JavaDockyTemplate template, MemberDescriptor member,
+                                            boolean formatReturnType) {
+        String docuComment = docuRenderer.render(kind, template, member, configuration.getTemplatesVersion(),
+                configuration.getFieldTemplate(null), formatReturnType);
+        createdDocuComments++;
+        PsiDocComment docComment = parsedDocuComments.get(docuComment);
+        if (docComment == null) {
+            if (!usedTemplates.add(template)) {
+                DocuCommentPrototype prototype = prototypes.get(template);
+                if (prototype == null) {
+                    prototype = new DocuCommentPrototype(factory, template, prototypeRenderer);
+                    prototypes.put(template, prototype);
+                    parserInvocations++;
                 }
+                String[] slots = docuRenderer.getSlots();
+                if (prototype.canPatch(slots))
+                    docComment = prototype.patch(slots);
             }
-            formatter = clearFormatter(formatter, OF_KEYWORD, "");
-        } else
-            formatter = new StringBuilder(vReturnType.replaceAll("<", OF_KEYWORD).replaceAll(",", AND_KEYWORD));
-        return template.replaceAll(returnTypeTag, formatter.toString());
+            if (docComment == null) {
+                docComment = factory.createDocCommentFromText(docuComment);
+                parserInvocations++;
+            }
+            parsedDocuComments.put(docuComment, docComment);
+        }
+        return docComment;
     }
 
     /**
-     * Method to clear the formatter
+     * Method to get a compiled template
      *
-     * @param formatter: the current {@link StringBuilder}
-     * @param keyword:   keyword to remove
-     * @param replacer:  the replacer value to replace keyword
-     * @return formatter as {@link StringBuilder}
+     * @param template: the source template to compile
+     * @return the compiled template as {@link JavaDockyTemplate}
+     * @apiNote the template will be compiled only if it has not been already compiled
      */
-    private StringBuilder clearFormatter(StringBuilder formatter, String keyword, String replacer) {
-        int totalLength = formatter.length();
-        formatter.replace(totalLength - keyword.length(), totalLength, replacer);
-        return formatter;
+    private static JavaDockyTemplate getCompiledTemplate(String template) {
+        return JavaDockyTemplate.of(template);
     }
 
     /**
-     * Method to fetch from a method the params list
-     * <pre>
-     *   {@code
-     *       // <params> in the docu-comment
-     *       public void anyMethod(Object anyObject, String anyString) {
-     *           // your code here
-     *       }
-     *   }
-     *  </pre>
-     * the {@link Tag#params}'s tag will be replaced with the list of the method's parameters:
-     * <ul>
-     *     <li>
-     *         <b>if the {@link JavaDockyItem#Fields}</b> is disabled -> <br>
-     *         {@code @param anyObject} <br>
-     *         {@code @param anyString} <br>
-     *     </li>
-     *     <li>
-     *         <b>if the {@link JavaDockyItem#Fields}</b> is enabled -> <br>
-     *         {@code @param anyObject - field template} <br>
-     *         {@code @param anyString - field template} <br>
-     *     </li>
-     * </ul>
+     * Method to get {@link #createdDocuComments} instance <br>
+     * No-any params required
      *
-     * @param method:   the method from fetch the params list
-     * @param template: the template from fetch the params list
-     * @return the docu-comment created with the template formatted as {@link PsiDocComment}
+     * @return {@link #createdDocuComments} instance as int
      */
-    private PsiDocComment formatParamsTag(PsiMethod method, String template) {
-        boolean fieldsTemplateEnabled = configuration.isFieldTemplateEnabled();
-        StringBuilder lParams = new StringBuilder();
-        for (PsiParameter parameter : method.getParameterList().getParameters()) {
-            if (lParams.toString().isEmpty())
-                lParams.append("@param ");
-            else
-                lParams.append("* @param ");
-            lParams.append(parameter.getName());
-            if (fieldsTemplateEnabled)
-                lParams.append(": ").append(formatFieldTemplate(parameter));
-            else
-                lParams.append(":\n");
-        }
-        if (!lParams.toString().isEmpty())
-            lParams.append("*");
-        return createDocuComment(template.replaceFirst(params.getTag(), lParams.toString()));
+    public int getCreatedDocuComments() {
+        return createdDocuComments;
     }
 
     /**
-     * Method to fetch from a field the docu-template value
-     * <pre>
-     *   {@code
-     *       // its template for the docu-comment -> instance to make any actions
-     *       Object anyObject;
-     *   }
-     *  </pre>
-     * will be fetched {@code "instance to make any actions"}
-     *
-     * @param parameter: the parameter from fetch the docu-template value
-     * @return the docu-template value of the field as {@link String}
-     */
-    private String formatFieldTemplate(PsiParameter parameter) {
-        return formatFieldTemplate(parameter.getName());
-    }
-
-    /**
-     * Method to create a docu-comment with a template
+     * Method to get {@link #parserInvocations} instance <br>
+     * No-any params required
      *
-     * @param template: the template to use to create the docu-comment
-     * @return the docu-comment created with the template as {@link PsiDocComment}
+     * @return {@link #parserInvocations} instance as int
      */
-    private PsiDocComment createDocuComment(String template) {
-        return factory.createDocCommentFromText(template);
+    public int getParserInvocations() {
+        return parserInvocations;
     }
 
     /**
@@ -525,15 +356,12 @@ public class JavaDockyDocuManager {
      *  </pre>
      * will be fetched {@code "instance to make any actions"}
      *
-     * @param fieldName: the name of the field to format the template
+     * @param configuration: the configuration from fetch the {@link JavaDockyItem#Fields}'s template
+     * @param fieldName:     the name of the field to format the template
      * @return the docu-template value of the field as {@link String}
      */
-    public static String formatFieldTemplate(String fieldName) {
-        return configuration.getFieldTemplate()
-                .replaceAll("/\\**\n *", "")
-                .replaceAll("\\*/", "")
-                .replaceAll("\\* ", "")
-                .replaceAll(instance.getTag(), fieldName);
+    public static String formatFieldTemplate(JavaDockyConfiguration configuration, String fieldName) {
+        return DocuRenderer.formatFieldTemplate(configuration.getFieldTemplate(), fieldName);
     }
 
 }
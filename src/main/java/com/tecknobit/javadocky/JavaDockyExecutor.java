@@ -5,17 +5,18 @@ import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.PlatformDataKeys;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.command.WriteCommandAction;
-import com.intellij.openapi.editor.event.DocumentEvent;
-import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import com.intellij.psi.javadoc.PsiDocComment;
 import com.intellij.util.ThrowableRunnable;
 import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
+import com.tecknobit.javadocky.core.DocuCommentsCache;
 import org.jetbrains.annotations.NotNull;
 
-import static com.intellij.openapi.editor.EditorFactory.getInstance;
-import static com.tecknobit.javadocky.JavaDockyConfiguration.configuration;
+import static com.tecknobit.javadocky.DocumentationChecker.isDocumented;
+import static com.tecknobit.javadocky.DocumentationChecker.isFullyDocumented;
+import static com.tecknobit.javadocky.UndocumentedMembersIndex.hasMembersToDocument;
 
 /**
  * The {@code JavaDockyExecutor} class is useful to execute the {@code JavaDocky}'s plugin
@@ -25,6 +26,11 @@ import static com.tecknobit.javadocky.JavaDockyConfiguration.configuration;
  **/
 public class JavaDockyExecutor extends AnAction {
 
+    /**
+     * {@code LOG} the logger where report the statistics of each run
+     */
+    private static final Logger LOG = Logger.getInstance(JavaDockyExecutor.class);
+
     /**
      * {@code currentClass} current class to document
      */
@@ -35,6 +41,11 @@ public class JavaDockyExecutor extends AnAction {
      */
     private Project project;
 
+    /**
+     * {@code configuration} instance to manage the {@code JavaDocky}'s configuration
+     */
+    private JavaDockyConfiguration configuration;
+
     /**
      * {@code docuManager} instance to manage the docu-templates and insert in the {@link #currentClass}
      */
@@ -53,22 +64,16 @@ public class JavaDockyExecutor extends AnAction {
         }
         if (currentClass != null) {
             currentClass = ((PsiJavaFile) e.getData(PlatformDataKeys.PSI_FILE)).getClasses()[0];
+            configuration = JavaDockyProjectConfiguration.getInstance(project).getConfiguration();
+            if (!hasMembersToDocument(project, currentClass.getContainingFile(), configuration)
+                    || isFullyDocumented(currentClass, configuration)) {
+                LOG.info("JavaDocky run on " + currentClass.getName() + " skipped: already documented");
+                releaseRun();
+                return;
+            }
             docuManager = new JavaDockyDocuManager(project, currentClass);
-            FieldsReplacer fieldsReplacer = new FieldsReplacer(project);
             execJavaDocky();
-            getInstance().getEventMulticaster().addDocumentListener(new DocumentListener() {
-                /**
-                 * Called after the text of the document has been changed.
-                 *
-                 * @param event the event containing the information about the change.
-                 */
-                @Override
-                public void documentChanged(@NotNull DocumentEvent event) {
-                    DocumentListener.super.documentChanged(event);
-                    fieldsReplacer.replaceFields(event.getDocument());
-                }
-
-            }, project.getMessageBus().connect());
+            FieldsReplacer.getInstance(project).startListening();
         }
     }
 
@@ -84,12 +89,38 @@ public class JavaDockyExecutor extends AnAction {
                 useConstructorsTemplate();
                 useMethodsTemplate();
                 navigateInnerClasses(currentClass);
+                reportRun();
             } catch (Throwable ex) {
                 throw new RuntimeException(ex);
+            } finally {
+                releaseRun();
             }
         });
     }
 
+    /**
+     * Method to release the references of the last run, so the action does not retain any element of the project
+     * between the runs <br>
+     * Any-params required
+     */
+    private void releaseRun() {
+        currentClass = null;
+        project = null;
+        configuration = null;
+        docuManager = null;
+    }
+
+    /**
+     * Method to report the statistics of the last run <br>
+     * Any-params required
+     */
+    private void reportRun() {
+        DocuCommentsCache docuCommentsCache = configuration.getDocuCommentsCache();
+        LOG.info("JavaDocky run on " + currentClass.getName() + ": " + docuManager.getCreatedDocuComments()
+                + " docu-comments created, " + docuManager.getParserInvocations() + " parser invocations, "
+                + docuCommentsCache.getHits() + " cache hits, " + docuCommentsCache.getMisses() + " cache misses");
+    }
+
     /**
      * Method to use the {@link JavaDockyItem#Classes}'s template <br>
      * Any-params required
@@ -105,7 +136,10 @@ public class JavaDockyExecutor extends AnAction {
      */
     private void useClassesDocuTemplate(PsiClass psiClass) throws Throwable {
         if (configuration.isClassTemplateEnabled()) {
-            useDocuTemplate(() -> addPsiElement(docuManager.createClassDocu(psiClass), psiClass.getFirstChild()));
+            useDocuTemplate(() -> {
+                if (!isDocumented(psiClass))
+                    addPsiElement(docuManager.createClassDocu(psiClass), psiClass.getFirstChild());
+            });
         }
     }
 
@@ -126,7 +160,8 @@ public class JavaDockyExecutor extends AnAction {
         if (configuration.isFieldTemplateEnabled()) {
             useDocuTemplate(() -> {
                 for (PsiField field : psiClass.getFields())
-                    addPsiElement(docuManager.createFieldDocu(field), field.getSourceElement());
+                    if (!isDocumented(field))
+                        addPsiElement(docuManager.createFieldDocu(field), field.getSourceElement());
             });
         }
     }
@@ -148,7 +183,8 @@ public class JavaDockyExecutor extends AnAction {
         if (configuration.isConstructorTemplateEnabled()) {
             useDocuTemplate(() -> {
                 for (PsiMethod constructor : psiClass.getConstructors())
-                    addPsiElement(docuManager.createConstructorDocu(constructor), constructor.getSourceElement());
+                    if (!isDocumented(constructor))
+                        addPsiElement(docuManager.createConstructorDocu(constructor), constructor.getSourceElement());
             });
         }
     }
@@ -167,11 +203,10 @@ public class JavaDockyExecutor extends AnAction {
      * @param psiClass: class where use the docu-template
      */
     private void useMethodsTemplate(PsiClass psiClass) throws Throwable {
-        String className = psiClass.getName();
         if (configuration.isMethodTemplateEnabled()) {
             useDocuTemplate(() -> {
                 for (PsiMethod method : psiClass.getMethods())
-                    if (!method.getName().equals(className))
+                    if (!method.isConstructor() && !isDocumented(method))
                         addPsiElement(docuManager.createMethodDocu(method), method.getSourceElement());
             });
         }
@@ -191,15 +226,11 @@ public class JavaDockyExecutor extends AnAction {
      *
      * @param docu:       the docu-comment to add
      * @param psiElement: the element where add the docu-comment
+     * @apiNote the element must be not documented yet, this is checked by the callers with
+     * {@link DocumentationChecker#isDocumented(PsiJavaDocumentedElement)} before creating the docu-comment
      */
     private void addPsiElement(PsiDocComment docu, PsiElement psiElement) {
-        String docuText = "/**";
-        if (psiElement != null) {
-            docuText = psiElement.getText();
-            if (docuText == null)
-                docuText = "/**";
-        }
-        if (docu != null && !docuText.startsWith("/**"))
+        if (docu != null && psiElement != null)
             currentClass.addBefore(docu, psiElement);
     }
 
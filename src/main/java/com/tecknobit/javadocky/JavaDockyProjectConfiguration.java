@@ -0,0 +1,204 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.JDOMUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.tecknobit.javadocky.core.MethodType;
+import com.tecknobit.javadocky.core.TemplatesSnapshot;
+import org.jdom.Element;
+import org.jdom.JDOMException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code JavaDockyProjectConfiguration} class is useful to manage the docu-templates of a project stored in the
+ * {@link #TEMPLATES_FILE_NAME} file in the root of the project, so they can be shared with the repository:
+ * <pre>
+ *   {@code
+ *       <javadocky>
+ *           <template key="Classes">...</template>
+ *           <template key="GETTER">...</template>
+ *           <template key="CUSTOMbuild">...</template>
+ *       </javadocky>
+ *   }
+ * </pre>
+ * each docu-template is written as in the dashboard, also inside a {@code CDATA} section, and the keys are the same
+ * used by the global configuration, so the {@link JavaDockyConfiguration.JavaDockyItem}'s names, the
+ * {@link MethodType}'s names, the {@code "CUSTOM"} prefix followed by the name of the custom
+ * template and {@code "OverridesMode"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the docu-templates of the project take precedence over the global ones, the file is parsed once and
+ * parsed again only when it changes
+ * @see Disposable
+ **/
+public final class JavaDockyProjectConfiguration implements Disposable {
+
+    /**
+     * {@code TEMPLATES_FILE_NAME} the name of the file where the docu-templates of the project are stored
+     */
+    public static final String TEMPLATES_FILE_NAME = ".javadocky.xml";
+
+    /**
+     * {@code LOG} the logger where report the issues of the templates file
+     */
+    private static final Logger LOG = Logger.getInstance(JavaDockyProjectConfiguration.class);
+
+    /**
+     * {@code project} the project of the configuration
+     */
+    private final Project project;
+
+    /**
+     * {@code projectTemplates} the docu-templates of the project mapped by their key, {@code null} if the
+     * {@link #TEMPLATES_FILE_NAME} file has to be parsed again
+     */
+    private volatile Map<String, String> projectTemplates;
+
+    /**
+     * {@code configuration} the configuration with the docu-templates of the project merged with the global ones
+     */
+    private JavaDockyConfiguration configuration;
+
+    /**
+     * {@code globalVersion} the version of the global snapshot from the {@link #configuration} has been merged
+     */
+    private long globalVersion = -1;
+
+    /**
+     * Constructor to init {@link JavaDockyProjectConfiguration}
+     *
+     * @param project: the project of the configuration
+     */
+    public JavaDockyProjectConfiguration(Project project) {
+        this.project = project;
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (isTemplatesFile(event)) {
+                        projectTemplates = null;
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Method to get the instance of the configuration of a project
+     *
+     * @param project: the project from fetch the configuration
+     * @return the instance of the configuration of the project as {@link JavaDockyProjectConfiguration}
+     */
+    public static JavaDockyProjectConfiguration getInstance(Project project) {
+        return project.getService(JavaDockyProjectConfiguration.class);
+    }
+
+    /**
+     * Method to get the configuration to use in the project <br>
+     * No-any params required
+     *
+     * @return the configuration to use in the project as {@link JavaDockyConfiguration}
+     * @apiNote if the project has not any docu-template will be returned the global configuration, otherwise a
+     * read-only configuration with the docu-templates of the project merged with the global ones, created again only
+     * when one of them changes
+     */
+    public synchronized JavaDockyConfiguration getConfiguration() {
+        JavaDockyConfiguration globalConfiguration = JavaDockyConfiguration.getInstance();
+        Map<String, String> templates = projectTemplates;
+        if (templates == null) {
+            templates = loadProjectTemplates();
+            projectTemplates = templates;
+            configuration = null;
+        }
+        if (templates.isEmpty())
+            return globalConfiguration;
+        TemplatesSnapshot globalSnapshot = globalConfiguration.getSnapshot();
+        if (configuration == null || globalVersion != globalSnapshot.getVersion()) {
+            LinkedHashMap<String, String> mergedTemplates = new LinkedHashMap<>(globalSnapshot.getTemplates());
+            mergedTemplates.putAll(templates);
+            configuration = new JavaDockyConfiguration(new TemplatesSnapshot(mergedTemplates));
+            globalVersion = globalSnapshot.getVersion();
+        }
+        return configuration;
+    }
+
+    /**
+     * Method to load the docu-templates stored in the {@link #TEMPLATES_FILE_NAME} file <br>
+     * No-any params required
+     *
+     * @return the docu-templates of the project mapped by their key as {@link Map} of {@link String}
+     * @apiNote if the file does not exist or is not valid will be returned an empty map
+     */
+    private Map<String, String> loadProjectTemplates() {
+        String basePath = project.getBasePath();
+        if (basePath == null)
+            return Map.of();
+        Path templatesFile = Path.of(basePath, TEMPLATES_FILE_NAME);
+        if (!Files.isRegularFile(templatesFile))
+            return Map.of();
+        LinkedHashMap<String, String> templates = new LinkedHashMap<>();
+        try {
+            for (Element template : JDOMUtil.load(templatesFile).getChildren("template")) {
+                String key = template.getAttributeValue("key");
+                if (key != null)
+                    templates.put(key, template.getText().trim());
+            }
+        } catch (IOException | JDOMException e) {
+            LOG.warn("Cannot load the docu-templates from " + templatesFile, e);
+            return Map.of();
+        }
+        return templates;
+    }
+
+    /**
+     * Method to check whether an event involves the {@link #TEMPLATES_FILE_NAME} file
+     *
+     * @param event: the event to check
+     * @return whether an event involves the {@link #TEMPLATES_FILE_NAME} file as boolean
+     */
+    private boolean isTemplatesFile(VFileEvent event) {
+        if (isTemplatesFile(event.getPath()))
+            return true;
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent)
+            return isTemplatesFile(propertyChangeEvent.getNewPath());
+        if (event instanceof VFileMoveEvent moveEvent)
+            return isTemplatesFile(moveEvent.getNewPath());
+        return false;
+    }
+
+    /**
+     * Method to check whether a path is the one of the {@link #TEMPLATES_FILE_NAME} file
+     *
+     * @param path: the path to check
+     * @return whether a path is the one of the {@link #TEMPLATES_FILE_NAME} file as boolean
+     */
+    private boolean isTemplatesFile(String path) {
+        String basePath = project.getBasePath();
+        return basePath != null && path.equals(basePath + "/" + TEMPLATES_FILE_NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+    }
+
+}
@@ -0,0 +1,547 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiJavaFile;
+import com.tecknobit.javadocky.DocumentationPlan.PlannedDocuComment;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static com.tecknobit.javadocky.CoverageReport.quote;
+
+/**
+ * The {@code JavaDockyStarter} class is useful to run the {@code JavaDocky}'s plugin from the command line, without
+ * the UI of the IDE, for example in a CI or in a pre-commit hook:
+ * <pre>
+ *   {@code
+ *       idea javadocky <project directory> [--scope <path>]... [--staged | --changed] [--check]
+ *                      [--report <report file>]
+ *   }
+ * </pre>
+ * the paths of the scope can be files or directories, relative to the project directory, if not specified all the
+ * sources of the project are documented, with {@code --staged} or {@code --changed} only the Java files staged or
+ * changed in the {@code git} repository of the project, and inside the scope, are documented. With {@code --check}
+ * the files are not modified and the command fails listing the members still not documented, with {@code --staged}
+ * the content staged in the index of the repository is checked, so a pre-commit hook checks exactly what is being
+ * committed, while documenting the staged files modifies their content in the working tree
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote only the files with members to document in the {@link UndocumentedMembersIndex} are planned, in parallel
+ * by the {@link JavaFilesScanner}, and each batch is applied in a single write command, the report of the run is
+ * written in the JSON format
+ * @see ApplicationStarter
+ **/
+public class JavaDockyStarter implements ApplicationStarter {
+
+    /**
+     * {@code LOG} the logger where report the errors of the run
+     */
+    private static final Logger LOG = Logger.getInstance(JavaDockyStarter.class);
+
+    /**
+     * {@code USAGE} the usage of the command
+     */
+    private static final String USAGE = "Usage: javadocky <project directory> [--scope <path>]... "
+            + "[--staged | --changed] [--check] [--report <report file>]";
+
+    /**
+     * {@code CHECK_FAILED_EXIT_CODE} the exit code when the check finds members not documented
+     */
+    private static final int CHECK_FAILED_EXIT_CODE = 1;
+
+    /**
+     * {@code INVALID_ARGUMENTS_EXIT_CODE} the exit code when the arguments are not valid
+     */
+    private static final int INVALID_ARGUMENTS_EXIT_CODE = 2;
+
+    /**
+     * {@code FAILURE_EXIT_CODE} the exit code when the run fails
+     */
+    private static final int FAILURE_EXIT_CODE = 3;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void main(@NotNull List<String> args) {
+        if (ApplicationManager.getApplication().isDispatchThread())
+            ApplicationManager.getApplication().executeOnPooledThread(() -> System.exit(run(args)));
+        else
+            System.exit(run(args));
+    }
+
+    /**
+     * Method to run the command
+     *
+     * @param args: the arguments of the command, the first one is the name of the command
+     * @return the exit code of the run as int
+     */
+    private int run(List<String> args) {
+        Path projectDir = null;
+        ArrayList<String> scope = new ArrayList<>();
+        Path report = null;
+        String changes = null;
+        boolean check = false;
+        for (int j = 1; j < args.size(); j++) {
+            String arg = args.get(j);
+            switch (arg) {
+                case "--check" -> check = true;
+                case "--staged", "--changed" -> {
+                    if (changes != null && !changes.equals(arg))
+                        return invalidArguments("--staged and --changed cannot be used together");
+                    changes = arg;
+                }
+                case "--scope", "--report" -> {
+                    if (++j == args.size())
+                        return invalidArguments(arg + " requires a value");
+                    if (arg.equals("--scope"))
+                        scope.add(args.get(j));
+                    else
+                        report = Path.of(args.get(j)).toAbsolutePath();
+                }
+                default -> {
+                    if (arg.startsWith("--") || projectDir != null)
+                        return invalidArguments("Unexpected argument: " + arg);
+                    projectDir = Path.of(arg).toAbsolutePath().normalize();
+                }
+            }
+        }
+        if (projectDir == null)
+            return invalidArguments("The project directory is required");
+        try {
+            long start = System.nanoTime();
+            Project project = ProjectUtil.openOrImport(projectDir, null, false);
+            if (project == null)
+                throw new IOException("Cannot open the project in " + projectDir);
+            DumbService.getInstance(project).waitForSmartMode();
+            List<Path> scopePaths = resolveScope(projectDir, scope);
+            List<Path> changedFiles = null;
+            if (changes != null) {
+                changedFiles = getChangedFiles(projectDir, scopePaths, changes, check);
+                if (changedFiles.isEmpty()) {
+                    System.out.println("JavaDocky: no-any Java file " + (changes.equals("--staged") ? "staged"
+                            : "changed"));
+                    return 0;
+                }
+            }
+            if (check && "--staged".equals(changes))
+                return check(project, projectDir, null, changedFiles, report, start);
+            List<VirtualFile> roots = findFiles(changedFiles != null ? changedFiles : scopePaths);
+            if (check)
+                return check(project, projectDir, roots, null, report, start);
+            return apply(project, projectDir, roots, report, start);
+        } catch (Throwable e) {
+            LOG.error("JavaDocky run failed", e);
+            System.err.println("JavaDocky run failed: " + e);
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Method to report that the arguments are not valid
+     *
+     * @param message: the message to report
+     * @return the {@link #INVALID_ARGUMENTS_EXIT_CODE} as int
+     */
+    private static int invalidArguments(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return INVALID_ARGUMENTS_EXIT_CODE;
+    }
+
+    /**
+     * Method to document the scope of a project
+     *
+     * @param project:    the project to document
+     * @param projectDir: the directory of the project
+     * @param roots:      the files of the scope, {@code null} to document all the sources of the project
+     * @param report:     the path of the report file, {@code null} if the report is not required
+     * @param start:      the time when the run started in nanoseconds
+     * @return the exit code of the run as int
+     * @throws IOException when the report cannot be written
+     */
+    private int apply(Project project, Path projectDir, List<VirtualFile> roots, Path report,
+                      long start) throws IOException {
+        JavaDockyConfiguration configuration = JavaDockyProjectConfiguration.getInstance(project).getConfiguration();
+        Set<VirtualFile> filesToDocument = getFilesToDocument(project, configuration);
+        LinkedHashMap<String, Integer> changedFiles = new LinkedHashMap<>();
+        int[] docuComments = {0};
+        int scannedFiles = ProgressManager.getInstance().runProcess(() -> JavaFilesScanner.scan(project, roots,
+                filesToDocument, ProgressManager.getInstance().getProgressIndicator(),
+                javaFile -> {
+                    DocumentationPlan plan = DocumentationPlan.compute(project, javaFile, configuration, true);
+                    return plan.isEmpty() ? null : plan;
+                },
+                plans -> ApplicationManager.getApplication().invokeAndWait(() -> {
+                    WriteCommandAction.runWriteCommandAction(project, "JavaDocky", null, () -> {
+                        for (DocumentationPlan plan : plans) {
+                            int added = plan.apply();
+                            if (added > 0) {
+                                docuComments[0] += added;
+                                changedFiles.put(plan.getPath(), added);
+                            }
+                        }
+                    });
+                    FileDocumentManager.getInstance().saveAllDocuments();
+                })), new EmptyProgressIndicator());
+        long elapsedTime = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("JavaDocky: %d docu-comments added in %d of %d files in %d ms%n", docuComments[0],
+                changedFiles.size(), scannedFiles, elapsedTime);
+        if (report != null)
+            writeReport(report, projectDir, scannedFiles, changedFiles, docuComments[0], elapsedTime);
+        return 0;
+    }
+
+    /**
+     * Method to check the scope of a project, listing the members still not documented without modifying the files
+     *
+     * @param project:     the project to check
+     * @param projectDir:  the directory of the project
+     * @param roots:       the files of the scope, {@code null} to check all the sources of the project
+     * @param stagedFiles: the files whose content staged in the {@code git} repository must be checked instead of
+     *                     the roots, {@code null} to check the content of the roots in the working tree
+     * @param report:      the path of the report file, {@code null} if the report is not required
+     * @param start:       the time when the run started in nanoseconds
+     * @return the exit code of the run as int
+     * @throws IOException when the report cannot be written or the staged content cannot be read
+     * @apiNote the docu-comments are not rendered, only whether a docu-template would be used for each member is
+     * computed, the members are printed and written in the report as soon as each batch is checked
+     */
+    private int check(Project project, Path projectDir, List<VirtualFile> roots, List<Path> stagedFiles, Path report,
+                      long start) throws IOException {
+        JavaDockyConfiguration configuration = JavaDockyProjectConfiguration.getInstance(project).getConfiguration();
+        BufferedWriter writer = null;
+        if (report != null) {
+            Path reportDir = report.getParent();
+            if (reportDir != null)
+                Files.createDirectories(reportDir);
+            writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8);
+        }
+        try (BufferedWriter reportWriter = writer) {
+            if (reportWriter != null)
+                reportWriter.write("{\n  \"project\": " + quote(projectDir.toString()) + ",\n  \"members\": [");
+            int[] undocumentedMembers = {0};
+            Consumer<ArrayList<DocumentationPlan>> reporter = plans -> {
+                plans.sort(Comparator.comparing(DocumentationPlan::getPath));
+                try {
+                    for (DocumentationPlan plan : plans) {
+                        String path = getRelativePath(projectDir, plan.getPath());
+                        for (PlannedDocuComment member : plan.getDocuComments()) {
+                            System.out.println(path + ":" + member.getLine() + ": " + member.getItem()
+                                    + " " + member.getMemberName());
+                            if (reportWriter != null) {
+                                reportWriter.write((undocumentedMembers[0] == 0 ? "\n    " : ",\n    ")
+                                        + String.format(Locale.ROOT, "{\"path\": %s, \"line\": %d, "
+                                                + "\"item\": %s, \"member\": %s}", quote(path),
+                                        member.getLine(), quote(member.getItem().name()),
+                                        quote(member.getMemberName())));
+                            }
+                            undocumentedMembers[0]++;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            int scannedFiles;
+            if (stagedFiles != null)
+                scannedFiles = checkStagedFiles(project, projectDir, stagedFiles, configuration, reporter);
+            else {
+                Set<VirtualFile> filesToDocument = getFilesToDocument(project, configuration);
+                scannedFiles = ProgressManager.getInstance().runProcess(() -> JavaFilesScanner.scan(project, roots,
+                        filesToDocument, ProgressManager.getInstance().getProgressIndicator(),
+                        javaFile -> {
+                            DocumentationPlan plan = DocumentationPlan.compute(project, javaFile, configuration,
+                                    false);
+                            return plan.isEmpty() ? null : plan;
+                        }, reporter), new EmptyProgressIndicator());
+            }
+            long elapsedTime = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("JavaDocky: %d members not documented in %d files checked in %d ms%n",
+                    undocumentedMembers[0], scannedFiles, elapsedTime);
+            if (reportWriter != null) {
+                reportWriter.write("\n  ],\n  \"scannedFiles\": " + scannedFiles + ",\n  \"undocumentedMembers\": "
+                        + undocumentedMembers[0] + ",\n  \"elapsedTime\": " + elapsedTime + "\n}\n");
+            }
+            return undocumentedMembers[0] == 0 ? 0 : CHECK_FAILED_EXIT_CODE;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Method to check the content staged in the {@code git} repository of the project of some files
+     *
+     * @param project:       the project of the files
+     * @param projectDir:    the directory of the project
+     * @param stagedFiles:   the files to check
+     * @param configuration: the configuration from fetch the docu-templates
+     * @param reporter:      the consumer of the plans of each batch of files
+     * @return the number of the files checked as int
+     * @throws IOException when the staged content cannot be read from {@code git}
+     * @apiNote the staged content is read with a single {@code git cat-file --batch} process and checked as a file
+     * created from its text, so the content of the files in the working tree, also if partially staged, is not
+     * considered
+     */
+    private static int checkStagedFiles(Project project, Path projectDir, List<Path> stagedFiles,
+                                        JavaDockyConfiguration configuration,
+                                        Consumer<ArrayList<DocumentationPlan>> reporter) throws IOException {
+        PsiFileFactory fileFactory = PsiFileFactory.getInstance(project);
+        DumbService dumbService = DumbService.getInstance(project);
+        ArrayList<DocumentationPlan> plans = new ArrayList<>();
+        Process process = new ProcessBuilder("git", "cat-file", "--batch").directory(projectDir.toFile())
+                .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        try (OutputStream requests = process.getOutputStream();
+             DataInputStream contents = new DataInputStream(new BufferedInputStream(process.getInputStream()))) {
+            for (Path stagedFile : stagedFiles) {
+                String relativePath = projectDir.relativize(stagedFile).toString().replace(File.separatorChar, '/');
+                requests.write((":./" + relativePath + "\n").getBytes(StandardCharsets.UTF_8));
+                requests.flush();
+                String content = StringUtil.convertLineSeparators(readStagedContent(contents, relativePath));
+                DocumentationPlan plan = dumbService.runReadActionInSmartMode(() -> {
+                    if (fileFactory.createFileFromText(stagedFile.getFileName().toString(), JavaFileType.INSTANCE,
+                            content) instanceof PsiJavaFile javaFile) {
+                        return DocumentationPlan.compute(project, javaFile, stagedFile.toString(), configuration,
+                                false);
+                    }
+                    return null;
+                });
+                if (plan != null && !plan.isEmpty())
+                    plans.add(plan);
+                if (plans.size() == JavaFilesScanner.BATCH_SIZE) {
+                    reporter.accept(plans);
+                    plans = new ArrayList<>();
+                }
+            }
+        } finally {
+            process.destroy();
+        }
+        if (!plans.isEmpty())
+            reporter.accept(plans);
+        return stagedFiles.size();
+    }
+
+    /**
+     * Method to read the content of a staged file from the output of {@code git cat-file --batch}
+     *
+     * @param contents: the output of the command
+     * @param path:     the path of the file requested
+     * @return the content of the staged file as {@link String}
+     * @throws IOException when the content is not available or cannot be read
+     */
+    private static String readStagedContent(DataInputStream contents, String path) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int read;
+        while ((read = contents.read()) != '\n') {
+            if (read == -1)
+                throw new IOException("Cannot read the staged content of " + path);
+            header.write(read);
+        }
+        String[] fields = header.toString(StandardCharsets.UTF_8).split(" ");
+        if (fields.length != 3 || !fields[1].equals("blob"))
+            throw new IOException("The staged content of " + path + " is not available");
+        byte[] content = new byte[Integer.parseInt(fields[2])];
+        contents.readFully(content);
+        contents.readByte();
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method to get the files of a project which have members to document from the {@link UndocumentedMembersIndex}
+     *
+     * @param project:       the project from get the files
+     * @param configuration: the configuration from fetch the enabled docu-templates
+     * @return the files with members to document as {@link Set} of {@link VirtualFile}
+     * @apiNote the other files are fully documented, so they are skipped by the run without loading their {@code PSI}
+     */
+    private static Set<VirtualFile> getFilesToDocument(Project project, JavaDockyConfiguration configuration) {
+        return DumbService.getInstance(project).runReadActionInSmartMode(() ->
+                UndocumentedMembersIndex.getFilesToDocument(project, configuration));
+    }
+
+    /**
+     * Method to get the path of a file relative to the directory of the project
+     *
+     * @param projectDir: the directory of the project
+     * @param path:       the path of the file
+     * @return the path of the file relative to the directory of the project as {@link String}, the path itself if
+     * the file is not in the directory of the project
+     */
+    private static String getRelativePath(Path projectDir, String path) {
+        Path filePath = Path.of(path);
+        if (!filePath.startsWith(projectDir))
+            return path;
+        return projectDir.relativize(filePath).toString();
+    }
+
+    /**
+     * Method to resolve the paths of the scope
+     *
+     * @param projectDir: the directory of the project
+     * @param scope:      the paths of the scope
+     * @return the paths of the scope as {@link List} of {@link Path}, empty if the scope is not limited
+     * @throws IOException when a path of the scope does not exist
+     */
+    private static List<Path> resolveScope(Path projectDir, List<String> scope) throws IOException {
+        ArrayList<Path> scopePaths = new ArrayList<>(scope.size());
+        for (String path : scope) {
+            Path scopePath = projectDir.resolve(path).normalize();
+            if (!Files.exists(scopePath))
+                throw new IOException("The path " + path + " does not exist");
+            scopePaths.add(scopePath);
+        }
+        return scopePaths;
+    }
+
+    /**
+     * Method to get the Java files staged or changed in the {@code git} repository of the project
+     *
+     * @param projectDir: the directory of the project
+     * @param scopePaths: the paths of the scope, empty if the scope is not limited
+     * @param changes:    {@code --staged} or {@code --changed} to get the Java files staged or changed
+     * @param check:      whether the files are only checked, so the staged files are returned also if they do not
+     *                    exist in the working tree, because their staged content is checked
+     * @return the Java files staged or changed inside the scope as {@link List} of {@link Path}
+     * @throws IOException when the changes cannot be fetched from {@code git}
+     * @apiNote the paths are read with the {@code -z} option, so also the paths which {@code git} would quote, like
+     * the not ASCII ones, are fetched as they are
+     */
+    private static List<Path> getChangedFiles(Path projectDir, List<Path> scopePaths, String changes,
+                                              boolean check) throws IOException {
+        boolean staged = changes.equals("--staged");
+        ArrayList<String> changedFiles;
+        if (staged)
+            changedFiles = gitPaths(projectDir, "diff", "--cached", "--name-only", "-z", "--relative",
+                    "--diff-filter=ACMR");
+        else {
+            changedFiles = gitPaths(projectDir, "diff", "--name-only", "-z", "--relative", "--diff-filter=ACMR",
+                    "HEAD");
+            changedFiles.addAll(gitPaths(projectDir, "ls-files", "-z", "--others", "--exclude-standard"));
+        }
+        ArrayList<Path> changedPaths = new ArrayList<>();
+        for (String changedFile : changedFiles) {
+            Path changedPath = projectDir.resolve(changedFile).normalize();
+            if (changedFile.endsWith(".java") && ((staged && check) || Files.isRegularFile(changedPath))
+                    && (scopePaths.isEmpty() || scopePaths.stream().anyMatch(changedPath::startsWith))) {
+                changedPaths.add(changedPath);
+            }
+        }
+        return changedPaths;
+    }
+
+    /**
+     * Method to find the files of some paths in the file system of the IDE
+     *
+     * @param paths: the paths of the files or of the directories to find
+     * @return the files found as {@link List} of {@link VirtualFile}, {@code null} if no-any path is given, so the
+     * scope is not limited
+     * @throws IOException when a path does not exist
+     */
+    private static List<VirtualFile> findFiles(List<Path> paths) throws IOException {
+        if (paths.isEmpty())
+            return null;
+        LinkedHashSet<VirtualFile> files = new LinkedHashSet<>(paths.size());
+        LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+        for (Path path : paths) {
+            VirtualFile file = fileSystem.refreshAndFindFileByNioFile(path);
+            if (file == null)
+                throw new IOException("The path " + path + " does not exist");
+            files.add(file);
+        }
+        return new ArrayList<>(files);
+    }
+
+    /**
+     * Method to run a {@code git} command, with the {@code -z} option, which prints a list of paths
+     *
+     * @param projectDir: the directory of the project
+     * @param args:       the arguments of the command
+     * @return the paths printed by the command as {@link ArrayList} of {@link String}
+     * @throws IOException when the command cannot be run or fails
+     */
+    private static ArrayList<String> gitPaths(Path projectDir, String... args) throws IOException {
+        ArrayList<String> paths = new ArrayList<>();
+        for (String path : new String(git(projectDir, args), StandardCharsets.UTF_8).split("\0"))
+            if (!path.isEmpty())
+                paths.add(path);
+        return paths;
+    }
+
+    /**
+     * Method to run a {@code git} command in the directory of the project
+     *
+     * @param projectDir: the directory of the project
+     * @param args:       the arguments of the command
+     * @return the output printed by the command as byte array
+     * @throws IOException when the command cannot be run or fails
+     */
+    private static byte[] git(Path projectDir, String... args) throws IOException {
+        ArrayList<String> command = new ArrayList<>(args.length + 1);
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command).directory(projectDir.toFile())
+                .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        byte[] output;
+        try (InputStream input = process.getInputStream()) {
+            output = input.readAllBytes();
+        }
+        try {
+            if (process.waitFor() != 0)
+                throw new IOException("git " + String.join(" ", args) + " failed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("git " + String.join(" ", args) + " interrupted", e);
+        }
+        return output;
+    }
+
+    /**
+     * Method to write the report of the run
+     *
+     * @param report:       the path of the report file
+     * @param projectDir:   the directory of the project
+     * @param scannedFiles: the number of the files scanned
+     * @param changedFiles: the number of the docu-comments added mapped by the path of each changed file
+     * @param docuComments: the number of the docu-comments added
+     * @param elapsedTime:  the time spent by the run in milliseconds
+     * @throws IOException when the report cannot be written
+     */
+    private static void writeReport(Path report, Path projectDir, int scannedFiles, Map<String, Integer> changedFiles,
+                                    int docuComments, long elapsedTime) throws IOException {
+        Path reportDir = report.getParent();
+        if (reportDir != null)
+            Files.createDirectories(reportDir);
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"project\": " + quote(projectDir.toString()) + ",\n  \"scannedFiles\": "
+                    + scannedFiles + ",\n  \"changedFiles\": " + changedFiles.size() + ",\n  \"docuComments\": "
+                    + docuComments + ",\n  \"elapsedTime\": " + elapsedTime + ",\n  \"files\": [");
+            String separator = "\n    ";
+            for (Map.Entry<String, Integer> changedFile : changedFiles.entrySet()) {
+                writer.write(separator + String.format(Locale.ROOT, "{\"path\": %s, \"docuComments\": %d}",
+                        quote(changedFile.getKey()), changedFile.getValue()));
+                separator = ",\n    ";
+            }
+            writer.write("\n  ]\n}\n");
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ContentIterator;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code JavaFilesScanner} class is useful to analyze the Java files in the sources of a project in parallel, a
+ * batch of files at a time, so the memory used does not grow with the size of the project
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each file is analyzed in a read action in the smart mode, the results of a batch are consumed in the
+ * thread which invoked the scan before the next batch is analyzed
+ **/
+public class JavaFilesScanner {
+
+    /**
+     * {@code BATCH_SIZE} the number of the files analyzed in parallel for each batch
+     */
+    public static final int BATCH_SIZE = 256;
+
+    /**
+     * Constructor to init {@link JavaFilesScanner}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private JavaFilesScanner() {
+    }
+
+    /**
+     * Method to scan the Java files of a project
+     *
+     * @param project:       the project to scan
+     * @param roots:         the files or the directories to scan, {@code null} to scan all the sources of the project
+     * @param candidates:    the only files which can have a result, the other files are counted as scanned without
+     *                       being analyzed, {@code null} to analyze all the files
+     * @param indicator:     the indicator of the progress of the scan
+     * @param analyzer:      the analyzer of each file, it can return {@code null} if the file has not any result
+     * @param batchConsumer: the consumer of the results of each batch, {@code null} if the results are not required
+     * @return the number of the files scanned as int
+     */
+    public static <T> int scan(Project project, Collection<VirtualFile> roots, Set<VirtualFile> candidates,
+                               ProgressIndicator indicator, Function<PsiJavaFile, T> analyzer,
+                               Consumer<ArrayList<T>> batchConsumer) {
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        ArrayList<VirtualFile> batch = new ArrayList<>(BATCH_SIZE);
+        AtomicInteger scannedFiles = new AtomicInteger();
+        ContentIterator iterator = file -> {
+            if (!file.isDirectory() && file.getFileType() == JavaFileType.INSTANCE
+                    && fileIndex.isInSourceContent(file)) {
+                if (candidates != null && !candidates.contains(file)) {
+                    scannedFiles.incrementAndGet();
+                    return true;
+                }
+                batch.add(file);
+                if (batch.size() == BATCH_SIZE)
+                    scanBatch(project, batch, indicator, analyzer, batchConsumer, scannedFiles);
+            }
+            return true;
+        };
+        if (roots == null)
+            fileIndex.iterateContent(iterator);
+        else {
+            for (VirtualFile root : roots) {
+                if (root.isDirectory())
+                    fileIndex.iterateContentUnderDirectory(root, iterator);
+                else
+                    iterator.processFile(root);
+            }
+        }
+        scanBatch(project, batch, indicator, analyzer, batchConsumer, scannedFiles);
+        return scannedFiles.get();
+    }
+
+    /**
+     * Method to analyze a batch of files in parallel
+     *
+     * @param project:       the project of the files
+     * @param batch:         the batch of files to analyze, cleared when analyzed
+     * @param indicator:     the indicator of the progress of the scan
+     * @param analyzer:      the analyzer of each file
+     * @param batchConsumer: the consumer of the results of the batch
+     * @param scannedFiles:  the number of the files scanned
+     */
+    private static <T> void scanBatch(Project project, ArrayList<VirtualFile> batch, ProgressIndicator indicator,
+                                      Function<PsiJavaFile, T> analyzer, Consumer<ArrayList<T>> batchConsumer,
+                                      AtomicInteger scannedFiles) {
+        if (batch.isEmpty())
+            return;
+        PsiManager psiManager = PsiManager.getInstance(project);
+        DumbService dumbService = DumbService.getInstance(project);
+        ConcurrentLinkedQueue<T> results = new ConcurrentLinkedQueue<>();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(batch, indicator, file -> {
+            T result = dumbService.runReadActionInSmartMode(() -> {
+                if (file.isValid() && psiManager.findFile(file) instanceof PsiJavaFile javaFile)
+                    return analyzer.apply(javaFile);
+                return null;
+            });
+            if (result != null)
+                results.add(result);
+            if (indicator != null)
+                indicator.setText2(scannedFiles.incrementAndGet() + " files scanned");
+            else
+                scannedFiles.incrementAndGet();
+            return true;
+        });
+        batch.clear();
+        if (batchConsumer != null)
+            batchConsumer.accept(new ArrayList<>(results));
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.*;
+import com.tecknobit.javadocky.core.JavaDockyTemplate;
+import com.tecknobit.javadocky.core.MemberDescriptor;
+import com.tecknobit.javadocky.core.MethodType;
+import com.tecknobit.javadocky.core.MethodsClassifier;
+
+import static com.tecknobit.javadocky.core.JavaDockyTemplate.Slot.LINKED_RETURN_TYPE;
+import static com.tecknobit.javadocky.core.JavaDockyTemplate.Slot.RETURN_TYPE;
+
+/**
+ * The {@code MemberDescriptors} class is useful to adapt the {@code PSI} members to the {@link MemberDescriptor}s
+ * rendered by the {@code JavaDocky}'s core
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the members must be described in a read action, then their descriptors can be rendered without it
+ **/
+public class MemberDescriptors {
+
+    /**
+     * {@code METHOD_TYPE_KEY} the key where the type of a method is cached as the pair of the modification stamp of
+     * its file and the ordinal of its type
+     *
+     * @apiNote the cached value is a JDK type, so the methods do not retain any class of the plugin
+     */
+    private static final Key<long[]> METHOD_TYPE_KEY = Key.create("JavaDocky.MethodType");
+
+    /**
+     * {@code TYPES} the cached values of the {@link MethodType}
+     */
+    private static final MethodType[] TYPES = MethodType.values();
+
+    /**
+     * Constructor to init {@link MemberDescriptors}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private MemberDescriptors() {
+    }
+
+    /**
+     * Method to get the {@link MethodType} of a method
+     *
+     * @param method: the method to fetch its type
+     * @return method type as {@link MethodType}
+     * @apiNote the type is fetched by the {@link MethodsClassifier} and cached in the method, it is computed again
+     * only when its file has been modified
+     */
+    public static MethodType reachMethodType(PsiMethod method) {
+        PsiFile file = method.getContainingFile();
+        if (file == null)
+            return MethodsClassifier.classify(method.getName(), method.getParameterList().getParametersCount());
+        long stamp = file.getModificationStamp();
+        long[] cachedType = method.getUserData(METHOD_TYPE_KEY);
+        if (cachedType != null && cachedType[0] == stamp)
+            return TYPES[(int) cachedType[1]];
+        MethodType type = MethodsClassifier.classify(method.getName(),
+                method.getParameterList().getParametersCount());
+        method.putUserData(METHOD_TYPE_KEY, new long[]{stamp, type.ordinal()});
+        return type;
+    }
+
+    /**
+     * Method to describe a class
+     *
+     * @param psiClass: the class to describe
+     * @return the descriptor of the class as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor describeClass(PsiClass psiClass) {
+        return MemberDescriptor.ofClass(psiClass.getName());
+    }
+
+    /**
+     * Method to describe a field
+     *
+     * @param field: the field to describe
+     * @return the descriptor of the field as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor describeField(PsiField field) {
+        return MemberDescriptor.ofField(field.getName());
+    }
+
+    /**
+     * Method to describe a constructor
+     *
+     * @param constructor: the constructor to describe
+     * @return the descriptor of the constructor as {@link MemberDescriptor}
+     */
+    public static MemberDescriptor describeConstructor(PsiMethod constructor) {
+        PsiParameter[] parameters = constructor.getParameterList().getParameters();
+        return MemberDescriptor.ofConstructor(constructor.getName(), getParameterNames(parameters),
+                getParameterTypes(parameters));
+    }
+
+    /**
+     * Method to describe a method
+     *
+     * @param method:   the method to describe
+     * @param instance: the returned instance or, for the setters, the assigned field, {@code null} if not available
+     * @param template: the template which will render the method, {@code null} to describe the method without
+     *                  rendering its return type
+     * @return the descriptor of the method as {@link MemberDescriptor}
+     * @apiNote the return type is rendered by the {@link TypesRenderer} only in the forms used by the template
+     */
+    public static MemberDescriptor describeMethod(PsiMethod method, String instance, JavaDockyTemplate template) {
+        PsiTypeElement returnTypeElement = method.getReturnTypeElement();
+        PsiType returnType = method.getReturnType();
+        String renderedReturnType = null;
+        String linkedReturnType = null;
+        if (returnType != null && template != null) {
+            TypesRenderer typesRenderer = TypesRenderer.getInstance();
+            if (template.hasSlot(RETURN_TYPE))
+                renderedReturnType = typesRenderer.render(returnType, false);
+            if (template.hasSlot(LINKED_RETURN_TYPE))
+                linkedReturnType = typesRenderer.render(returnType, true);
+        }
+        PsiParameter[] parameters = method.getParameterList().getParameters();
+        return MemberDescriptor.ofMethod(method.getName(), instance,
+                returnTypeElement != null ? returnTypeElement.getText() : null, renderedReturnType, linkedReturnType,
+                returnType != null ? returnType.getCanonicalText() : null, getParameterNames(parameters),
+                getParameterTypes(parameters));
+    }
+
+    /**
+     * Method to get the names of the parameters
+     *
+     * @param parameters: the parameters from fetch the names
+     * @return the names of the parameters as array of {@link String}
+     */
+    private static String[] getParameterNames(PsiParameter[] parameters) {
+        String[] names = new String[parameters.length];
+        for (int j = 0; j < parameters.length; j++)
+            names[j] = parameters[j].getName();
+        return names;
+    }
+
+    /**
+     * Method to get the canonical texts of the types of the parameters
+     *
+     * @param parameters: the parameters from fetch the types
+     * @return the canonical texts of the types of the parameters as array of {@link String}
+     */
+    private static String[] getParameterTypes(PsiParameter[] parameters) {
+        String[] types = new String[parameters.length];
+        for (int j = 0; j < parameters.length; j++)
+            types[j] = parameters[j].getType().getCanonicalText();
+        return types;
+    }
+
+}
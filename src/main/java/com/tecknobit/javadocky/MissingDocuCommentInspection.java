@@ -0,0 +1,187 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.codeInspection.*;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.psi.*;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
+import org.jetbrains.annotations.NotNull;
+
+import static com.tecknobit.javadocky.DocumentationChecker.isDocumented;
+
+/**
+ * The {@code MissingDocuCommentInspection} class is useful to highlight, while editing, the members which are not
+ * documented yet but for which a {@code JavaDocky}'s docu-template exists, with a quick fix which documents the
+ * member with that template
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote whether a docu-template exists for a method is cached in the method until the {@code PSI} or the
+ * docu-templates change, the "fix all" variant is provided by the platform because all the fixes share the same
+ * family name
+ * @see AbstractBaseJavaLocalInspectionTool
+ **/
+public class MissingDocuCommentInspection extends AbstractBaseJavaLocalInspectionTool {
+
+    /**
+     * {@code FAMILY_NAME} the family name of the quick fix
+     */
+    private static final String FAMILY_NAME = "Add JavaDocky docu-comment";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        Project project = holder.getProject();
+        JavaDockyConfiguration configuration = JavaDockyProjectConfiguration.getInstance(project).getConfiguration();
+        return new JavaElementVisitor() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void visitClass(@NotNull PsiClass aClass) {
+                if (configuration.isClassTemplateEnabled() && isDocumentable(aClass) && !isDocumented(aClass))
+                    registerProblem(aClass.getNameIdentifier(), JavaDockyItem.Classes);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void visitField(@NotNull PsiField field) {
+                if (configuration.isFieldTemplateEnabled() && isDocumentable(field.getContainingClass())
+                        && !isDocumented(field))
+                    registerProblem(field.getNameIdentifier(), JavaDockyItem.Fields);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void visitMethod(@NotNull PsiMethod method) {
+                if (!isDocumentable(method.getContainingClass()) || isDocumented(method))
+                    return;
+                if (method.isConstructor()) {
+                    if (configuration.isConstructorTemplateEnabled())
+                        registerProblem(method.getNameIdentifier(), JavaDockyItem.Constructors);
+                } else if (configuration.isMethodTemplateEnabled() && hasMethodTemplate(method))
+                    registerProblem(method.getNameIdentifier(), JavaDockyItem.Methods);
+            }
+
+            /**
+             * Method to register a problem on a member not documented
+             *
+             * @param nameIdentifier: the name identifier of the member
+             * @param item:           the item which would document the member
+             */
+            private void registerProblem(PsiIdentifier nameIdentifier, JavaDockyItem item) {
+                if (nameIdentifier != null) {
+                    holder.registerProblem(nameIdentifier, "Missing JavaDocky docu-comment for " + item.name(),
+                            new AddDocuCommentFix());
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Method to check whether a docu-template exists for a method
+     *
+     * @param method: the method to check
+     * @return whether a docu-template exists for the method as boolean
+     * @apiNote the provider of the cached value captures only the method, so the value does not depend on the visitor
+     * which computed it, the docu-manager is created for the containing class of the method
+     */
+    private static boolean hasMethodTemplate(PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, () -> {
+            Project project = method.getProject();
+            JavaDockyDocuManager docuManager = new JavaDockyDocuManager(project, method.getContainingClass());
+            return Result.create(docuManager.hasMethodTemplate(method), PsiModificationTracker.MODIFICATION_COUNT,
+                    getTemplatesTracker(project));
+        });
+    }
+
+    /**
+     * Method to check whether a class, and so its members, would be documented by a {@code JavaDocky}'s run
+     *
+     * @param psiClass: the class to check
+     * @return whether the class would be documented as boolean
+     * @apiNote the type parameters, which are visited as classes, the anonymous and the local classes are never
+     * documented by a run
+     */
+    private static boolean isDocumentable(PsiClass psiClass) {
+        return psiClass != null && !(psiClass instanceof PsiTypeParameter) && !(psiClass instanceof PsiAnonymousClass)
+                && !PsiUtil.isLocalClass(psiClass);
+    }
+
+    /**
+     * Method to get the tracker of the docu-templates of a project
+     *
+     * @param project: the project of the docu-templates
+     * @return the tracker of the docu-templates of the project as {@link ModificationTracker}
+     * @apiNote the versions of the docu-templates always increase, so also a configuration created again by the
+     * {@link JavaDockyProjectConfiguration} is tracked
+     */
+    private static ModificationTracker getTemplatesTracker(Project project) {
+        return () -> JavaDockyProjectConfiguration.getInstance(project).getConfiguration().getTemplatesVersion();
+    }
+
+    /**
+     * The {@code AddDocuCommentFix} class is useful to document a member with its {@code JavaDocky}'s docu-template
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see LocalQuickFix
+     **/
+    private static class AddDocuCommentFix implements LocalQuickFix {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull String getFamilyName() {
+            return FAMILY_NAME;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            if (!(descriptor.getPsiElement().getParent() instanceof PsiJavaDocumentedElement member)
+                    || isDocumented(member))
+                return;
+            PsiClass psiClass = member instanceof PsiClass memberClass ? memberClass
+                    : ((PsiMember) member).getContainingClass();
+            if (!isDocumentable(psiClass))
+                return;
+            JavaDockyDocuManager docuManager = new JavaDockyDocuManager(project, psiClass);
+            PsiDocComment docu;
+            if (member instanceof PsiClass)
+                docu = docuManager.createClassDocu(psiClass);
+            else if (member instanceof PsiField field)
+                docu = docuManager.createFieldDocu(field);
+            else {
+                PsiMethod method = (PsiMethod) member;
+                if (method.isConstructor())
+                    docu = docuManager.createConstructorDocu(method);
+                else
+                    docu = docuManager.createMethodDocu(method);
+            }
+            if (docu == null)
+                return;
+            if (member instanceof PsiClass)
+                psiClass.addBefore(docu, psiClass.getFirstChild());
+            else
+                psiClass.addBefore(docu, member);
+            FieldsReplacer.getInstance(project).startListening();
+        }
+
+    }
+
+}
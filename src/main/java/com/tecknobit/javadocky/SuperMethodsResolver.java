@@ -0,0 +1,154 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.MethodSignature;
+import com.intellij.psi.util.MethodSignatureUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.TypeConversionUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code SuperMethodsResolver} class is useful to check whether a method overrides an already documented method
+ * of its super classes
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the methods of each super class and whether they are documented are cached on the super class itself until
+ * the PSI changes, so all the classes which share the same super classes, also in different runs and threads, do not
+ * repeat the same hierarchy searches
+ **/
+public class SuperMethodsResolver {
+
+    /**
+     * {@code NO_METHODS} the empty list of methods
+     */
+    private static final PsiMethod[] NO_METHODS = PsiMethod.EMPTY_ARRAY;
+
+    /**
+     * Constructor to init {@link SuperMethodsResolver}
+     *
+     * @apiNote this class is not instantiable
+     */
+    private SuperMethodsResolver() {
+    }
+
+    /**
+     * Method to check whether a method overrides an already documented method
+     *
+     * @param method: the method to check
+     * @return whether a method overrides an already documented method as boolean
+     */
+    public static boolean overridesDocumentedMethod(PsiMethod method) {
+        if (method.isConstructor() || method.hasModifierProperty(PsiModifier.STATIC)
+                || method.hasModifierProperty(PsiModifier.PRIVATE))
+            return false;
+        PsiClass containingClass = method.getContainingClass();
+        if (containingClass == null)
+            return false;
+        String methodName = method.getName();
+        int parameters = method.getParameterList().getParametersCount();
+        MethodSignature signature = null;
+        for (PsiClass superClass : containingClass.getSupers()) {
+            SuperClassMethods superMethods = getSuperMethods(superClass);
+            for (PsiMethod superMethod : superMethods.getMethods(methodName)) {
+                if (superMethod.getParameterList().getParametersCount() != parameters
+                        || !superMethods.isDocumented(superMethod))
+                    continue;
+                PsiClass superMethodClass = superMethod.getContainingClass();
+                if (superMethodClass == null)
+                    continue;
+                if (signature == null)
+                    signature = method.getSignature(PsiSubstitutor.EMPTY);
+                PsiSubstitutor substitutor = TypeConversionUtil.getSuperClassSubstitutor(superMethodClass,
+                        containingClass, PsiSubstitutor.EMPTY);
+                if (MethodSignatureUtil.isSubsignature(superMethod.getSignature(substitutor), signature))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method to get the methods of a super class
+     *
+     * @param superClass: the super class from fetch the methods
+     * @return the methods of the super class as {@link SuperClassMethods}
+     * @apiNote the methods are cached on the super class until the PSI changes
+     */
+    private static SuperClassMethods getSuperMethods(PsiClass superClass) {
+        return CachedValuesManager.getCachedValue(superClass, () -> {
+            HashMap<String, ArrayList<PsiMethod>> groupedMethods = new HashMap<>();
+            for (PsiMethod superMethod : superClass.getAllMethods()) {
+                if (superMethod.isConstructor() || superMethod.hasModifierProperty(PsiModifier.STATIC)
+                        || superMethod.hasModifierProperty(PsiModifier.PRIVATE))
+                    continue;
+                groupedMethods.computeIfAbsent(superMethod.getName(), name -> new ArrayList<>()).add(superMethod);
+            }
+            HashMap<String, PsiMethod[]> methods = new HashMap<>();
+            for (String name : groupedMethods.keySet())
+                methods.put(name, groupedMethods.get(name).toArray(NO_METHODS));
+            return Result.create(new SuperClassMethods(methods), PsiModificationTracker.MODIFICATION_COUNT);
+        });
+    }
+
+    /**
+     * The {@code SuperClassMethods} class is useful to keep the methods of a super class and whether they are
+     * documented
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the instance is shared by the threads which read the same super class, so whether a method is
+     * documented is stored in a concurrent map
+     **/
+    private static final class SuperClassMethods {
+
+        /**
+         * {@code methods} the methods of the super class, also the inherited ones, mapped by their name
+         */
+        private final Map<String, PsiMethod[]> methods;
+
+        /**
+         * {@code documentedMethods} whether each method already checked is documented
+         */
+        private final ConcurrentHashMap<PsiMethod, Boolean> documentedMethods = new ConcurrentHashMap<>();
+
+        /**
+         * Constructor to init {@link SuperClassMethods}
+         *
+         * @param methods: the methods of the super class mapped by their name
+         */
+        private SuperClassMethods(Map<String, PsiMethod[]> methods) {
+            this.methods = methods;
+        }
+
+        /**
+         * Method to get the methods with the specified name
+         *
+         * @param methodName: the name of the methods to fetch
+         * @return the methods as array of {@link PsiMethod}
+         */
+        private PsiMethod[] getMethods(String methodName) {
+            return methods.getOrDefault(methodName, NO_METHODS);
+        }
+
+        /**
+         * Method to check whether a method of the super class is documented
+         *
+         * @param superMethod: the method to check
+         * @return whether the method is documented as boolean
+         * @apiNote for the compiled classes will be checked their sources, if available
+         */
+        private boolean isDocumented(PsiMethod superMethod) {
+            return documentedMethods.computeIfAbsent(superMethod, method -> {
+                PsiElement navigationElement = method.getNavigationElement();
+                return navigationElement instanceof PsiDocCommentOwner owner && owner.getDocComment() != null;
+            });
+        }
+
+    }
+
+}
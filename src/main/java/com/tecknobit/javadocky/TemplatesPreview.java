@@ -0,0 +1,149 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.javadoc.PsiDocComment;
+import com.tecknobit.javadocky.core.DocuCommentsCache;
+
+/**
+ * The {@code TemplatesPreview} class is useful to render the docu-comments of a class with a configuration, without
+ * adding them to the class, so the result of a template can be previewed while it is edited
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the preview must be rendered in a read action and checks the cancellation for each member, so a
+ * preview made obsolete by a newer edit can be stopped
+ **/
+public class TemplatesPreview {
+
+    /**
+     * {@code PREVIEW_CACHE_SIZE} the max number of docu-comments to cache for each preview
+     */
+    private static final int PREVIEW_CACHE_SIZE = 64;
+
+    /**
+     * {@code text} the text of the preview
+     */
+    private final String text;
+
+    /**
+     * {@code docuComments} the number of the docu-comments rendered
+     */
+    private final int docuComments;
+
+    /**
+     * {@code elapsedTime} the time spent to render the preview in nanoseconds
+     */
+    private final long elapsedTime;
+
+    /**
+     * Constructor to init {@link TemplatesPreview}
+     *
+     * @param text:         the text of the preview
+     * @param docuComments: the number of the docu-comments rendered
+     * @param elapsedTime:  the time spent to render the preview in nanoseconds
+     */
+    private TemplatesPreview(String text, int docuComments, long elapsedTime) {
+        this.text = text;
+        this.docuComments = docuComments;
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * Method to render the preview of a class
+     *
+     * @param project:       the project of the class
+     * @param psiClass:      the class to preview
+     * @param configuration: the configuration from fetch the docu-templates
+     * @return the preview as {@link TemplatesPreview}
+     */
+    public static TemplatesPreview render(Project project, PsiClass psiClass, JavaDockyConfiguration configuration) {
+        long start = System.nanoTime();
+        JavaDockyDocuManager docuManager = new JavaDockyDocuManager(project, psiClass, configuration,
+                new DocuCommentsCache(PREVIEW_CACHE_SIZE));
+        StringBuilder preview = new StringBuilder();
+        int docuComments = 0;
+        if (configuration.isClassTemplateEnabled())
+            docuComments += appendDocuComment(preview, docuManager.createClassDocu(psiClass), "class "
+                    + psiClass.getName());
+        if (configuration.isFieldTemplateEnabled()) {
+            for (PsiField field : psiClass.getFields()) {
+                ProgressManager.checkCanceled();
+                docuComments += appendDocuComment(preview, docuManager.createFieldDocu(field), field.getName());
+            }
+        }
+        if (configuration.isConstructorTemplateEnabled()) {
+            for (PsiMethod constructor : psiClass.getConstructors()) {
+                ProgressManager.checkCanceled();
+                docuComments += appendDocuComment(preview, docuManager.createConstructorDocu(constructor),
+                        getHeader(constructor));
+            }
+        }
+        if (configuration.isMethodTemplateEnabled()) {
+            for (PsiMethod method : psiClass.getMethods()) {
+                ProgressManager.checkCanceled();
+                if (!method.isConstructor())
+                    docuComments += appendDocuComment(preview, docuManager.createMethodDocu(method), getHeader(method));
+            }
+        }
+        return new TemplatesPreview(preview.toString(), docuComments, System.nanoTime() - start);
+    }
+
+    /**
+     * Method to append a docu-comment to the preview
+     *
+     * @param preview:     the preview where append the docu-comment
+     * @param docuComment: the docu-comment to append
+     * @param header:      the header of the member documented
+     * @return the number of the docu-comments appended as int
+     */
+    private static int appendDocuComment(StringBuilder preview, PsiDocComment docuComment, String header) {
+        if (docuComment == null)
+            return 0;
+        preview.append(docuComment.getText()).append('\n').append(header).append("\n\n");
+        return 1;
+    }
+
+    /**
+     * Method to get the header of a method
+     *
+     * @param method: the method from get the header
+     * @return the header of the method as {@link String}
+     */
+    private static String getHeader(PsiMethod method) {
+        return method.getName() + method.getParameterList().getText();
+    }
+
+    /**
+     * Method to get {@link #text} instance <br>
+     * No-any params required
+     *
+     * @return {@link #text} instance as {@link String}
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Method to get {@link #docuComments} instance <br>
+     * No-any params required
+     *
+     * @return {@link #docuComments} instance as int
+     */
+    public int getDocuComments() {
+        return docuComments;
+    }
+
+    /**
+     * Method to get {@link #elapsedTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #elapsedTime} instance as long
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.psi.*;
+import com.tecknobit.javadocky.core.Tag;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code TypesRenderer} class is useful to render the value of the {@link Tag#returnType}'s tag walking the
+ * structure of the type, so also the nested parameterized classes, the wildcards and the arrays are rendered correctly:
+ * <pre>
+ *   {@code
+ *       // <returnType> in the docu-comment will be formatted as:
+ *       // - if contains the {@link } tag -> {@link ArrayList} of {@link String}
+ *       // - if not contains the {@link } tag -> java.util.ArrayList of java.lang.String
+ *       public ArrayList<String> getList() {
+ *           // your code here
+ *       }
+ *
+ *       // <returnType> in the docu-comment will be formatted as:
+ *       // - if contains the {@link } tag -> {@link HashMap} of {@link String} and {@link List} of {@link Foo}
+ *       // - if not contains the {@link } tag -> java.util.HashMap of java.lang.String and java.util.List of Foo
+ *       public HashMap<String, List<Foo>> getMap() {
+ *           // your code here
+ *       }
+ *   }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the rendered types are memoized by their canonical text, so the same type is rendered only once. The
+ * linked types which contain a type parameter or a class not resolved are not memoized, because the same canonical
+ * text, like {@code Node}, can be a class to link or a type parameter, so they are rendered each time
+ **/
+public class TypesRenderer {
+
+    /**
+     * {@code AND_KEYWORD} and keyword
+     */
+    private static final String AND_KEYWORD = " and ";
+
+    /**
+     * {@code OF_KEYWORD} of keyword
+     */
+    private static final String OF_KEYWORD = " of ";
+
+    /**
+     * {@code MAX_RENDERED_TYPES} the max number of rendered types to keep for each variant
+     */
+    private static final int MAX_RENDERED_TYPES = 4096;
+
+    /**
+     * {@code plainTypes} the types rendered without the {@code "{@link }"} tag mapped by their canonical text
+     */
+    private final ConcurrentHashMap<String, String> plainTypes = new ConcurrentHashMap<>();
+
+    /**
+     * {@code linkedTypes} the types rendered with the {@code "{@link }"} tag mapped by their canonical text
+     */
+    private final ConcurrentHashMap<String, String> linkedTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to init {@link TypesRenderer} <br>
+     * No-any params required
+     *
+     * @apiNote this constructor is used by the IDE to create the application service
+     */
+    public TypesRenderer() {
+    }
+
+    /**
+     * Method to get the instance of the renderer <br>
+     * No-any params required
+     *
+     * @return the instance of the renderer as {@link TypesRenderer}
+     */
+    public static TypesRenderer getInstance() {
+        return ApplicationManager.getApplication().getService(TypesRenderer.class);
+    }
+
+    /**
+     * Method to render a type
+     *
+     * @param type:   the type to render
+     * @param linked: whether the type is inside the {@code "{@link }"} tag
+     * @return the type rendered as {@link String}
+     */
+    public String render(PsiType type, boolean linked) {
+        ConcurrentHashMap<String, String> renderedTypes = linked ? linkedTypes : plainTypes;
+        String canonicalText = type.getCanonicalText();
+        String renderedType = renderedTypes.get(canonicalText);
+        if (renderedType == null) {
+            StringBuilder builder = new StringBuilder();
+            RenderingVisitor visitor = new RenderingVisitor(builder, linked);
+            type.accept(visitor);
+            renderedType = builder.toString();
+            if (visitor.memoizable) {
+                if (renderedTypes.size() >= MAX_RENDERED_TYPES)
+                    renderedTypes.clear();
+                renderedTypes.put(canonicalText, renderedType);
+            }
+        }
+        return renderedType;
+    }
+
+    /**
+     * The {@code RenderingVisitor} class is useful to walk the structure of a type and render it
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see PsiTypeVisitor
+     */
+    private static final class RenderingVisitor extends PsiTypeVisitor<Void> {
+
+        /**
+         * {@code builder} the builder where render the type
+         */
+        private final StringBuilder builder;
+
+        /**
+         * {@code linked} whether the type is inside the {@code "{@link }"} tag
+         */
+        private final boolean linked;
+
+        /**
+         * {@code memoizable} whether the type rendered depends only on its canonical text, so it can be memoized
+         */
+        private boolean memoizable = true;
+
+        /**
+         * Constructor to init {@link RenderingVisitor}
+         *
+         * @param builder: the builder where render the type
+         * @param linked:  whether the type is inside the {@code "{@link }"} tag
+         */
+        private RenderingVisitor(StringBuilder builder, boolean linked) {
+            this.builder = builder;
+            this.linked = linked;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Void visitType(PsiType type) {
+            builder.append(type.getCanonicalText());
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Void visitPrimitiveType(PsiPrimitiveType primitiveType) {
+            builder.append(primitiveType.getName());
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Void visitArrayType(PsiArrayType arrayType) {
+            arrayType.getComponentType().accept(this);
+            builder.append(arrayType instanceof PsiEllipsisType ? "..." : "[]");
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Void visitWildcardType(PsiWildcardType wildcardType) {
+            builder.append('?');
+            PsiType bound = wildcardType.getBound();
+            if (bound != null) {
+                builder.append(wildcardType.isExtends() ? " extends " : " super ");
+                bound.accept(this);
+            }
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Void visitClassType(PsiClassType classType) {
+            String rawType = classType.rawType().getCanonicalText();
+            if (linked) {
+                PsiClass resolvedClass = classType.resolve();
+                if (resolvedClass == null || resolvedClass instanceof PsiTypeParameter)
+                    memoizable = false;
+                if (resolvedClass instanceof PsiTypeParameter)
+                    builder.append(rawType);
+                else
+                    builder.append("{@link ").append(rawType).append("}");
+            } else
+                builder.append(rawType);
+            PsiType[] parameters = classType.getParameters();
+            for (int j = 0; j < parameters.length; j++) {
+                builder.append(j == 0 ? OF_KEYWORD : AND_KEYWORD);
+                parameters[j].accept(this);
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,257 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorIntegerDescriptor;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem;
+import com.tecknobit.javadocky.JavaDockyConfiguration.OverridesMode;
+import com.tecknobit.javadocky.core.MethodType;
+import com.tecknobit.javadocky.core.MethodsClassifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.tecknobit.javadocky.DocumentationChecker.isDocumented;
+import static com.tecknobit.javadocky.JavaDockyConfiguration.JavaDockyItem.*;
+
+/**
+ * The {@code UndocumentedMembersIndex} class is useful to index, for each Java file, the number of the members
+ * without a docu-comment, mapped by the name of the {@link JavaDockyItem} which documents them or, for the methods,
+ * by the name of their {@link MethodType}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the index is updated incrementally by the platform when a file changes, it records all the items and all
+ * the method types also if their templates are not enabled, so it does not have to be rebuilt when the configuration
+ * changes, the templates are applied when the index is queried
+ * @see FileBasedIndexExtension
+ **/
+public class UndocumentedMembersIndex extends FileBasedIndexExtension<String, Integer> {
+
+    /**
+     * {@code NAME} the identifier of the index
+     */
+    public static final ID<String, Integer> NAME = ID.create("javadocky.undocumented.members");
+
+    /**
+     * {@code VERSION} the version of the index, to increment when the indexed data changes
+     */
+    private static final int VERSION = 3;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ID<String, Integer> getName() {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull DataIndexer<String, Integer, FileContent> getIndexer() {
+        return inputData -> {
+            HashMap<String, Integer> undocumentedMembers = new HashMap<>();
+            if (inputData.getPsiFile() instanceof PsiJavaFile javaFile)
+                for (PsiClass psiClass : javaFile.getClasses())
+                    countUndocumentedMembers(psiClass, undocumentedMembers);
+            return undocumentedMembers;
+        };
+    }
+
+    /**
+     * Method to count the undocumented members of a class and of its inner classes
+     *
+     * @param psiClass:            the class where count the undocumented members
+     * @param undocumentedMembers: the map where count the undocumented members by the name of the item
+     */
+    private static void countUndocumentedMembers(PsiClass psiClass, HashMap<String, Integer> undocumentedMembers) {
+        if (!isDocumented(psiClass))
+            undocumentedMembers.merge(Classes.name(), 1, Integer::sum);
+        for (PsiField field : psiClass.getFields())
+            if (!isDocumented(field))
+                undocumentedMembers.merge(Fields.name(), 1, Integer::sum);
+        for (PsiMethod method : psiClass.getMethods()) {
+            if (!isDocumented(method)) {
+                if (method.isConstructor())
+                    undocumentedMembers.merge(Constructors.name(), 1, Integer::sum);
+                else {
+                    MethodType methodType = MethodsClassifier.classify(method.getName(),
+                            method.getParameterList().getParametersCount());
+                    undocumentedMembers.merge(methodType.name(), 1, Integer::sum);
+                }
+            }
+        }
+        for (PsiClass innerClass : psiClass.getInnerClasses())
+            countUndocumentedMembers(innerClass, undocumentedMembers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull DataExternalizer<Integer> getValueExternalizer() {
+        return EnumeratorIntegerDescriptor.INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Method to get the undocumented members of a file
+     *
+     * @param project: the project of the file
+     * @param file:    the file from get the undocumented members
+     * @return the number of the undocumented members mapped by the name of the item, or of the method type, as
+     * {@link Map} of {@link Integer}
+     * @apiNote must be invoked in a read action and not in the dumb mode
+     */
+    public static Map<String, Integer> getUndocumentedMembers(Project project, VirtualFile file) {
+        return FileBasedIndex.getInstance().getFileData(NAME, file, project);
+    }
+
+    /**
+     * Method to check whether a file has members which a docu-template would document
+     *
+     * @param project:       the project of the file
+     * @param file:          the file to check
+     * @param configuration: the configuration from fetch the enabled docu-templates
+     * @return whether the file has members to document as boolean, {@code true} when the index cannot be queried
+     * because the project is in the dumb mode or the file is not stored in the file system
+     * @apiNote must be invoked in a read action
+     */
+    public static boolean hasMembersToDocument(Project project, PsiFile file, JavaDockyConfiguration configuration) {
+        VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        if (virtualFile == null || DumbService.isDumb(project))
+            return true;
+        Map<String, Integer> undocumentedMembers = getUndocumentedMembers(project, virtualFile);
+        for (String key : getDocumentableKeys(configuration))
+            if (undocumentedMembers.containsKey(key))
+                return true;
+        return false;
+    }
+
+    /**
+     * Method to get the files of a project which have members which a docu-template would document
+     *
+     * @param project:       the project from get the files
+     * @param configuration: the configuration from fetch the enabled docu-templates
+     * @return the files with members to document as {@link Set} of {@link VirtualFile}
+     * @apiNote must be invoked in a read action and not in the dumb mode
+     */
+    public static Set<VirtualFile> getFilesToDocument(Project project, JavaDockyConfiguration configuration) {
+        HashSet<VirtualFile> files = new HashSet<>();
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        for (String key : getDocumentableKeys(configuration))
+            files.addAll(fileBasedIndex.getContainingFiles(NAME, key, scope));
+        return files;
+    }
+
+    /**
+     * Method to get the documentation debt of a project, so the number of the undocumented members for each enabled
+     * item which a docu-template would document
+     *
+     * @param project:       the project from get the documentation debt
+     * @param configuration: the configuration from fetch the enabled docu-templates
+     * @return the number of the undocumented members mapped by the item as {@link EnumMap} of {@link Integer}
+     * @apiNote must be invoked in a read action and not in the dumb mode
+     */
+    public static EnumMap<JavaDockyItem, Integer> getDocumentationDebt(Project project,
+                                                                       JavaDockyConfiguration configuration) {
+        EnumMap<JavaDockyItem, Integer> debt = new EnumMap<>(JavaDockyItem.class);
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        for (String key : getDocumentableKeys(configuration)) {
+            JavaDockyItem item = isItemKey(key) ? JavaDockyItem.valueOf(key) : Methods;
+            int[] members = {0};
+            fileBasedIndex.processValues(NAME, key, null, (file, value) -> {
+                members[0] += value;
+                return true;
+            }, scope);
+            debt.merge(item, members[0], Integer::sum);
+        }
+        return debt;
+    }
+
+    /**
+     * Method to get the keys of the index whose members a docu-template of a configuration would document
+     *
+     * @param configuration: the configuration from fetch the enabled docu-templates
+     * @return the keys of the index as {@link List} of {@link String}
+     * @apiNote a method type is documentable when its template is set, the {@link MethodType#CUSTOM} one when at
+     * least a custom template is set, because its directives are checked only when a run documents the method. With
+     * the {@link OverridesMode#INHERIT_DOC} mode all the method types are documentable, because the methods which
+     * override a documented method can be of any type
+     */
+    private static List<String> getDocumentableKeys(JavaDockyConfiguration configuration) {
+        ArrayList<String> keys = new ArrayList<>();
+        if (configuration.isClassTemplateEnabled())
+            keys.add(Classes.name());
+        if (configuration.isFieldTemplateEnabled())
+            keys.add(Fields.name());
+        if (configuration.isConstructorTemplateEnabled())
+            keys.add(Constructors.name());
+        if (configuration.isMethodTemplateEnabled()) {
+            boolean inheritDocs = configuration.getOverridesMode() == OverridesMode.INHERIT_DOC;
+            for (MethodType methodType : MethodType.values()) {
+                boolean documentable;
+                if (methodType == MethodType.CUSTOM)
+                    documentable = !configuration.getSnapshot().getCustomMethodTemplates().isEmpty();
+                else
+                    documentable = configuration.getMethodTemplate(methodType, null) != null;
+                if (inheritDocs || documentable)
+                    keys.add(methodType.name());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Method to check whether a key of the index is the name of a {@link JavaDockyItem}
+     *
+     * @param key: the key to check
+     * @return whether the key is the name of a {@link JavaDockyItem} as boolean
+     */
+    private static boolean isItemKey(String key) {
+        return key.equals(Classes.name()) || key.equals(Fields.name()) || key.equals(Constructors.name());
+    }
+
+}
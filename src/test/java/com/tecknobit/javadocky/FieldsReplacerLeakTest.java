@@ -0,0 +1,78 @@
+package com.tecknobit.javadocky;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.testFramework.HeavyPlatformTestCase;
+import com.intellij.testFramework.LeakHunter;
+import com.intellij.testFramework.PlatformTestUtil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code FieldsReplacerLeakTest} class is useful to check that the {@link FieldsReplacer} service of a project,
+ * once the project is closed, does not leave any reference to itself or to the classes it worked on
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the project checked is opened and closed by the test, so its services are really disposed like when the
+ * IDE closes a project or unloads the plugin
+ * @see HeavyPlatformTestCase
+ **/
+public class FieldsReplacerLeakTest extends HeavyPlatformTestCase {
+
+    /**
+     * {@code CLASS_TEXT} the text of the class edited while the replacer is listening
+     */
+    private static final String CLASS_TEXT = """
+            public class LeakingClass {
+
+                private int value;
+
+            }
+            """;
+
+    /**
+     * Method to check that the replacer service of a closed project is not retained, together with the class it
+     * worked on, by its document listener <br>
+     * No-any params required
+     *
+     * @throws Exception when the project or the file of the class cannot be created
+     */
+    public void testClosingProjectReleasesReplacerAndClass() throws Exception {
+        Path projectDir = createTempDirectory().toPath();
+        Path classFile = Files.writeString(projectDir.resolve("LeakingClass.java"), CLASS_TEXT);
+        Disposable projectDisposable = Disposer.newDisposable();
+        Project project = PlatformTestUtil.loadAndOpenProject(projectDir, projectDisposable);
+        FieldsReplacer replacer = FieldsReplacer.getInstance(project);
+        PsiClass psiClass;
+        try {
+            replacer.startListening();
+            VirtualFile file = LocalFileSystem.getInstance().refreshAndFindFileByNioFile(classFile);
+            assertNotNull(file);
+            psiClass = ((PsiJavaFile) PsiManager.getInstance(project).findFile(file)).getClasses()[0];
+            Document document = FileDocumentManager.getInstance().getDocument(file);
+            assertNotNull(document);
+            WriteCommandAction.runWriteCommandAction(project, () ->
+                    document.insertString(document.getText().indexOf(';') + 1, " "));
+            PsiDocumentManager.getInstance(project).commitAllDocuments();
+            PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue();
+            FileDocumentManager.getInstance().saveAllDocuments();
+        } finally {
+            Disposer.dispose(projectDisposable);
+        }
+        assertTrue(project.isDisposed());
+        LeakHunter.checkLeak(LeakHunter.allRoots(), FieldsReplacer.class, leaked -> leaked == replacer);
+        LeakHunter.checkLeak(LeakHunter.allRoots(), PsiClass.class, leaked -> leaked == psiClass);
+    }
+
+}